@@ -0,0 +1,57 @@
+package pacman.board;
+
+import org.openjdk.jmh.annotations.*;
+import pacman.game.BenchMaps;
+import pacman.util.Position;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the PacmanBoard operations run every tick or level: isEmpty,
+ * reset and the copy constructor, on each shipped map.
+ *
+ * isEmpty is measured on a board with every dot eaten, where it has to
+ * scan every cell, as that is the case at the end of a level.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PacmanBoardBench {
+
+    @Param({"default.map", "csse2010.map", "noscores.map", "runaway.map",
+            "test.map"})
+    public String map;
+
+    private PacmanBoard board;
+    private PacmanBoard eaten;
+
+    @Setup
+    public void setUp() {
+        board = BenchMaps.game(map).getBoard();
+        eaten = new PacmanBoard(board);
+        for (int x = 0; x < eaten.getWidth(); x++) {
+            for (int y = 0; y < eaten.getHeight(); y++) {
+                eaten.eatDot(new Position(x, y));
+            }
+        }
+    }
+
+    @Benchmark
+    public boolean isEmpty() {
+        return eaten.isEmpty();
+    }
+
+    @Benchmark
+    public PacmanBoard reset() {
+        board.reset();
+        return board;
+    }
+
+    @Benchmark
+    public PacmanBoard copy() {
+        return new PacmanBoard(board);
+    }
+}
@@ -0,0 +1,59 @@
+package pacman.game;
+
+import pacman.util.UnpackableException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Loads the maps shipped with the game for use by the benchmarks. The
+ * bench build copies the maps into the benchmark jar under "maps/".
+ */
+public class BenchMaps {
+
+    /**
+     * Every map shipped in the repository root.
+     */
+    public static final String[] ALL = {
+        "default.map", "csse2010.map", "noscores.map", "runaway.map",
+        "test.map"
+    };
+
+    /**
+     * Reads the text of a shipped map.
+     *
+     * @param name file name of the map, e.g. "default.map".
+     * @return the contents of the map.
+     */
+    public static String text(String name) {
+        try (InputStream in = BenchMaps.class.getResourceAsStream(
+                "/maps/" + name)) {
+            if (in == null) {
+                throw new IllegalArgumentException("no map " + name);
+            }
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Reads a shipped map into a new game.
+     *
+     * @param name file name of the map, e.g. "default.map".
+     * @return the game described by the map.
+     */
+    public static PacmanGame game(String name) {
+        try {
+            return GameReader.read(new StringReader(text(name)));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (UnpackableException e) {
+            throw new IllegalArgumentException(name + ": " + e.getMessage(),
+                    e);
+        }
+    }
+}
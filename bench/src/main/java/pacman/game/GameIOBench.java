@@ -0,0 +1,48 @@
+package pacman.game;
+
+import org.openjdk.jmh.annotations.*;
+import pacman.util.UnpackableException;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.Writer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures GameReader.read and GameWriter.write on each shipped map.
+ * Maps are read from memory and written to a discarding writer so only
+ * parsing and formatting are measured.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class GameIOBench {
+
+    @Param({"default.map", "csse2010.map", "noscores.map", "runaway.map",
+            "test.map"})
+    public String map;
+
+    private String text;
+    private PacmanGame game;
+    private Writer sink;
+
+    @Setup
+    public void setUp() {
+        text = BenchMaps.text(map);
+        game = BenchMaps.game(map);
+        sink = Writer.nullWriter();
+    }
+
+    @Benchmark
+    public PacmanGame read() throws IOException, UnpackableException {
+        return GameReader.read(new StringReader(text));
+    }
+
+    @Benchmark
+    public void write() throws IOException {
+        GameWriter.write(sink, game);
+    }
+}
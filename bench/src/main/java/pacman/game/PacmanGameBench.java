@@ -0,0 +1,38 @@
+package pacman.game;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures PacmanGame.tick on each shipped map.
+ *
+ * The game is given effectively unlimited lives so that it keeps moving
+ * for the whole iteration rather than ending and making ticks free.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PacmanGameBench {
+
+    @Param({"default.map", "csse2010.map", "noscores.map", "runaway.map",
+            "test.map"})
+    public String map;
+
+    private PacmanGame game;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        game = BenchMaps.game(map);
+        game.setLives(Integer.MAX_VALUE);
+    }
+
+    @Benchmark
+    public PacmanGame tick() {
+        game.tick();
+        return game;
+    }
+}
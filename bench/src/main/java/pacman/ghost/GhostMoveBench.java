@@ -0,0 +1,42 @@
+package pacman.ghost;
+
+import org.openjdk.jmh.annotations.*;
+import pacman.game.BenchMaps;
+import pacman.game.PacmanGame;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures Ghost.move for each type of ghost on the default map. Only the
+ * measured ghost moves, the hunter and the other ghosts stay put.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class GhostMoveBench {
+
+    @Param({"BLINKY", "PINKY", "INKY", "CLYDE"})
+    public GhostType type;
+
+    private PacmanGame game;
+    private Ghost ghost;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        game = BenchMaps.game("default.map");
+        for (var candidate : game.getGhosts()) {
+            if (candidate.getType() == type) {
+                ghost = candidate;
+            }
+        }
+    }
+
+    @Benchmark
+    public Ghost move() {
+        ghost.move(game);
+        return ghost;
+    }
+}
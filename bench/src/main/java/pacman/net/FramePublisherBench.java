@@ -0,0 +1,65 @@
+package pacman.net;
+
+import org.openjdk.jmh.annotations.*;
+import pacman.game.BenchMaps;
+import pacman.game.PacmanGame;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures publishing each tick of default.map to a number of spectator
+ * subscriptions, each of which is drained after every tick.
+ *
+ * The score is ticks per second. The deliveries counter is the number of
+ * frames handed to subscribers per second, i.e. subscribers times ticks
+ * per second, which is the fan-out one node can sustain.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FramePublisherBench {
+
+    @Param({"1", "100", "1000", "10000"})
+    public int subscribers;
+
+    private PacmanGame game;
+    private Subscription[] subscriptions;
+
+    /**
+     * Frames polled by subscribers, reported per second.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Deliveries {
+        public long deliveries;
+
+        @Setup(Level.Iteration)
+        public void clear() {
+            deliveries = 0;
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        game = BenchMaps.game("default.map");
+        game.setLives(Integer.MAX_VALUE);
+        var publisher = new FramePublisher(game, 100);
+        subscriptions = new Subscription[subscribers];
+        for (int i = 0; i < subscribers; i++) {
+            subscriptions[i] = publisher.subscribe(16);
+        }
+    }
+
+    @Benchmark
+    public void tickAndDrain(Deliveries counter) {
+        game.tick();
+        for (var subscription : subscriptions) {
+            while (subscription.poll() != null) {
+                counter.deliveries++;
+            }
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package pacman.net;
+
+import org.openjdk.jmh.annotations.*;
+import pacman.game.BenchMaps;
+import pacman.game.Command;
+import pacman.game.PacmanGame;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures playing a frame with {@link Rollback} when a command arrives
+ * late, on csse2010.map, one of the largest shipped maps at 23x24.
+ *
+ * rollback gives the player a command for the frame 8 frames back each
+ * time, so every call restores a snapshot, replays 8 ticks and plays the
+ * next frame. The command alternates so that it always differs from the
+ * one given before. onTime plays a frame with no late commands, the cost
+ * of taking a snapshot and ticking.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RollbackBench {
+
+    // frames late each command arrives
+    private static final int LATE = 8;
+
+    @Param({"csse2010.map"})
+    public String map;
+
+    private Rollback rollback;
+    private boolean left;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        PacmanGame game = BenchMaps.game(map);
+        game.setLives(Integer.MAX_VALUE);
+        rollback = new Rollback(game, 2 * LATE);
+        for (int i = 0; i < LATE; i++) {
+            rollback.advance();
+        }
+    }
+
+    @Benchmark
+    public Rollback rollback() {
+        left = !left;
+        rollback.input(rollback.getFrame() - LATE, 0,
+                left ? Command.LEFT : Command.RIGHT);
+        rollback.advance();
+        return rollback;
+    }
+
+    @Benchmark
+    public Rollback onTime() {
+        rollback.advance();
+        return rollback;
+    }
+}
@@ -0,0 +1,100 @@
+package pacman.score;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Measures ConcurrentScoreBoard write throughput with 1 to 64 writer
+ * threads all reporting into the same leaderboard, first alone and then
+ * while one reader takes top 10 snapshots, so the cost of reads to the
+ * writers shows as the difference between the two lines.
+ *
+ * Arguments: [NAMES] [SECONDS PER RUN]
+ */
+public class ConcurrentScoreBoardBench {
+
+    // writer thread counts to measure
+    private static final int[] THREADS = {1, 2, 4, 8, 16, 32, 64};
+
+    /**
+     * Runs the benchmark printing one line per writer thread count.
+     * @param args from the command line.
+     * @throws InterruptedException if interrupted while waiting on runs.
+     */
+    public static void main(String... args) throws InterruptedException {
+        int names = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+        long seconds = args.length > 1 ? Long.parseLong(args[1]) : 2;
+
+        var keys = new String[names];
+        for (int i = 0; i < names; i++) {
+            keys[i] = "player" + i;
+        }
+
+        System.out.println("threads,readers,writes/s,snapshots/s");
+        for (var threads : THREADS) {
+            run(keys, threads, false, seconds * 1_000_000_000L);
+            run(keys, threads, true, seconds * 1_000_000_000L);
+        }
+    }
+
+    /*
+     * Runs the given number of writers against a fresh board, with or
+     * without a reader.
+     */
+    private static void run(String[] keys, int threads, boolean reader,
+            long nanos) throws InterruptedException {
+        var board = new ConcurrentScoreBoard();
+        var writes = new LongAdder();
+        var snapshots = new LongAdder();
+        var start = new CountDownLatch(1);
+        var workers = new Thread[reader ? threads + 1 : threads];
+        long deadline = System.nanoTime() + nanos;
+
+        for (int t = 0; t < threads; t++) {
+            int seed = t;
+            workers[t] = new Thread(() -> {
+                await(start);
+                int i = seed;
+                long count = 0;
+                while ((count & 0xFF) != 0 || System.nanoTime() < deadline) {
+                    board.setScore(keys[i % keys.length], i & 0xFFFF);
+                    i += 7;
+                    count++;
+                }
+                writes.add(count);
+            });
+        }
+        if (reader) {
+            workers[threads] = new Thread(() -> {
+                await(start);
+                while (System.nanoTime() < deadline) {
+                    board.getTopScores(10);
+                    snapshots.increment();
+                }
+            });
+        }
+
+        for (var worker : workers) {
+            worker.start();
+        }
+        start.countDown();
+        for (var worker : workers) {
+            worker.join();
+        }
+
+        double seconds = nanos / 1e9;
+        System.out.printf("%d,%d,%.0f,%.1f%n", threads, reader ? 1 : 0,
+                writes.sum() / seconds, snapshots.sum() / seconds);
+    }
+
+    /*
+     * Waits for the start signal, ignoring interrupts.
+     */
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
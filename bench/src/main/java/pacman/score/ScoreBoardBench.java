@@ -0,0 +1,37 @@
+package pacman.score;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures ScoreBoard.getEntriesByScore on boards of 10, 10 thousand and
+ * 1 million entries.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ScoreBoardBench {
+
+    @Param({"10", "10000", "1000000"})
+    public int entries;
+
+    private ScoreBoard board;
+
+    @Setup
+    public void setUp() {
+        board = new ScoreBoard();
+        for (int i = 0; i < entries; i++) {
+            board.setScore("player" + i, i * 31 & 0xFFFFF);
+        }
+    }
+
+    @Benchmark
+    public List<String> getEntriesByScore() {
+        return board.getEntriesByScore();
+    }
+}
@@ -0,0 +1,42 @@
+package pacman.score;
+
+import java.io.CharArrayReader;
+import java.io.IOException;
+
+/**
+ * Measures ScoreBoard.importScores throughput on generated score rows.
+ *
+ * Arguments: [ROWS] [RUNS]
+ */
+public class ScoreImportBench {
+
+    /**
+     * Imports the generated rows into a fresh board once per run and prints
+     * the throughput of each run in rows per second.
+     * @param args from the command line.
+     * @throws IOException never, rows are read from memory.
+     */
+    public static void main(String... args) throws IOException {
+        int rows = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        int runs = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+
+        var builder = new StringBuilder(rows * 20);
+        for (int i = 0; i < rows; i++) {
+            builder.append("player").append(i).append(" : ")
+                    .append(i * 31 & 0xFFFFF).append(System.lineSeparator());
+        }
+        var data = new char[builder.length()];
+        builder.getChars(0, builder.length(), data, 0);
+
+        System.out.println("run,rows,rows/s");
+        for (int run = 0; run < runs; run++) {
+            var board = new ScoreBoard();
+            long start = System.nanoTime();
+            int imported = board.importScores(new CharArrayReader(data));
+            long elapsed = System.nanoTime() - start;
+
+            System.out.printf("%d,%d,%.0f%n", run, imported,
+                    imported / (elapsed / 1e9));
+        }
+    }
+}
@@ -0,0 +1,401 @@
+package pacman.board;
+
+import pacman.util.Position;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * BoardAnalysis finds what the hunter can reach on a board, from the
+ * pacman spawn where every hunter respawns, so that maps which can never
+ * be cleared are found when they are loaded rather than by a game that
+ * never ends.
+ *
+ * A dot the hunter cannot reach keeps {@link PacmanBoard#isEmpty()} false
+ * forever. Unreachable empty cells and big dot spawns count as well, as
+ * {@link PacmanBoard#reset()} puts dots back in them at the next level.
+ * The analysis also notes whether the ghost spawn can reach the hunter and
+ * how many reachable cells are dead ends, with one pathable neighbour or
+ * none.
+ *
+ * Analysing visits each cell a constant number of times. The results can
+ * be written and read back, e.g. to cache them alongside a map.
+ */
+public class BoardAnalysis {
+
+    // items that are or become dots, so must be reachable
+    private static final BoardItem[] DOT_ITEMS = {
+        BoardItem.DOT, BoardItem.BIG_DOT, BoardItem.NONE,
+        BoardItem.BIG_DOT_SPAWN
+    };
+    // first and last lines of the written form
+    private static final String HEADER = "[Analysis]";
+    private static final String FOOTER = "[End]";
+    // initial size of the flood fill queue, which grows as needed
+    private static final int QUEUE_SIZE = 1024;
+
+    private final int width;
+    private final int height;
+    private final boolean pacmanSpawn;
+    private final boolean ghostSpawnReachable;
+    private final long pathable;
+    private final long reachable;
+    private final long deadEnds;
+    // cells (y * width + x) that are or become dots and cannot be reached
+    private final int[] unreachableDots;
+
+    private BoardAnalysis(int width, int height, boolean pacmanSpawn,
+            boolean ghostSpawnReachable, long pathable, long reachable,
+            long deadEnds, int[] unreachableDots) {
+        this.width = width;
+        this.height = height;
+        this.pacmanSpawn = pacmanSpawn;
+        this.ghostSpawnReachable = ghostSpawnReachable;
+        this.pathable = pathable;
+        this.reachable = reachable;
+        this.deadEnds = deadEnds;
+        this.unreachableDots = unreachableDots;
+    }
+
+    /**
+     * Analyses a board by flood filling it from its pacman spawn. A board
+     * without a pacman spawn has nothing reachable.
+     *
+     * @param board to analyse.
+     * @return the analysis.
+     */
+    public static BoardAnalysis analyse(PacmanBoard board) {
+        int width = board.getWidth();
+        int height = board.getHeight();
+        var reached = new BitSet(width * height);
+        var spawn = board.getPacmanSpawn();
+        var ghostSpawn = board.getGhostSpawn();
+
+        long reachable = 0;
+        long deadEnds = 0;
+        if (spawn != null) {
+            int[] queue = new int[QUEUE_SIZE];
+            int head = 0;
+            int size = 1;
+            queue[0] = spawn.getY() * width + spawn.getX();
+            reached.set(queue[0]);
+
+            while (size > 0) {
+                int cell = queue[head];
+                head = (head + 1) & (queue.length - 1);
+                size--;
+                reachable++;
+
+                int x = cell % width;
+                int y = cell / width;
+                int neighbours = 0;
+                for (int i = 0; i < 4; i++) {
+                    int nx = x + (i == 0 ? 1 : i == 1 ? -1 : 0);
+                    int ny = y + (i == 2 ? 1 : i == 3 ? -1 : 0);
+                    if (nx < 0 || ny < 0 || nx >= width || ny >= height
+                            || !board.getEntry(nx, ny).getPathable()) {
+                        continue;
+                    }
+                    neighbours++;
+                    int next = ny * width + nx;
+                    if (!reached.get(next)) {
+                        reached.set(next);
+                        if (size == queue.length) {
+                            queue = grow(queue, head);
+                            head = 0;
+                        }
+                        queue[(head + size) & (queue.length - 1)] = next;
+                        size++;
+                    }
+                }
+                if (neighbours <= 1) {
+                    deadEnds++;
+                }
+            }
+        }
+
+        long pathable = 0;
+        int[] unreachable = new int[0];
+        int count = 0;
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                var item = board.getEntry(x, y);
+                if (!item.getPathable()) {
+                    continue;
+                }
+                pathable++;
+                int cell = y * width + x;
+                if (!reached.get(cell) && isDot(item)) {
+                    if (count == unreachable.length) {
+                        unreachable = Arrays.copyOf(unreachable,
+                                Integer.max(16, 2 * count));
+                    }
+                    unreachable[count++] = cell;
+                }
+            }
+        }
+
+        boolean ghostReachable = ghostSpawn != null && reached.get(
+                ghostSpawn.getY() * width + ghostSpawn.getX());
+        return new BoardAnalysis(width, height, spawn != null,
+                ghostReachable, pathable, reachable, deadEnds,
+                Arrays.copyOf(unreachable, count));
+    }
+
+    /*
+     * Returns a queue twice the size holding the same cells from index 0.
+     */
+    private static int[] grow(int[] queue, int head) {
+        int[] grown = new int[queue.length * 2];
+        int tail = queue.length - head;
+        System.arraycopy(queue, head, grown, 0, tail);
+        System.arraycopy(queue, 0, grown, tail, head);
+        return grown;
+    }
+
+    /*
+     * Returns true if the item is or becomes a dot.
+     */
+    private static boolean isDot(BoardItem item) {
+        for (var dot : DOT_ITEMS) {
+            if (item == dot) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Walls in every unreachable cell that is or becomes a dot, so that
+     * the board can be cleared. Only cells the hunter can never reach are
+     * changed.
+     *
+     * @param board the analysed board.
+     * @return the number of cells walled in.
+     * @throws IllegalArgumentException if the board is not the size that
+     * was analysed.
+     */
+    public int prune(PacmanBoard board) throws IllegalArgumentException {
+        if (board.getWidth() != width || board.getHeight() != height) {
+            throw new IllegalArgumentException("board is not the size "
+                    + "analysed");
+        }
+        int pruned = 0;
+        for (int cell : unreachableDots) {
+            var position = new Position(cell % width, cell / width);
+            if (isDot(board.getEntry(position))) {
+                board.setEntry(position, BoardItem.WALL);
+                pruned++;
+            }
+        }
+        return pruned;
+    }
+
+    /**
+     * @return the width of the analysed board.
+     */
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * @return the height of the analysed board.
+     */
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * @return true if the board has a pacman spawn.
+     */
+    public boolean hasPacmanSpawn() {
+        return pacmanSpawn;
+    }
+
+    /**
+     * @return true if the board has a ghost spawn that is connected to
+     * the pacman spawn, so that ghosts can reach the hunter.
+     */
+    public boolean isGhostSpawnReachable() {
+        return ghostSpawnReachable;
+    }
+
+    /**
+     * @return the number of pathable cells on the board.
+     */
+    public long getPathable() {
+        return pathable;
+    }
+
+    /**
+     * @return the number of cells reachable from the pacman spawn.
+     */
+    public long getReachable() {
+        return reachable;
+    }
+
+    /**
+     * @return the number of unreachable cells that are or become dots.
+     */
+    public int getUnreachableDots() {
+        return unreachableDots.length;
+    }
+
+    /**
+     * @return the positions of the unreachable cells that are or become
+     * dots, in reading order.
+     */
+    public Position[] getUnreachableDotPositions() {
+        var positions = new Position[unreachableDots.length];
+        for (int i = 0; i < positions.length; i++) {
+            positions[i] = new Position(unreachableDots[i] % width,
+                    unreachableDots[i] / width);
+        }
+        return positions;
+    }
+
+    /**
+     * @return the number of reachable cells with at most one pathable
+     * neighbour.
+     */
+    public long getDeadEnds() {
+        return deadEnds;
+    }
+
+    /**
+     * @return the share of reachable cells that are dead ends, from 0 to 1.
+     */
+    public double getDeadEndDensity() {
+        return reachable == 0 ? 0 : deadEnds / (double) reachable;
+    }
+
+    /**
+     * @return true if every dot can be eaten, so the board can be cleared,
+     * and the ghosts can reach the hunter.
+     */
+    public boolean isPlayable() {
+        return pacmanSpawn && ghostSpawnReachable
+                && unreachableDots.length == 0;
+    }
+
+    /**
+     * Writes the analysis in a form read by {@link #read(Reader, String)}.
+     *
+     * @param writer to write to.
+     * @param key identifies what was analysed, e.g. the size and time of
+     *            the map file, on one line.
+     * @throws IOException when unable to write.
+     */
+    public void write(Writer writer, String key) throws IOException {
+        String newline = System.lineSeparator();
+        writer.write(HEADER + newline);
+        writer.write("key = " + key + newline);
+        writer.write("size = " + width + "," + height + newline);
+        writer.write("pacmanSpawn = " + pacmanSpawn + newline);
+        writer.write("ghostSpawnReachable = " + ghostSpawnReachable
+                + newline);
+        writer.write("pathable = " + pathable + newline);
+        writer.write("reachable = " + reachable + newline);
+        writer.write("deadEnds = " + deadEnds + newline);
+        writer.write("unreachableCount = " + unreachableDots.length
+                + newline);
+        writer.write("unreachableDots =");
+        for (int cell : unreachableDots) {
+            writer.write(' ');
+            writer.write(Integer.toString(cell));
+        }
+        writer.write(newline);
+        writer.write(FOOTER + newline);
+    }
+
+    /**
+     * Reads an analysis written by {@link #write(Writer, String)}.
+     *
+     * @param reader to read from.
+     * @param key that the analysis must have been written with.
+     * @return the analysis, or null if it was written with another key or
+     * is not a valid analysis, e.g. it was cut short or names cells that
+     * are not on a board of its size.
+     * @throws IOException when unable to read.
+     */
+    public static BoardAnalysis read(Reader reader, String key)
+            throws IOException {
+        var lines = new BufferedReader(reader);
+        if (!HEADER.equals(lines.readLine())) {
+            return null;
+        }
+        try {
+            if (!key.equals(value(lines.readLine(), "key"))) {
+                return null;
+            }
+            var size = value(lines.readLine(), "size").split(",");
+            int width = Integer.parseInt(size[0]);
+            int height = Integer.parseInt(size[1]);
+            boolean pacmanSpawn = Boolean.parseBoolean(
+                    value(lines.readLine(), "pacmanSpawn"));
+            boolean ghostSpawnReachable = Boolean.parseBoolean(
+                    value(lines.readLine(), "ghostSpawnReachable"));
+            long pathable = Long.parseLong(
+                    value(lines.readLine(), "pathable"));
+            long reachable = Long.parseLong(
+                    value(lines.readLine(), "reachable"));
+            long deadEnds = Long.parseLong(
+                    value(lines.readLine(), "deadEnds"));
+            int count = Integer.parseInt(
+                    value(lines.readLine(), "unreachableCount"));
+            String cells = value(lines.readLine(), "unreachableDots");
+            int[] unreachable = cells.isEmpty() ? new int[0]
+                    : Arrays.stream(cells.split(" "))
+                    .mapToInt(Integer::parseInt).toArray();
+            // a list cut short, or cells off the board, are not trusted
+            if (!FOOTER.equals(lines.readLine())
+                    || unreachable.length != count || width <= 0
+                    || height <= 0) {
+                return null;
+            }
+            long cellCount = (long) width * height;
+            for (int cell : unreachable) {
+                if (cell < 0 || cell >= cellCount) {
+                    return null;
+                }
+            }
+            return new BoardAnalysis(width, height, pacmanSpawn,
+                    ghostSpawnReachable, pathable, reachable, deadEnds,
+                    unreachable);
+        } catch (IllegalArgumentException
+                | ArrayIndexOutOfBoundsException e) {
+            return null;
+        }
+    }
+
+    /*
+     * Returns the value of a "name = value" line, or throws
+     * IllegalArgumentException if the line is not an assignment to name.
+     */
+    private static String value(String line, String name) {
+        if (line == null || !line.startsWith(name + " =")) {
+            throw new IllegalArgumentException("expected " + name);
+        }
+        return line.substring(name.length() + 2).trim();
+    }
+
+    /**
+     * Describes the analysis in a line, e.g. to report a map.
+     *
+     * @return the description.
+     */
+    @Override
+    public String toString() {
+        return String.format("%d of %d pathable cells reachable, "
+                + "%d unreachable dots, ghost spawn %s, "
+                + "%.1f%% dead ends%s", reachable, pathable,
+                unreachableDots.length,
+                ghostSpawnReachable ? "connected" : "disconnected",
+                100 * getDeadEndDensity(),
+                pacmanSpawn ? "" : ", no pacman spawn");
+    }
+}
@@ -0,0 +1,26 @@
+package pacman.board;
+
+import pacman.util.Position;
+
+/**
+ * Listens for changes made to the items on a {@link PacmanBoard}.
+ *
+ * See {@link PacmanBoard#addListener(BoardListener)}
+ */
+public interface BoardListener {
+
+    /**
+     * Called after the item at the given position has been set.
+     * See {@link PacmanBoard#setEntry(Position, BoardItem)}
+     *
+     * @param position of the entry that was set.
+     * @param item that is now at the position.
+     */
+    void entryChanged(Position position, BoardItem item);
+
+    /**
+     * Called after every dot on the board has been respawned.
+     * See {@link PacmanBoard#reset()}
+     */
+    void boardReset();
+}
@@ -0,0 +1,156 @@
+package pacman.board;
+
+import pacman.util.Position;
+
+import java.util.BitSet;
+
+/**
+ * DirtyCells records which cells of a board have changed since it was
+ * last cleared so that only those cells need to be redrawn.
+ *
+ * When registered as a {@link BoardListener} every changed entry is
+ * marked and a board reset marks the whole board.
+ */
+public class DirtyCells implements BoardListener {
+
+    // width of the tracked board
+    private final int width;
+    // height of the tracked board
+    private final int height;
+    // bit (y * width + x) is set when cell (x, y) is dirty
+    private final BitSet cells;
+    // whether every cell is dirty
+    private boolean allDirty;
+
+    /**
+     * Creates a tracker for a board of the given size with every cell
+     * dirty, so that the first redraw paints the whole board.
+     *
+     * @param width of the tracked board.
+     * @param height of the tracked board.
+     */
+    public DirtyCells(int width, int height) {
+        this.width = width;
+        this.height = height;
+        this.cells = new BitSet(width * height);
+        this.allDirty = true;
+    }
+
+    /**
+     * Creates a copy of the given tracker with the same dirty cells.
+     *
+     * @param other tracker to copy.
+     */
+    public DirtyCells(DirtyCells other) {
+        this.width = other.width;
+        this.height = other.height;
+        this.cells = (BitSet) other.cells.clone();
+        this.allDirty = other.allDirty;
+    }
+
+    /**
+     * Marks the cell at (x, y) as dirty. Cells outside the board are
+     * ignored.
+     *
+     * @param x of the cell.
+     * @param y of the cell.
+     */
+    public void mark(int x, int y) {
+        if (x >= 0 && y >= 0 && x < width && y < height) {
+            cells.set(y * width + x);
+        }
+    }
+
+    /**
+     * Marks the cell at the given position as dirty.
+     *
+     * @param position of the cell, ignored if null or outside the board.
+     */
+    public void mark(Position position) {
+        if (position != null) {
+            mark(position.getX(), position.getY());
+        }
+    }
+
+    /**
+     * Marks every cell on the board as dirty.
+     */
+    public void markAll() {
+        allDirty = true;
+    }
+
+    /**
+     * Marks every cell that is dirty in other as dirty in this tracker.
+     *
+     * @requires other tracks a board of the same size as this one.
+     * @param other tracker whose dirty cells to add.
+     */
+    public void merge(DirtyCells other) {
+        allDirty |= other.allDirty;
+        cells.or(other.cells);
+    }
+
+    /**
+     * @return true if every cell needs to be redrawn.
+     */
+    public boolean isAllDirty() {
+        return allDirty;
+    }
+
+    /**
+     * @return true if no cell needs to be redrawn.
+     */
+    public boolean isClean() {
+        return !allDirty && cells.isEmpty();
+    }
+
+    /**
+     * Visits each individually marked cell in row order. Does not visit
+     * every cell when {@link #isAllDirty()} is true.
+     *
+     * @param visitor to call with the x and y of each dirty cell.
+     */
+    public void forEach(CellVisitor visitor) {
+        for (int i = cells.nextSetBit(0); i >= 0;
+                i = cells.nextSetBit(i + 1)) {
+            visitor.visit(i % width, i / width);
+        }
+    }
+
+    /**
+     * Marks every cell as clean.
+     */
+    public void clear() {
+        cells.clear();
+        allDirty = false;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void entryChanged(Position position, BoardItem item) {
+        mark(position);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void boardReset() {
+        markAll();
+    }
+
+    /**
+     * Called with the coordinates of a dirty cell.
+     */
+    public interface CellVisitor {
+
+        /**
+         * Visits the cell at (x, y).
+         * @param x of the cell.
+         * @param y of the cell.
+         */
+        void visit(int x, int y);
+    }
+}
@@ -0,0 +1,352 @@
+package pacman.board;
+
+import pacman.util.Position;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * MazeGenerator makes mazes of any size from a seed, e.g. to benchmark
+ * the game on boards far larger than the shipped maps. The same size and
+ * seed always give the same maze.
+ *
+ * Every maze is walled in and mirrored left to right, and every pathable
+ * cell can be reached from every other. Paths hold dots, with a few big
+ * dots, a pacman spawn in the bottom left corner and a ghost spawn in
+ * the mirrored corner.
+ *
+ * The maze is made a row at a time with Eller's algorithm, so writing it
+ * holds only a few arrays the width of the maze rather than the whole
+ * board. The left half is made as a maze with some extra openings, so it
+ * has loops as a Pacman maze does, and is joined to its mirror image by
+ * bridges across the middle.
+ */
+public class MazeGenerator {
+
+    /**
+     * Smallest width and height of a maze.
+     */
+    public static final int MIN_SIZE = 5;
+
+    // chance of an opening between two cells that are in different sets
+    private static final double JOIN_CHANCE = 0.5;
+    // chance of an opening between two cells that are already joined,
+    // which makes a loop
+    private static final double LOOP_CHANCE = 0.15;
+    // chance of a set not opening down from a cell when it can
+    private static final double SPLIT_CHANCE = 0.5;
+    // chance of a row of cells being bridged to its mirror image
+    private static final double BRIDGE_CHANCE = 0.25;
+    // chance of a cell holding a big dot rather than a dot
+    private static final double BIG_DOT_CHANCE = 1.0 / 64;
+
+    private static final char WALL = BoardItem.WALL.getChar();
+    private static final char DOT = BoardItem.DOT.getChar();
+    private static final char BIG_DOT = BoardItem.BIG_DOT.getChar();
+    private static final char PACMAN_SPAWN =
+            BoardItem.PACMAN_SPAWN.getChar();
+    private static final char GHOST_SPAWN = BoardItem.GHOST_SPAWN.getChar();
+
+    private final int width;
+    private final int height;
+    private final long seed;
+
+    /**
+     * Creates a generator of mazes of the given size.
+     *
+     * @param width of the maze, at least MIN_SIZE.
+     * @param height of the maze, at least MIN_SIZE.
+     * @param seed from which the maze is made.
+     * @throws IllegalArgumentException if the width or height is less than
+     * MIN_SIZE.
+     */
+    public MazeGenerator(int width, int height, long seed)
+            throws IllegalArgumentException {
+        if (width < MIN_SIZE || height < MIN_SIZE) {
+            throw new IllegalArgumentException("maze smaller than "
+                    + MIN_SIZE + "x" + MIN_SIZE);
+        }
+        this.width = width;
+        this.height = height;
+        this.seed = seed;
+    }
+
+    /**
+     * @return the width of the mazes made.
+     */
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * @return the height of the mazes made.
+     */
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * @return the position of the pacman spawn in the maze.
+     */
+    public Position getPacmanSpawn() {
+        return new Position(1, lastCellRow());
+    }
+
+    /**
+     * @return the position of the ghost spawn in the maze.
+     */
+    public Position getGhostSpawn() {
+        return new Position(width - 2, lastCellRow());
+    }
+
+    /*
+     * Cells are at odd coordinates, so the last row of cells is the
+     * greatest odd row inside the border.
+     */
+    private int lastCellRow() {
+        return (height - 2) % 2 == 1 ? height - 2 : height - 3;
+    }
+
+    /**
+     * Writes the maze as a complete map that {@code GameReader} can
+     * read, with the hunter and ghosts at their spawns and no scores.
+     *
+     * @param writer to write the map to, which should be buffered.
+     * @throws IOException when unable to write.
+     */
+    public void write(Writer writer) throws IOException {
+        String newline = System.lineSeparator();
+        writeBoard(writer);
+        writer.write(newline);
+
+        var pacman = getPacmanSpawn();
+        var ghosts = getGhostSpawn();
+        String ghost = ghosts.getX() + "," + ghosts.getY() + ",UP,SCATTER:10";
+        writer.write("[Game]" + newline);
+        writer.write("title = Maze " + width + "x" + height + " seed "
+                + seed + newline);
+        writer.write("author = MazeGenerator" + newline);
+        writer.write("lives = 4" + newline);
+        writer.write("level = 0" + newline);
+        writer.write("score = 0" + newline);
+        writer.write("hunter = " + pacman.getX() + "," + pacman.getY()
+                + ",LEFT,0,PHIL" + newline);
+        for (var name : new String[] {"blinky", "inky", "pinky", "clyde"}) {
+            writer.write(name + " = " + ghost + newline);
+        }
+        writer.write(newline);
+        writer.write("[Scores]" + newline);
+    }
+
+    /**
+     * Writes the "[Board]" block of the maze: the header, the size and a
+     * line of item keys for each row. Each row is written from a reused
+     * buffer, so no strings are made for the rows.
+     *
+     * @param writer to write the block to, which should be buffered.
+     * @throws IOException when unable to write.
+     */
+    public void writeBoard(Writer writer) throws IOException {
+        String newline = System.lineSeparator();
+        writer.write("[Board]" + newline);
+        writer.write(width + "," + height + newline);
+
+        var rows = new Rows();
+        char[] row = new char[width];
+        for (int y = 0; y < height; y++) {
+            rows.next(row);
+            writer.write(row);
+            writer.write(newline);
+        }
+    }
+
+    /**
+     * Makes a new board holding the maze.
+     *
+     * @return the board.
+     */
+    public PacmanBoard toBoard() {
+        var board = new PacmanBoard(width, height);
+        var rows = new Rows();
+        char[] row = new char[width];
+        for (int y = 0; y < height; y++) {
+            rows.next(row);
+            for (int x = 0; x < width; x++) {
+                var item = BoardItem.getItem(row[x]);
+                if (board.getEntry(new Position(x, y)) != item) {
+                    board.setEntry(new Position(x, y), item);
+                }
+            }
+        }
+        return board;
+    }
+
+    /*
+     * The state of one pass over the rows of the maze.
+     *
+     * The cells of the left half are numbered 0 to n - 1 from the left,
+     * cell i being at x = 2i + 1. Cells in the same set are joined by the
+     * rows made so far. Each set is a ring of its cells in order from
+     * left to right, linked by left and right, and since sets cannot cross
+     * cells c and c + 1 are in the same set exactly when right[c] is c + 1.
+     */
+    private final class Rows {
+        private final SplittableRandom random = new SplittableRandom(seed);
+        // number of cells in a row of the left half
+        private final int cells;
+        // columns in the left half, the rest mirror them
+        private final int half;
+        // rings of the sets of the cells in the current row
+        private final int[] left;
+        private final int[] right;
+        // whether each cell opens to the right and down
+        private final boolean[] opensRight;
+        private final boolean[] opensDown;
+        // whether the current row is bridged to its mirror image
+        private boolean bridged;
+        // whether any row has been bridged yet
+        private boolean anyBridged;
+        // next row to make
+        private int y;
+
+        private Rows() {
+            half = (width + 1) / 2;
+            // the last cell column is the greatest odd column of the half
+            // that is inside the border
+            int last = Integer.min(half - 1, width - 2);
+            if (last % 2 == 0) {
+                last--;
+            }
+            cells = (last + 1) / 2;
+            left = new int[cells];
+            right = new int[cells];
+            opensRight = new boolean[cells];
+            opensDown = new boolean[cells];
+            for (int c = 0; c < cells; c++) {
+                left[c] = c;
+                right[c] = c;
+            }
+        }
+
+        /*
+         * Writes the keys of the next row into row.
+         */
+        private void next(char[] row) {
+            int lastRow = lastCellRow();
+            if (y == 0 || y > lastRow) {
+                Arrays.fill(row, WALL);
+            } else if (y % 2 == 1) {
+                join(y == lastRow);
+                cellRow(row);
+            } else {
+                wallRow(row);
+            }
+            mirror(row);
+            y++;
+        }
+
+        /*
+         * Chooses the openings of a row of cells. The last row joins every
+         * set so that the maze is connected.
+         */
+        private void join(boolean lastRow) {
+            for (int c = 0; c < cells - 1; c++) {
+                boolean joined = right[c] == c + 1;
+                if (!joined && (lastRow
+                        || random.nextDouble() < JOIN_CHANCE)) {
+                    // splice the ring of c + 1 into the ring of c after c
+                    int end = left[c + 1];
+                    right[end] = right[c];
+                    left[right[c]] = end;
+                    right[c] = c + 1;
+                    left[c + 1] = c;
+                    opensRight[c] = true;
+                } else {
+                    opensRight[c] = joined
+                            && random.nextDouble() < LOOP_CHANCE;
+                }
+            }
+            opensRight[cells - 1] = false;
+
+            bridged = random.nextDouble() < BRIDGE_CHANCE
+                    || (lastRow && !anyBridged);
+            anyBridged |= bridged;
+
+            if (lastRow) {
+                return;
+            }
+            for (int c = 0; c < cells; c++) {
+                // a set must keep opening down from at least one cell
+                if (left[c] != c && random.nextDouble() < SPLIT_CHANCE) {
+                    right[left[c]] = right[c];
+                    left[right[c]] = left[c];
+                    left[c] = c;
+                    right[c] = c;
+                    opensDown[c] = random.nextDouble() < LOOP_CHANCE;
+                } else {
+                    opensDown[c] = true;
+                }
+            }
+        }
+
+        /*
+         * Writes the left half of a row of cells.
+         */
+        private void cellRow(char[] row) {
+            row[0] = WALL;
+            for (int c = 0; c < cells; c++) {
+                int x = 2 * c + 1;
+                row[x] = item(x);
+                if (x + 1 < half) {
+                    row[x + 1] = opensRight[c] ? DOT : WALL;
+                }
+            }
+            // the columns between the last cell and its mirror image
+            for (int x = 2 * cells; x < half; x++) {
+                row[x] = bridged ? DOT : WALL;
+            }
+        }
+
+        /*
+         * Writes the left half of a row between two rows of cells.
+         */
+        private void wallRow(char[] row) {
+            for (int x = 0; x < half; x++) {
+                row[x] = WALL;
+            }
+            for (int c = 0; c < cells; c++) {
+                if (opensDown[c]) {
+                    row[2 * c + 1] = DOT;
+                }
+            }
+        }
+
+        /*
+         * Chooses the item of the cell at x in the current row.
+         */
+        private char item(int x) {
+            if (x == 1 && y == lastCellRow()) {
+                return PACMAN_SPAWN;
+            }
+            if (x == 1 && y == 1) {
+                return BIG_DOT;
+            }
+            return random.nextDouble() < BIG_DOT_CHANCE ? BIG_DOT : DOT;
+        }
+
+        /*
+         * Copies the left half of the row onto the right half, then places
+         * the ghost spawn, mirroring the pacman spawn.
+         */
+        private void mirror(char[] row) {
+            for (int x = half; x < width; x++) {
+                row[x] = row[width - 1 - x];
+            }
+            if (row[width - 2] == PACMAN_SPAWN) {
+                row[width - 2] = GHOST_SPAWN;
+            }
+        }
+    }
+}
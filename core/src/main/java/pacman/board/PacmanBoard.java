@@ -0,0 +1,653 @@
+package pacman.board;
+
+import java.util.StringJoiner;
+import pacman.util.Position;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * PacmanBoard
+ * <p>
+ * Represents the Pac Man game board.
+ * The board can be any size, it is set out as a grid with each space
+ * containing only one {@link pacman.board.BoardItem}.
+ *
+ * Game boards are by default surrounded by a BoardItem.WALL with
+ * every other space being BoardItem.NONE.
+ *
+ * Example:
+ *
+ * a board with width 1 and height 1 would look like this:
+ * <pre>
+ *     X
+ * </pre>
+ *
+ * A board with width 4 and height 4 would look like this:
+ *
+ * <pre>
+ *     XXXX
+ *     X00X
+ *     X00X
+ *     XXXX
+ * </pre>
+ *
+ * The coordinate positions for the board is the top left position is
+ * (0, 0) and the bottom right position is (getWidth-1, getHeight-1).
+ *
+ * The grid is stored in square tiles of TILE_SIZE cells a side, holding
+ * the ordinal of each item in a byte. A tile whose cells all hold the
+ * same item, such as the open middle of a new board, is stored as that
+ * item alone until one of its cells is set, so huge sparse boards take
+ * little memory. Tiles are shared with forks until written.
+ *
+ * @ass1
+ */
+public class PacmanBoard {
+
+    /**
+     * Number of cells along each side of a tile of the grid.
+     */
+    public static final int TILE_SIZE = 64;
+    // log2(TILE_SIZE), and TILE_SIZE - 1 to find a cell within its tile
+    private static final int TILE_SHIFT = 6;
+    private static final int TILE_MASK = TILE_SIZE - 1;
+    // items by ordinal, as stored in tiles
+    private static final BoardItem[] ITEMS = BoardItem.values();
+
+    // width of the board
+    private int width;
+    // height of the board
+    private int height;
+    // number of tiles across the board
+    private int tilesWide;
+    // cells of each tile as item ordinals indexed by
+    // (y % TILE_SIZE) * TILE_SIZE + x % TILE_SIZE, or null when every
+    // cell of the tile holds its uniform item
+    private byte[][] tiles;
+    // item held by every cell of each tile that has no cells
+    private BoardItem[] uniform;
+    // tiles shared with forks, copied before being written
+    private boolean[] shared;
+    // dots and big dots in each tile, and on the whole board
+    private int[] tileDots;
+    private long dots;
+    // positions of the spawns, or null
+    private Position pacmanSpawn;
+    private Position ghostSpawn;
+    // listeners notified of changes, not copied with the board
+    private List<BoardListener> listeners = new ArrayList<>();
+
+    /**
+     * Constructor taking the width and height creating a board that
+     * is filled with BoardItem.NONE except a 1 block wide border wall
+     * around the entire board ( BoardItem.WALL ).
+     *
+     * @param height the vertical size of the board which is greater
+     *               than zero.
+     * @param width  the horizontal size of the board which is
+     *               greater than zero.
+     * @throws IllegalArgumentException when height || width is less
+     * than or equal to 0.
+     * @ass1
+     */
+    public PacmanBoard(int width, int height) throws
+            IllegalArgumentException {
+        
+        if (height <= 0 || width <= 0) {
+            throw new IllegalArgumentException();
+        }
+        
+        this.width = width;
+        this.height = height;
+        this.tilesWide = (width + TILE_MASK) >> TILE_SHIFT;
+        int count = tilesWide * ((height + TILE_MASK) >> TILE_SHIFT);
+        this.tiles = new byte[count][];
+        this.uniform = new BoardItem[count];
+        this.shared = new boolean[count];
+        this.tileDots = new int[count];
+        Arrays.fill(uniform, BoardItem.NONE);
+
+        // setup board with walls around the edge, nothing on the inside
+        for (int x = 0; x < width; x++) {
+            set(x, 0, BoardItem.WALL);
+            set(x, height - 1, BoardItem.WALL);
+        }
+        for (int y = 0; y < height; y++) {
+            set(0, y, BoardItem.WALL);
+            set(width - 1, y, BoardItem.WALL);
+        }
+    }
+
+    /**
+     * Constructor taking an existing PacmanBoard and making a deep
+     * copy. A deep copy should have the same getWidth, getHeight and board
+     * as the given board. When a change is made to the other board
+     * this should not change this copy.
+     *
+     * @param other copy of an existing PacmanBoard.
+     * @throws NullPointerException if copy is null.
+     * @ass1
+     */
+    public PacmanBoard(PacmanBoard other) throws NullPointerException {
+        if (other == null) {
+            throw new NullPointerException();
+        }
+
+        copyState(other);
+        this.shared = new boolean[tiles.length];
+        for (int t = 0; t < tiles.length; t++) {
+            if (tiles[t] != null) {
+                tiles[t] = tiles[t].clone();
+            }
+        }
+    }
+
+    /*
+     * Creates a board sharing every tile of the other board.
+     */
+    private PacmanBoard(PacmanBoard other, boolean[] shared) {
+        copyState(other);
+        this.shared = shared;
+    }
+
+    /*
+     * Copies the size, tiles and counts of the other board, sharing the
+     * cells of its tiles.
+     */
+    private void copyState(PacmanBoard other) {
+        this.width = other.width;
+        this.height = other.height;
+        this.tilesWide = other.tilesWide;
+        this.tiles = other.tiles.clone();
+        this.uniform = other.uniform.clone();
+        this.tileDots = other.tileDots.clone();
+        this.dots = other.dots;
+        this.pacmanSpawn = other.pacmanSpawn;
+        this.ghostSpawn = other.ghostSpawn;
+    }
+
+    /**
+     * Creates a copy of this board that shares its cells with this board
+     * until either of them is changed, so forking is much cheaper than
+     * {@link #PacmanBoard(PacmanBoard)}. Listeners are not copied.
+     *
+     * Forking marks the cells of this board as shared, so a board must
+     * not be forked by several threads at once unless it is itself a fork
+     * that has not been changed since it was made.
+     *
+     * @return a copy of this board.
+     */
+    public PacmanBoard fork() {
+        for (int t = 0; t < tiles.length; t++) {
+            if (!shared[t]) {
+                shared[t] = true;
+            }
+        }
+        var sharedByFork = new boolean[tiles.length];
+        Arrays.fill(sharedByFork, true);
+        return new PacmanBoard(this, sharedByFork);
+    }
+
+    /**
+     * Sets the cells of this board to those of a fork of the same size,
+     * sharing them until either board is changed, e.g. to roll a game
+     * back to a snapshot. Listeners are told about every cell that
+     * changed, and tiles this board already shares with the snapshot
+     * are not compared.
+     *
+     * @param snapshot board to copy the cells of.
+     * @throws IllegalArgumentException if the boards differ in size.
+     */
+    public void restore(PacmanBoard snapshot) throws IllegalArgumentException {
+        if (snapshot.width != width || snapshot.height != height) {
+            throw new IllegalArgumentException("boards differ in size");
+        }
+        for (int t = 0; t < tiles.length; t++) {
+            if (tiles[t] == snapshot.tiles[t]
+                    && uniform[t] == snapshot.uniform[t]) {
+                continue;
+            }
+            if (!listeners.isEmpty()) {
+                tellChanges(t, snapshot);
+            }
+            tiles[t] = snapshot.tiles[t];
+            uniform[t] = snapshot.uniform[t];
+            shared[t] = true;
+            snapshot.shared[t] = true;
+            dots += snapshot.tileDots[t] - tileDots[t];
+            tileDots[t] = snapshot.tileDots[t];
+        }
+        pacmanSpawn = snapshot.pacmanSpawn;
+        ghostSpawn = snapshot.ghostSpawn;
+    }
+
+    /*
+     * Tells listeners about every cell of tile t that differs on the
+     * snapshot.
+     */
+    private void tellChanges(int t, PacmanBoard snapshot) {
+        int fromX = (t % tilesWide) << TILE_SHIFT;
+        int fromY = (t / tilesWide) << TILE_SHIFT;
+        int toX = Integer.min(width, fromX + TILE_SIZE);
+        int toY = Integer.min(height, fromY + TILE_SIZE);
+        for (int x = fromX; x < toX; x++) {
+            for (int y = fromY; y < toY; y++) {
+                var item = snapshot.get(x, y);
+                if (get(x, y) != item) {
+                    var position = new Position(x, y);
+                    for (var listener : listeners) {
+                        listener.entryChanged(position, item);
+                    }
+                }
+            }
+        }
+    }
+
+    /*
+     * Returns the index of the tile holding cell (x, y).
+     */
+    private int tile(int x, int y) {
+        return (y >> TILE_SHIFT) * tilesWide + (x >> TILE_SHIFT);
+    }
+
+    /*
+     * Returns the index of cell (x, y) within its tile.
+     */
+    private static int cell(int x, int y) {
+        return ((y & TILE_MASK) << TILE_SHIFT) | (x & TILE_MASK);
+    }
+
+    /*
+     * Returns the item at (x, y), which must be on the board.
+     */
+    private BoardItem get(int x, int y) {
+        int t = tile(x, y);
+        byte[] cells = tiles[t];
+        return cells == null ? uniform[t] : ITEMS[cells[cell(x, y)]];
+    }
+
+    /*
+     * Sets the item at (x, y), which must be on the board, keeping the
+     * dot counts and spawns up to date. A uniform tile is given cells,
+     * and a shared tile copied, only if the item changes.
+     */
+    private void set(int x, int y, BoardItem item) {
+        int t = tile(x, y);
+        byte[] cells = tiles[t];
+        int index = cell(x, y);
+        BoardItem old = cells == null ? uniform[t] : ITEMS[cells[index]];
+        if (old == item) {
+            return;
+        }
+
+        if (cells == null) {
+            cells = new byte[TILE_SIZE * TILE_SIZE];
+            Arrays.fill(cells, (byte) old.ordinal());
+            tiles[t] = cells;
+            shared[t] = false;
+        } else if (shared[t]) {
+            cells = cells.clone();
+            tiles[t] = cells;
+            shared[t] = false;
+        }
+        cells[index] = (byte) item.ordinal();
+
+        int change = (isDot(item) ? 1 : 0) - (isDot(old) ? 1 : 0);
+        tileDots[t] += change;
+        dots += change;
+        if (old == BoardItem.PACMAN_SPAWN) {
+            pacmanSpawn = null;
+        } else if (old == BoardItem.GHOST_SPAWN) {
+            ghostSpawn = null;
+        }
+        if (item == BoardItem.PACMAN_SPAWN) {
+            pacmanSpawn = new Position(x, y);
+        } else if (item == BoardItem.GHOST_SPAWN) {
+            ghostSpawn = new Position(x, y);
+        }
+    }
+
+    /*
+     * Returns true if the item is counted by isEmpty.
+     */
+    private static boolean isDot(BoardItem item) {
+        return item == BoardItem.DOT || item == BoardItem.BIG_DOT;
+    }
+
+    /*
+     * Throws IndexOutOfBoundsException if (x, y) is not on the board.
+     */
+    private void checkBounds(int x, int y) throws IndexOutOfBoundsException {
+        if (x < 0 || y < 0 || x >= width || y >= height) {
+            throw new IndexOutOfBoundsException();
+        }
+    }
+
+    /*
+     * Returns the number of cells of tile t that are on the board.
+     */
+    private int tileCells(int t) {
+        int fromX = (t % tilesWide) << TILE_SHIFT;
+        int fromY = (t / tilesWide) << TILE_SHIFT;
+        return (Integer.min(width, fromX + TILE_SIZE) - fromX)
+                * (Integer.min(height, fromY + TILE_SIZE) - fromY);
+    }
+
+    /**
+     * Gets the width of the board
+     *
+     * @return width of the game board
+     * @ass1
+     */
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * Gets the height of the board
+     *
+     * @return height of the board
+     * @ass1
+     */
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * Sets a tile on the board to an item.
+     *
+     * If the item to be set is a BoardItem.PACMAN_SPAWN and the board
+     * already contains a BoardItem.PACMAN_SPAWN then the old
+     * BoardItem.PACMAN_SPAWN should be made a BoardItem.NONE.
+     *
+     * If the item to be set is a BoardItem.GHOST_SPAWN and the board
+     * already contains a BoardItem.GHOST_SPAWN then the old
+     * BoardItem.GHOST_SPAWN should be made a BoardItem.NONE.
+     *
+     * @param item     the board item that is to be placed at the position.
+     * @param position the portion to place the item.
+     * @throws IndexOutOfBoundsException when the position trying to
+     *          be set is not within the board.
+     * @throws NullPointerException when the position or item is null.
+     * @ass1
+     * @see pacman.util.Position
+     */
+    public void setEntry(Position position, BoardItem item) throws
+            IndexOutOfBoundsException, NullPointerException {
+        
+        if (position == null || item == null) {
+            throw new NullPointerException();
+        }
+
+        // check position is valid
+        checkBounds(position.getX(), position.getY());
+
+        // ensure only one PACMAN_SPAWN/GHOST_SPAWN on board at a time
+        if (item == BoardItem.PACMAN_SPAWN) {
+            Position spawn = getPacmanSpawn();
+            if (spawn != null) {
+                setEntry(spawn, BoardItem.NONE);
+            }
+        } else if (item == BoardItem.GHOST_SPAWN) {
+            Position spawn = getGhostSpawn();
+            if (spawn != null) {
+                setEntry(spawn, BoardItem.NONE);
+            }
+        }
+
+        set(position.getX(), position.getY(), item);
+
+        for (var listener : listeners) {
+            listener.entryChanged(position, item);
+        }
+    }
+
+    /**
+     * Adds a listener that is told about every change made to the items
+     * on this board. Listeners are not copied by
+     * {@link PacmanBoard#PacmanBoard(PacmanBoard)}.
+     *
+     * @param listener to add, ignored if null.
+     */
+    public void addListener(BoardListener listener) {
+        if (listener != null) {
+            listeners.add(listener);
+        }
+    }
+
+    /**
+     * Removes a listener added by {@link #addListener(BoardListener)}.
+     *
+     * @param listener to remove.
+     */
+    public void removeListener(BoardListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Returns what item the board has on a given position.
+     *
+     * @param position wanting to be checked
+     * @return BoardItem at the location given.
+     * @throws IndexOutOfBoundsException when the position
+     *                                   is not within the board.
+     * @throws NullPointerException if position is null.
+     * @ass1
+     */
+    public BoardItem getEntry(Position position) throws
+            IndexOutOfBoundsException, NullPointerException {
+        
+        if (position == null) {
+            throw new NullPointerException();
+        }
+        
+        return getEntry(position.getX(), position.getY());
+    }
+
+    /**
+     * Returns what item the board has on a given cell, without needing a
+     * Position, for callers that read every cell of the board.
+     *
+     * @param x coordinate of the cell.
+     * @param y coordinate of the cell.
+     * @return BoardItem at the cell given.
+     * @throws IndexOutOfBoundsException when the cell is not within the
+     *                                   board.
+     */
+    public BoardItem getEntry(int x, int y) throws IndexOutOfBoundsException {
+        checkBounds(x, y);
+        return get(x, y);
+    }
+
+    /**
+     * Tries to eat a dot off the board and returns the item that it
+     * ate/tried to eat. If a BoardItem.DOT is eaten then it is replaced
+     * with a BoardItem.NONE. If a BoardItem.BIG_DOT is eaten then it
+     * is replaced with a BoardItem.BIG_DOT_SPAWN. If the item is
+     * any other BoardItem then do nothing and return the item.
+     *
+     * @param position to eat.
+     * @return the item that was originally the position before trying
+     * to eat.
+     * @throws NullPointerException if position is null.
+     * @throws IndexOutOfBoundsException when the position trying to
+     * be eaten is not within the board.
+     * @ass1
+     */
+    public BoardItem eatDot(Position position) throws
+            IndexOutOfBoundsException, NullPointerException {
+        
+        BoardItem item = getEntry(position);
+
+        if (item == BoardItem.BIG_DOT) {
+            setEntry(position, BoardItem.BIG_DOT_SPAWN);
+        } else if (item == BoardItem.DOT) {
+            setEntry(position, BoardItem.NONE);
+        }
+
+        return item;
+    }
+
+    /**
+     * Get the spawn position for the ghosts.
+     *
+     * @requires board to contain 0 or 1 GHOST_SPAWN's
+     * @return the position of the ghost spawn or null if none found.
+     * @ass1
+     */
+    public Position getGhostSpawn() {
+        return ghostSpawn;
+    }
+
+    /**
+     * Get the spawn position for pacman.
+     *
+     * @requires board to contain 0 or 1 PACMAN_SPAWN's
+     * @return the postion of pacmans spawn or null if none found.
+     * @ass1
+     */
+    public Position getPacmanSpawn() {
+        return pacmanSpawn;
+    }
+
+    /**
+     * Checks if the board contains any pickup items.
+     *
+     * @return true if the board does not contain any DOT's or
+     * BIG_DOT's.
+     * @ass1
+     */
+    public boolean isEmpty() {
+        return dots == 0;
+    }
+
+    /**
+     * Resets the board to place a DOT in every position that has no
+     * item ( NONE BoardItem ) and respawns BIG_DOT's in the
+     * BIG_DOT_SPAWN locations. Leaves walls, pacman spawns and ghost
+     * spawns intact.
+     * @ass1
+     */
+    public void reset() {
+        for (int t = 0; t < tiles.length; t++) {
+            if (tiles[t] == null) {
+                // a uniform tile stays uniform
+                var item = uniform[t];
+                if (item == BoardItem.NONE || item == BoardItem.BIG_DOT_SPAWN) {
+                    uniform[t] = item == BoardItem.NONE ? BoardItem.DOT
+                            : BoardItem.BIG_DOT;
+                    int cells = tileCells(t);
+                    tileDots[t] += cells;
+                    dots += cells;
+                }
+                continue;
+            }
+            int fromX = (t % tilesWide) << TILE_SHIFT;
+            int fromY = (t / tilesWide) << TILE_SHIFT;
+            int toX = Integer.min(width, fromX + TILE_SIZE);
+            int toY = Integer.min(height, fromY + TILE_SIZE);
+            for (int x = fromX; x < toX; x++) {
+                for (int y = fromY; y < toY; y++) {
+                    var item = get(x, y);
+                    if (item == BoardItem.NONE) {
+                        set(x, y, BoardItem.DOT);
+                    } else if (item == BoardItem.BIG_DOT_SPAWN) {
+                        set(x, y, BoardItem.BIG_DOT);
+                    }
+                }
+            }
+        }
+
+        for (var listener : listeners) {
+            listener.boardReset();
+        }
+    }
+
+    /**
+     * Checks if another object instance is equal to this instance. 
+     * Boards are equal if they have the same dimensions (width, height) and
+     * have equal items for all board positions. 
+     * @return true if same, false otherwise.
+     * @ass2
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        
+        if (!(o instanceof PacmanBoard)) {
+            return false;
+        }
+
+        PacmanBoard otherBoard = (PacmanBoard) o;
+
+        if (width != otherBoard.width || height != otherBoard.height) {
+            return false;
+        }
+        for (int x = 0; x < width; x++) {
+            for (int y = 0; y < height; y++) {
+                if (get(x, y) != otherBoard.get(x, y)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * For two objects that are equal the hash should also
+     * be equal. For two objects that are not equal the hash
+     * does not have to be different.
+     * @return hash of PacmanBoard.
+     * @ass2
+     */
+    @Override
+    public int hashCode() {
+        int hash = (31 * width) + (33 * height);
+        for (int x = 0; x < width; x++) {
+            for (int y = 0; y < height; y++) {
+                hash = 31 * hash + get(x, y).ordinal();
+            }
+        }
+        return hash;
+    }
+
+    /**
+     * Creates a multiline string ( using System.lineSeparator() as newline ) 
+     * that is a printout of each index of the board with the character
+     * key.
+     *
+     * Example of a board with height 3 width 4.
+     *
+     * <pre>
+     *     XXXX
+     *     X00X
+     *     XXXX
+     * </pre>
+     *
+     * Note: the lines are not indented but may show in the JavaDoc as
+     * such. There are no spaces. The last line does not have a newline.
+     *
+     * @ass2
+     * @return board as a multiline string.
+     */
+    @Override
+    public String toString() {
+        StringJoiner joiner = new StringJoiner(System.lineSeparator());
+        
+        for (int y = 0; y < height; y++) {
+            StringBuilder rowBuilder = new StringBuilder();
+            
+            for (int x = 0; x < width; x++) {
+                rowBuilder.append(get(x, y).getChar());
+            }
+            
+            joiner.add(rowBuilder.toString());
+        }
+        
+        return joiner.toString();
+    }
+}
@@ -0,0 +1,300 @@
+package pacman.env;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+
+/**
+ * EnvServer lets a process other than this one drive a {@link VectorEnv}
+ * over a socket, e.g. a training script written in another language.
+ *
+ * Clients are served one at a time. Every number is in the server's
+ * native byte order, which is given by the first byte the server sends,
+ * so observations are written straight from the environment's direct
+ * buffer without being copied.
+ *
+ * On connecting the server sends a hello:
+ * <pre>
+ * byte  order      0 big endian, 1 little endian
+ * int   MAGIC
+ * int   envs, channels, height, width
+ * int   actions    number of valid actions, see VectorEnv.getActions()
+ * int   maxSteps   most steps in one STEP request
+ * </pre>
+ * Then each request is an opcode byte followed by its payload:
+ * <pre>
+ * RESET                             reply: observation
+ * OBSERVE                           reply: observation
+ * STEP  int steps, byte[steps*envs] reply: float[steps*envs] rewards,
+ *                                          byte[steps*envs] dones,
+ *                                          observation after the last step
+ * CLOSE                             the server closes the connection
+ * </pre>
+ * where an observation is float[envs*channels*height*width], laid out as
+ * in {@link VectorEnv}. A STEP with several steps applies the actions of
+ * each step in turn, saving a round trip per step. The server closes the
+ * connection of a client that sends anything invalid.
+ */
+public class EnvServer implements Closeable {
+
+    /**
+     * First int of the hello, "PAC1".
+     */
+    public static final int MAGIC = 0x50414331;
+
+    /**
+     * Opcode to reset every game.
+     */
+    public static final byte RESET = 1;
+    /**
+     * Opcode to step every game.
+     */
+    public static final byte STEP = 2;
+    /**
+     * Opcode to get the current observation.
+     */
+    public static final byte OBSERVE = 3;
+    /**
+     * Opcode to end the connection.
+     */
+    public static final byte CLOSE = 4;
+
+    // size of the hello in bytes
+    private static final int HELLO_BYTES = 1 + 7 * Integer.BYTES;
+
+    // environment being served
+    private final VectorEnv env;
+    // most steps in one request
+    private final int maxSteps;
+
+    // request and reply buffers, allocated once
+    private final ByteBuffer request;
+    private final ByteBuffer reply;
+    // reply followed by the observation, for gathering writes
+    private final ByteBuffer[] replyWithObservation;
+    // actions of one step
+    private final int[] actions;
+
+    // server socket, null when not started
+    private ServerSocketChannel server;
+    // thread accepting and serving clients
+    private Thread thread;
+    // client being served, or null
+    private volatile SocketChannel client;
+
+    /**
+     * Creates a server for the given environment, which must not be used
+     * elsewhere while the server is running.
+     *
+     * @param env environment to serve.
+     * @param maxSteps most steps a client may make in one request, at
+     *                 least 1.
+     * @throws IllegalArgumentException if maxSteps is less than 1.
+     */
+    public EnvServer(VectorEnv env, int maxSteps)
+            throws IllegalArgumentException {
+        if (maxSteps < 1) {
+            throw new IllegalArgumentException("maxSteps < 1");
+        }
+        this.env = env;
+        this.maxSteps = maxSteps;
+
+        int batch = maxSteps * env.getCount();
+        this.request = ByteBuffer.allocateDirect(Integer.BYTES + batch)
+                .order(ByteOrder.nativeOrder());
+        this.reply = ByteBuffer.allocateDirect(
+                Math.max(HELLO_BYTES, batch * (Float.BYTES + 1)))
+                .order(ByteOrder.nativeOrder());
+        this.replyWithObservation = new ByteBuffer[] {
+            reply, env.getObservationBuffer().duplicate()
+        };
+        this.actions = new int[env.getCount()];
+    }
+
+    /**
+     * Binds the server to the given address and starts serving clients on
+     * a daemon thread.
+     *
+     * @param address to listen on, e.g. port 0 of the loopback address to
+     *                have any free port chosen.
+     * @return the address listened on.
+     * @throws IOException if unable to bind to the address.
+     * @throws IllegalStateException if the server was already started.
+     */
+    public synchronized InetSocketAddress start(InetSocketAddress address)
+            throws IOException {
+        if (server != null) {
+            throw new IllegalStateException("already started");
+        }
+        server = ServerSocketChannel.open();
+        server.bind(address);
+
+        thread = new Thread(this::run, "pacman-env-server");
+        thread.setDaemon(true);
+        thread.start();
+        return (InetSocketAddress) server.getLocalAddress();
+    }
+
+    /**
+     * Stops the server, closing the connection of any client being served,
+     * and waits for it to finish.
+     *
+     * @throws IOException if unable to close the server socket.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (server == null) {
+            return;
+        }
+        server.close();
+        var current = client;
+        if (current != null) {
+            current.close();
+        }
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /*
+     * Accepts and serves clients until the server is closed.
+     */
+    private void run() {
+        while (server.isOpen()) {
+            try (var channel = server.accept()) {
+                client = channel;
+                // close() may have closed the server before it could see
+                // this client, in which case it is left to this thread
+                if (!server.isOpen()) {
+                    return;
+                }
+                serve(channel);
+            } catch (ClosedChannelException e) {
+                // closed by close(), or the client went away mid request
+            } catch (IOException e) {
+                // drop this client and wait for the next one
+            } finally {
+                client = null;
+            }
+        }
+    }
+
+    /*
+     * Sends the hello then answers requests until the client closes the
+     * connection or sends something invalid.
+     */
+    private void serve(SocketChannel channel) throws IOException {
+        reply.clear();
+        reply.put((byte) (ByteOrder.nativeOrder()
+                == ByteOrder.LITTLE_ENDIAN ? 1 : 0));
+        reply.putInt(MAGIC);
+        reply.putInt(env.getCount());
+        reply.putInt(env.getChannels());
+        reply.putInt(env.getHeight());
+        reply.putInt(env.getWidth());
+        reply.putInt(VectorEnv.getActions().length);
+        reply.putInt(maxSteps);
+        reply.flip();
+        writeFully(channel, reply);
+
+        while (true) {
+            read(channel, 1);
+            switch (request.get()) {
+                case RESET:
+                    env.reset();
+                    reply.clear().flip();
+                    break;
+                case OBSERVE:
+                    reply.clear().flip();
+                    break;
+                case STEP:
+                    if (!step(channel)) {
+                        return;
+                    }
+                    break;
+                default:
+                    // CLOSE, or an unknown opcode
+                    return;
+            }
+
+            var observation = replyWithObservation[1];
+            observation.clear();
+            while (reply.hasRemaining() || observation.hasRemaining()) {
+                channel.write(replyWithObservation);
+            }
+        }
+    }
+
+    /*
+     * Reads the payload of a STEP, makes the steps and fills the reply
+     * with their rewards and dones. Returns false, without stepping, if
+     * the request was invalid.
+     */
+    private boolean step(SocketChannel channel) throws IOException {
+        read(channel, Integer.BYTES);
+        int steps = request.getInt();
+        if (steps < 1 || steps > maxSteps) {
+            return false;
+        }
+
+        int count = env.getCount();
+        read(channel, steps * count);
+        int limit = VectorEnv.getActions().length;
+        for (int i = 0; i < steps * count; i++) {
+            int action = request.get(i);
+            if (action < 0 || action >= limit) {
+                return false;
+            }
+        }
+
+        reply.clear();
+        int dones = steps * count * Float.BYTES;
+        for (int s = 0; s < steps; s++) {
+            for (int i = 0; i < count; i++) {
+                actions[i] = request.get();
+            }
+            env.step(actions);
+
+            var rewards = env.getRewards();
+            var done = env.getDones();
+            for (int i = 0; i < count; i++) {
+                reply.putFloat(rewards[i]);
+                reply.put(dones++, (byte) (done[i] ? 1 : 0));
+            }
+        }
+        reply.position(dones).flip();
+        return true;
+    }
+
+    /*
+     * Reads exactly the given number of bytes into the request buffer and
+     * flips it for reading.
+     */
+    private void read(SocketChannel channel, int bytes) throws IOException {
+        request.clear().limit(bytes);
+        while (request.hasRemaining()) {
+            if (channel.read(request) < 0) {
+                throw new EOFException();
+            }
+        }
+        request.flip();
+    }
+
+    /*
+     * Writes all of the buffer to the channel.
+     */
+    private static void writeFully(SocketChannel channel, ByteBuffer buffer)
+            throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+}
@@ -0,0 +1,307 @@
+package pacman.env;
+
+import pacman.board.BoardItem;
+import pacman.board.PacmanBoard;
+import pacman.game.Command;
+import pacman.game.PacmanGame;
+import pacman.ghost.Ghost;
+import pacman.util.Position;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * VectorEnv steps a number of games in lockstep for training agents,
+ * in the style of a vectorised reinforcement learning environment.
+ *
+ * Observations are written to a single direct buffer laid out as
+ * [env][channel][y][x] in native byte order, so they can be handed to
+ * native code without copying. Each cell of a channel is 1 if the channel
+ * is present at that cell and 0 otherwise. The channels are
+ * {@link #WALL}, {@link #DOT}, {@link #BIG_DOT}, {@link #HUNTER} and then
+ * one for each ghost, in the order of {@link PacmanGame#getGhosts()}.
+ *
+ * Actions are indices into {@link #getActions()}, where 0 does nothing.
+ * The reward of a step is the change of the game's score. A game that
+ * has no lives left after a step is reset, its done flag is set and the
+ * observation written is that of the reset game.
+ *
+ * Stepping and resetting do not allocate beyond what
+ * {@link PacmanGame#tick()} itself does.
+ */
+public class VectorEnv {
+
+    /**
+     * Channel of walls.
+     */
+    public static final int WALL = 0;
+    /**
+     * Channel of uneaten dots.
+     */
+    public static final int DOT = 1;
+    /**
+     * Channel of uneaten big dots.
+     */
+    public static final int BIG_DOT = 2;
+    /**
+     * Channel of the hunter.
+     */
+    public static final int HUNTER = 3;
+    /**
+     * Channel of the first ghost, the i-th ghost is at GHOST + i.
+     */
+    public static final int GHOST = 4;
+
+    // commands given by each action, 0 does nothing
+    private static final Command[] ACTIONS = {
+        null, Command.LEFT, Command.RIGHT, Command.UP, Command.DOWN,
+        Command.SPECIAL
+    };
+
+    // games being stepped
+    private final PacmanGame[] games;
+    // ghosts of each game, as getGhosts() copies the list
+    private final Ghost[][] ghosts;
+
+    // shape of the observations
+    private final int width;
+    private final int height;
+    private final int channels;
+
+    // observations, [env][channel][y][x]
+    private final ByteBuffer buffer;
+    private final FloatBuffer observations;
+    // index of the cell set in each entity channel, or -1
+    private final int[][] marked;
+
+    // score of each game after the last step or reset
+    private final int[] scores;
+    // results of the last step
+    private final float[] rewards;
+    private final boolean[] dones;
+
+    /**
+     * Creates an environment over the given games and resets them.
+     *
+     * @param games to step, which must all have boards of the same size
+     *              and the same number of ghosts.
+     * @throws IllegalArgumentException if there are no games or their
+     *                                  boards or ghosts differ in size.
+     */
+    public VectorEnv(List<PacmanGame> games) throws IllegalArgumentException {
+        if (games.isEmpty()) {
+            throw new IllegalArgumentException("no games");
+        }
+
+        this.games = games.toArray(new PacmanGame[0]);
+        var first = this.games[0];
+        this.width = first.getBoard().getWidth();
+        this.height = first.getBoard().getHeight();
+        int ghostCount = first.getGhosts().size();
+        this.channels = GHOST + ghostCount;
+
+        this.ghosts = new Ghost[this.games.length][];
+        for (int i = 0; i < this.games.length; i++) {
+            var game = this.games[i];
+            if (game.getBoard().getWidth() != width
+                    || game.getBoard().getHeight() != height
+                    || game.getGhosts().size() != ghostCount) {
+                throw new IllegalArgumentException(
+                        "game " + i + " differs in size from game 0");
+            }
+            ghosts[i] = game.getGhosts().toArray(new Ghost[0]);
+        }
+
+        int floats = this.games.length * channels * height * width;
+        this.buffer = ByteBuffer.allocateDirect(floats * Float.BYTES)
+                .order(ByteOrder.nativeOrder());
+        this.observations = buffer.asFloatBuffer();
+        this.marked = new int[this.games.length][1 + ghostCount];
+
+        this.scores = new int[this.games.length];
+        this.rewards = new float[this.games.length];
+        this.dones = new boolean[this.games.length];
+
+        for (var cells : marked) {
+            Arrays.fill(cells, -1);
+        }
+        reset();
+    }
+
+    /**
+     * @return the number of games stepped.
+     */
+    public int getCount() {
+        return games.length;
+    }
+
+    /**
+     * @param env index of the game.
+     * @return the env-th game.
+     */
+    public PacmanGame getGame(int env) {
+        return games[env];
+    }
+
+    /**
+     * @return the number of channels of each observation.
+     */
+    public int getChannels() {
+        return channels;
+    }
+
+    /**
+     * @return the width of each channel.
+     */
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * @return the height of each channel.
+     */
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * @return the commands given by each action, where action 0 is null
+     * and does nothing. The array must not be modified.
+     */
+    public static Command[] getActions() {
+        return ACTIONS;
+    }
+
+    /**
+     * @return the observations as floats, [env][channel][y][x].
+     */
+    public FloatBuffer getObservations() {
+        return observations;
+    }
+
+    /**
+     * @return the bytes backing {@link #getObservations()}, in native
+     * byte order.
+     */
+    public ByteBuffer getObservationBuffer() {
+        return buffer;
+    }
+
+    /**
+     * @return the reward each game got in the last step, which is updated
+     * in place by every step.
+     */
+    public float[] getRewards() {
+        return rewards;
+    }
+
+    /**
+     * @return whether each game was reset by the last step, which is
+     * updated in place by every step.
+     */
+    public boolean[] getDones() {
+        return dones;
+    }
+
+    /**
+     * Resets every game and writes their observations. Rewards are set to
+     * zero and done flags are cleared.
+     */
+    public void reset() {
+        for (int i = 0; i < games.length; i++) {
+            games[i].reset();
+            scores[i] = games[i].getScores().getScore();
+            rewards[i] = 0;
+            dones[i] = false;
+            observe(i);
+        }
+    }
+
+    /**
+     * Applies one action to each game and ticks them once, then writes
+     * their rewards, done flags and observations.
+     *
+     * @param actions index into {@link #getActions()} for each game.
+     * @throws IllegalArgumentException if there is not one action per game.
+     * @throws IndexOutOfBoundsException if an action is not valid.
+     */
+    public void step(int[] actions) throws IllegalArgumentException {
+        if (actions.length != games.length) {
+            throw new IllegalArgumentException("expected " + games.length
+                    + " actions but got " + actions.length);
+        }
+
+        for (int i = 0; i < games.length; i++) {
+            var game = games[i];
+            var command = ACTIONS[actions[i]];
+            if (command != null) {
+                command.apply(game);
+            }
+            game.tick();
+
+            int score = game.getScores().getScore();
+            rewards[i] = score - scores[i];
+            dones[i] = game.getLives() == 0;
+            if (dones[i]) {
+                game.reset();
+                score = game.getScores().getScore();
+            }
+            scores[i] = score;
+            observe(i);
+        }
+    }
+
+    /*
+     * Writes the observation of the env-th game.
+     */
+    private void observe(int env) {
+        PacmanBoard board = games[env].getBoard();
+        int plane = height * width;
+        int base = env * channels * plane;
+
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                var item = board.getEntry(x, y);
+                int cell = base + y * width + x;
+                observations.put(cell + WALL * plane,
+                        item == BoardItem.WALL ? 1f : 0f);
+                observations.put(cell + DOT * plane,
+                        item == BoardItem.DOT ? 1f : 0f);
+                observations.put(cell + BIG_DOT * plane,
+                        item == BoardItem.BIG_DOT ? 1f : 0f);
+            }
+        }
+
+        mark(env, 0, base + HUNTER * plane,
+                games[env].getHunter().getPosition());
+        for (int g = 0; g < ghosts[env].length; g++) {
+            mark(env, 1 + g, base + (GHOST + g) * plane,
+                    ghosts[env][g].getPosition());
+        }
+    }
+
+    /*
+     * Moves the single set cell of an entity's channel to its position,
+     * clearing the cell set by the previous observation.
+     */
+    private void mark(int env, int entity, int channel, Position position) {
+        int previous = marked[env][entity];
+        if (previous >= 0) {
+            observations.put(previous, 0f);
+        }
+
+        if (position == null
+                || position.getX() < 0 || position.getX() >= width
+                || position.getY() < 0 || position.getY() >= height) {
+            marked[env][entity] = -1;
+            return;
+        }
+
+        int index = channel + position.getY() * width + position.getX();
+        observations.put(index, 1f);
+        marked[env][entity] = index;
+    }
+}
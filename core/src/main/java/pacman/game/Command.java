@@ -0,0 +1,128 @@
+package pacman.game;
+
+import pacman.util.Direction;
+
+import static pacman.hunter.Hunter.SPECIAL_DURATION;
+
+/**
+ * Command is an action the player can take with a key press.
+ *
+ * <table border="1">
+ *   <caption>Enum Definitions</caption>
+ *   <tr><td> Command </td><td> Key </td></tr>
+ *   <tr><td>LEFT</td><td>A</td></tr>
+ *   <tr><td>RIGHT</td><td>D</td></tr>
+ *   <tr><td>UP</td><td>W</td></tr>
+ *   <tr><td>DOWN</td><td>S</td></tr>
+ *   <tr><td>SPECIAL</td><td>O</td></tr>
+ *   <tr><td>PAUSE</td><td>P</td></tr>
+ *   <tr><td>RESET</td><td>R</td></tr>
+ * </table>
+ */
+public enum Command {
+    /**
+     * Turns the hunter to face left.
+     */
+    LEFT("a", Direction.LEFT),
+    /**
+     * Turns the hunter to face right.
+     */
+    RIGHT("d", Direction.RIGHT),
+    /**
+     * Turns the hunter to face up.
+     */
+    UP("w", Direction.UP),
+    /**
+     * Turns the hunter to face down.
+     */
+    DOWN("s", Direction.DOWN),
+    /**
+     * Activates the hunter's special ability.
+     */
+    SPECIAL("o", null),
+    /**
+     * Pauses or unpauses the game.
+     */
+    PAUSE("p", null),
+    /**
+     * Resets the game.
+     */
+    RESET("r", null);
+
+    // key that gives this command, in lower case
+    private final String key;
+    // direction the hunter turns to, or null
+    private final Direction direction;
+
+    Command(String key, Direction direction) {
+        this.key = key;
+        this.direction = direction;
+    }
+
+    /**
+     * @return the direction this command turns the hunter to, or null if
+     * it is not a direction command.
+     */
+    public Direction getDirection() {
+        return direction;
+    }
+
+    /**
+     * Applies this command to the game.
+     *
+     * Direction commands set the hunter's direction. SPECIAL activates the
+     * hunter's special for Hunter.SPECIAL_DURATION, or keeps the remaining
+     * duration if it is already available. RESET resets the game. PAUSE
+     * does nothing as pausing is not part of the game's state.
+     *
+     * @param game to apply the command to.
+     */
+    public void apply(PacmanGame game) {
+        apply(game, 0);
+    }
+
+    /**
+     * Applies this command to the game as given by one of its players, so
+     * direction and SPECIAL commands act on that player's hunter. See
+     * {@link #apply(PacmanGame)}.
+     *
+     * @param game to apply the command to.
+     * @param player index of the hunter, see
+     *               {@link PacmanGame#getHunter(int)}.
+     */
+    public void apply(PacmanGame game, int player) {
+        var hunter = game.getHunter(player);
+        switch (this) {
+            case SPECIAL:
+                if (hunter.getSpecialDurationRemaining() > 0) {
+                    hunter.activateSpecial(
+                            hunter.getSpecialDurationRemaining());
+                } else {
+                    hunter.activateSpecial(SPECIAL_DURATION);
+                }
+                break;
+            case RESET:
+                game.reset();
+                break;
+            case PAUSE:
+                break;
+            default:
+                hunter.setDirection(direction);
+        }
+    }
+
+    /**
+     * Gets the command given by a key.
+     *
+     * @param key name of the key pressed, e.g. "W", in any case.
+     * @return the command for the key, or null if the key does nothing.
+     */
+    public static Command fromKey(String key) {
+        for (var command : values()) {
+            if (command.key.equalsIgnoreCase(key)) {
+                return command;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,138 @@
+package pacman.game;
+
+/**
+ * GameClock decides when a PacmanGame should tick based on elapsed time
+ * rather than on how many frames have been drawn, so the game runs at
+ * the same speed regardless of the display's refresh rate.
+ *
+ * Each level has a fixed tick interval. Elapsed time is accumulated and
+ * one tick is due for every whole interval. If the clock falls behind
+ * (e.g. after a long frame) at most a fixed number of ticks are caught
+ * up at once and the rest of the backlog is dropped.
+ *
+ * Usage:
+ * <pre>{@code
+ *     clock.advance(now);
+ *     while (clock.nextTick(game.getLevel())) {
+ *         game.tick();
+ *     }
+ * }</pre>
+ */
+public class GameClock {
+
+    // length of the 60Hz frames the level delays were originally given in
+    private static final long FRAME_NANOS = 1_000_000_000L / 60;
+    // frames between ticks for levels 0 to 8
+    private static final int[] LEVEL_DELAYS =
+            {50, 50, 40, 40, 30, 30, 20, 20, 20};
+    // frames between ticks for all higher levels
+    private static final int OTHER_LEVEL_DELAY = 10;
+
+    // most ticks that can be due after a single advance
+    private final int maxCatchUp;
+    // timestamp of the last advance, or -1 before the first
+    private long last = -1;
+    // time elapsed that has not yet been spent on ticks
+    private long accumulated;
+    // ticks that may still be taken since the last advance
+    private int remaining;
+
+    /**
+     * Creates a clock that catches up at most maxCatchUp ticks per
+     * advance. The first advance always makes one tick due, so a game
+     * ticks as soon as it starts.
+     *
+     * @param maxCatchUp most ticks due after one advance, at least 1.
+     */
+    public GameClock(int maxCatchUp) {
+        this.maxCatchUp = Integer.max(1, maxCatchUp);
+    }
+
+    /**
+     * Gets the time between ticks for the given level.
+     *
+     * <table border="1">
+     *   <caption>Tick intervals</caption>
+     *   <tr><td>levels</td><td>interval</td></tr>
+     *   <tr><td>0, 1</td><td>50/60 seconds</td></tr>
+     *   <tr><td>2, 3</td><td>40/60 seconds</td></tr>
+     *   <tr><td>4, 5</td><td>30/60 seconds</td></tr>
+     *   <tr><td>6, 7, 8</td><td>20/60 seconds</td></tr>
+     *   <tr><td>other</td><td>10/60 seconds</td></tr>
+     * </table>
+     *
+     * @param level of the game.
+     * @return nanoseconds between ticks.
+     */
+    public static long tickInterval(int level) {
+        if (level >= 0 && level < LEVEL_DELAYS.length) {
+            return LEVEL_DELAYS[level] * FRAME_NANOS;
+        }
+
+        return OTHER_LEVEL_DELAY * FRAME_NANOS;
+    }
+
+    /**
+     * Accumulates the time elapsed since the previous advance.
+     *
+     * @param now current time in nanoseconds, e.g. System.nanoTime().
+     */
+    public void advance(long now) {
+        if (last == -1) {
+            // the first tick is due straight away
+            accumulated = Long.MAX_VALUE / 2;
+            remaining = 1;
+        } else {
+            accumulated += now - last;
+            remaining = maxCatchUp;
+        }
+        last = now;
+    }
+
+    /**
+     * Moves the clock to now without accumulating the elapsed time, used
+     * while the game is paused so it does not catch up when resumed.
+     *
+     * @param now current time in nanoseconds.
+     */
+    public void skip(long now) {
+        if (last != -1) {
+            last = now;
+        }
+    }
+
+    /**
+     * Takes the next due tick if there is one.
+     *
+     * @param level of the game, which decides the tick interval.
+     * @return true if the game should tick now, false if no more ticks
+     * are due until the next advance.
+     */
+    public boolean nextTick(int level) {
+        long interval = tickInterval(level);
+
+        if (accumulated < interval) {
+            return false;
+        }
+
+        if (remaining == 0) {
+            // drop the backlog beyond the catch up limit
+            accumulated = 0;
+            return false;
+        }
+
+        accumulated -= interval;
+        remaining--;
+        return true;
+    }
+
+    /**
+     * Gets the time until the next tick is due at the given level.
+     *
+     * @param level of the game.
+     * @return nanoseconds until the next tick, 0 if one is already due.
+     */
+    public long nanosUntilNextTick(int level) {
+        return Long.max(0, tickInterval(level) - accumulated);
+    }
+}
@@ -0,0 +1,245 @@
+package pacman.game;
+
+import pacman.board.BoardItem;
+import pacman.board.BoardListener;
+import pacman.ghost.Ghost;
+import pacman.score.ScoreListener;
+import pacman.util.Position;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * GameEvents sends the changes made to one {@link PacmanGame} to its
+ * {@link GameListener}s, and the end of each tick to its
+ * {@link TickListener}s.
+ *
+ * Listeners are held in arrays that are replaced when a listener is added
+ * or removed, so sending an event allocates nothing and costs a single
+ * length check when nobody is listening. The bus listens to the board and
+ * score board of the game only while it has game listeners.
+ *
+ * The game itself sends the events, see {@link PacmanGame#getEvents()}.
+ */
+public class GameEvents implements BoardListener, ScoreListener {
+
+    private static final GameListener[] NO_LISTENERS = {};
+    private static final TickListener[] NO_TICK_LISTENERS = {};
+
+    // game whose events are sent
+    private final PacmanGame game;
+    // listeners, replaced rather than changed
+    private GameListener[] listeners = NO_LISTENERS;
+    private TickListener[] tickListeners = NO_TICK_LISTENERS;
+
+    /**
+     * Creates a bus with no listeners for the given game.
+     *
+     * @param game whose events are sent.
+     */
+    GameEvents(PacmanGame game) {
+        this.game = game;
+    }
+
+    /**
+     * Adds a listener that is told about every change to the game.
+     *
+     * @param listener to add, ignored if null.
+     */
+    public void addListener(GameListener listener) {
+        if (listener == null) {
+            return;
+        }
+        if (listeners.length == 0) {
+            game.getBoard().addListener(this);
+            game.getScores().addListener(this);
+        }
+        listeners = Arrays.copyOf(listeners, listeners.length + 1);
+        listeners[listeners.length - 1] = listener;
+    }
+
+    /**
+     * Removes a listener added by {@link #addListener(GameListener)}.
+     *
+     * @param listener to remove.
+     */
+    public void removeListener(GameListener listener) {
+        int index = indexOf(listeners, listener);
+        if (index == -1) {
+            return;
+        }
+        listeners = remove(listeners, index);
+        if (listeners.length == 0) {
+            game.getBoard().removeListener(this);
+            game.getScores().removeListener(this);
+        }
+    }
+
+    /**
+     * Adds a listener that is told about the end of every tick.
+     *
+     * @param listener to add, ignored if null.
+     */
+    public void addTickListener(TickListener listener) {
+        if (listener != null) {
+            tickListeners = Arrays.copyOf(tickListeners,
+                    tickListeners.length + 1);
+            tickListeners[tickListeners.length - 1] = listener;
+        }
+    }
+
+    /**
+     * Removes a listener added by {@link #addTickListener(TickListener)}.
+     *
+     * @param listener to remove.
+     */
+    public void removeTickListener(TickListener listener) {
+        int index = indexOf(tickListeners, listener);
+        if (index != -1) {
+            tickListeners = remove(tickListeners, index);
+        }
+    }
+
+    /**
+     * @return true if any game listener has been added.
+     */
+    public boolean hasListeners() {
+        return listeners.length > 0;
+    }
+
+    /**
+     * Sends that an entity moved, unless it is still at the same position.
+     *
+     * @param entity that moved.
+     * @param from position of the entity before it moved.
+     */
+    public void entityMoved(Entity entity, Position from) {
+        var current = listeners;
+        if (current.length == 0 || Objects.equals(entity.getPosition(), from)) {
+            return;
+        }
+        for (var listener : current) {
+            listener.entityMoved(entity, from);
+        }
+    }
+
+    /**
+     * Sends that the phase of a ghost changed.
+     *
+     * @param ghost whose phase changed.
+     */
+    public void phaseChanged(Ghost ghost) {
+        for (var listener : listeners) {
+            listener.phaseChanged(ghost);
+        }
+    }
+
+    /**
+     * Sends that a ghost was killed.
+     *
+     * @param ghost that was killed.
+     * @param hunter index of the hunter that killed it, or -1.
+     */
+    public void ghostKilled(Ghost ghost, int hunter) {
+        for (var listener : listeners) {
+            listener.ghostKilled(ghost, hunter);
+        }
+    }
+
+    /**
+     * Sends that the level changed.
+     *
+     * @param level the new level.
+     */
+    public void levelChanged(int level) {
+        for (var listener : listeners) {
+            listener.levelChanged(level);
+        }
+    }
+
+    /**
+     * Sends that the lives of a hunter changed.
+     *
+     * @param hunter index of the hunter.
+     * @param lives the hunter now has.
+     */
+    public void livesChanged(int hunter, int lives) {
+        for (var listener : listeners) {
+            listener.livesChanged(hunter, lives);
+        }
+    }
+
+    /**
+     * Sends the end of a tick to every tick and game listener.
+     */
+    public void ticked() {
+        for (var listener : tickListeners) {
+            listener.ticked(game);
+        }
+        for (var listener : listeners) {
+            listener.ticked(game);
+        }
+    }
+
+    /**
+     * Passes on a change to the board of the game.
+     */
+    @Override
+    public void entryChanged(Position position, BoardItem item) {
+        for (var listener : listeners) {
+            listener.entryChanged(position, item);
+        }
+    }
+
+    /**
+     * Passes on a reset of the board of the game.
+     */
+    @Override
+    public void boardReset() {
+        for (var listener : listeners) {
+            listener.boardReset();
+        }
+    }
+
+    /**
+     * Passes on a change to the current score.
+     */
+    @Override
+    public void scoreChanged(int score) {
+        for (var listener : listeners) {
+            listener.scoreChanged(score);
+        }
+    }
+
+    /**
+     * Passes on a change to the score entries.
+     */
+    @Override
+    public void entriesChanged() {
+        for (var listener : listeners) {
+            listener.entriesChanged();
+        }
+    }
+
+    /*
+     * Finds a listener by identity, returning -1 if it is not held.
+     */
+    private static int indexOf(Object[] array, Object listener) {
+        for (int i = 0; i < array.length; i++) {
+            if (array[i] == listener) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /*
+     * Returns a copy of the array without the element at index.
+     */
+    private static <T> T[] remove(T[] array, int index) {
+        T[] copy = Arrays.copyOf(array, array.length - 1);
+        System.arraycopy(array, index + 1, copy, index,
+                array.length - index - 1);
+        return copy;
+    }
+}
@@ -0,0 +1,75 @@
+package pacman.game;
+
+import pacman.board.BoardItem;
+import pacman.board.BoardListener;
+import pacman.ghost.Ghost;
+import pacman.score.ScoreListener;
+import pacman.util.Position;
+
+/**
+ * Listens for the changes made to a {@link PacmanGame}, so that views and
+ * recorders only do work when something changed rather than polling the
+ * game every frame.
+ *
+ * Every method does nothing by default, so a listener only overrides the
+ * events it needs. Events are sent on the thread changing the game, as
+ * the change is made.
+ *
+ * See {@link PacmanGame#addListener(GameListener)}
+ */
+public interface GameListener extends BoardListener, ScoreListener,
+        TickListener {
+
+    /**
+     * Called after an entity has moved, or been placed at a spawn.
+     *
+     * @param entity that moved.
+     * @param from position of the entity before it moved.
+     */
+    default void entityMoved(Entity entity, Position from) {}
+
+    /**
+     * Called after the phase of a ghost has changed.
+     *
+     * @param ghost whose phase changed.
+     */
+    default void phaseChanged(Ghost ghost) {}
+
+    /**
+     * Called when a ghost that was killed is respawned.
+     *
+     * @param ghost that was killed, already reset and at its spawn.
+     * @param hunter index of the hunter that killed it, or -1 if unknown.
+     */
+    default void ghostKilled(Ghost ghost, int hunter) {}
+
+    /**
+     * Called after the level has changed.
+     *
+     * @param level the new level.
+     */
+    default void levelChanged(int level) {}
+
+    /**
+     * Called after the lives of a hunter have changed.
+     *
+     * @param hunter index of the hunter, see {@link PacmanGame#getHunter(int)}.
+     * @param lives the hunter now has.
+     */
+    default void livesChanged(int hunter, int lives) {}
+
+    @Override
+    default void entryChanged(Position position, BoardItem item) {}
+
+    @Override
+    default void boardReset() {}
+
+    @Override
+    default void scoreChanged(int score) {}
+
+    @Override
+    default void entriesChanged() {}
+
+    @Override
+    default void ticked(PacmanGame game) {}
+}
@@ -0,0 +1,272 @@
+package pacman.game;
+
+import pacman.board.DirtyCells;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * GameLoop ticks a PacmanGame on its own thread so that slow ticks do not
+ * hold up drawing.
+ *
+ * Once started the loop owns the game: it must only be changed by
+ * commands given to {@link #submit(Consumer)}, which are run on the loop's
+ * thread straight away, or by player input given to
+ * {@link #offer(Command)}, which is applied just before the next tick.
+ * After every tick or command the loop publishes a {@link GameSnapshot}
+ * to a single slot that the renderer takes with {@link #poll()}. If the
+ * renderer falls behind, unread snapshots are replaced by newer ones,
+ * keeping their changed cells, so that only the latest frame is ever
+ * drawn.
+ */
+public class GameLoop implements Runnable {
+
+    // most player commands queued between ticks
+    private static final int INPUT_CAPACITY = 64;
+
+    // the game, only touched by the loop thread once started
+    private final PacmanGame game;
+    // decides when the game ticks
+    private final GameClock clock;
+    // changes to the game waiting to be run on the loop thread
+    private final Queue<Consumer<PacmanGame>> commands =
+            new ConcurrentLinkedQueue<>();
+    // player commands waiting for the next tick
+    private final InputRing input = new InputRing(INPUT_CAPACITY);
+    // latest snapshot not yet taken by the renderer, or null
+    private final AtomicReference<GameSnapshot> latest =
+            new AtomicReference<>();
+    // cells changed since the last snapshot was published
+    private final DirtyCells changed;
+
+    // score board entries as of the last command
+    private List<String> entriesByName;
+    private List<String> entriesByScore;
+    // modification count of the score board when the entries were read
+    private long entriesVersion = -1;
+
+    private volatile boolean paused = true;
+    private volatile boolean running;
+    private volatile Thread thread;
+
+    /**
+     * Creates a loop for the given game which starts paused.
+     *
+     * @param game to tick, which must not be used by other threads once
+     *             the loop is started.
+     * @param maxCatchUp most ticks made at once after falling behind, see
+     *                   {@link GameClock#GameClock(int)}.
+     */
+    public GameLoop(PacmanGame game, int maxCatchUp) {
+        this.game = game;
+        this.clock = new GameClock(maxCatchUp);
+        this.changed = new DirtyCells(game.getBoard().getWidth(),
+                game.getBoard().getHeight());
+        game.getBoard().addListener(changed);
+        readEntries();
+    }
+
+    /**
+     * Starts ticking the game on a new daemon thread. Does nothing if the
+     * loop is already running.
+     */
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        thread = new Thread(this, "pacman-game-loop");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Stops the loop thread after its current tick.
+     */
+    public synchronized void stop() {
+        running = false;
+        LockSupport.unpark(thread);
+    }
+
+    /**
+     * Queues a change to the game to be run on the loop thread before its
+     * next tick. Commands run in the order they are submitted.
+     *
+     * @param command to run with the game.
+     */
+    public void submit(Consumer<PacmanGame> command) {
+        commands.add(command);
+        wake();
+    }
+
+    /**
+     * Queues player input to be applied before the next tick. Must only be
+     * called from one thread, e.g. the one handling key presses.
+     *
+     * @param command to apply, see {@link #applyInput()}.
+     * @return true if queued, false if too much input is already waiting
+     * and the command was dropped.
+     */
+    public boolean offer(Command command) {
+        return input.offer(command);
+    }
+
+    /**
+     * @return the number of commands dropped by {@link #offer(Command)}.
+     */
+    public long getDroppedInputs() {
+        return input.getDropped();
+    }
+
+    /**
+     * Pauses or resumes ticking. No time elapses on the game clock while
+     * paused, but submitted commands are still run.
+     *
+     * @param paused true to stop ticking.
+     */
+    public void setPaused(boolean paused) {
+        this.paused = paused;
+        wake();
+    }
+
+    /**
+     * @return true if the loop is paused.
+     */
+    public boolean isPaused() {
+        return paused;
+    }
+
+    /**
+     * Takes the latest snapshot published by the loop. Each snapshot is
+     * returned at most once.
+     *
+     * @return the newest snapshot, or null if nothing has changed since
+     * the last call.
+     */
+    public GameSnapshot poll() {
+        return latest.getAndSet(null);
+    }
+
+    /**
+     * Runs the loop on the current thread until stopped. Called by the
+     * thread created in {@link #start()}.
+     */
+    @Override
+    public void run() {
+        publish();
+
+        while (running) {
+            boolean dirty = runCommands();
+
+            long now = System.nanoTime();
+            if (paused) {
+                clock.skip(now);
+            } else {
+                clock.advance(now);
+                while (clock.nextTick(game.getLevel())) {
+                    applyInput();
+                    game.tick();
+                    dirty = true;
+                }
+            }
+
+            if (dirty) {
+                publish();
+            }
+
+            // submit and setPaused unpark the thread, so sleep until the
+            // next tick or indefinitely while paused
+            if (commands.isEmpty() && running) {
+                if (paused) {
+                    LockSupport.park(this);
+                } else {
+                    LockSupport.parkNanos(this,
+                            clock.nanosUntilNextTick(game.getLevel()));
+                }
+            }
+        }
+    }
+
+    /*
+     * Runs all queued commands, returning whether any were run.
+     */
+    private boolean runCommands() {
+        boolean ran = false;
+        Consumer<PacmanGame> command;
+        while ((command = commands.poll()) != null) {
+            command.accept(game);
+            ran = true;
+        }
+
+        // only commands change the score board entries
+        if (ran) {
+            readEntries();
+        }
+        return ran;
+    }
+
+    /*
+     * Applies the player input queued since the last tick in order, except
+     * that only the last direction pressed is applied.
+     */
+    private void applyInput() {
+        Command direction = null;
+        Command command;
+        while ((command = input.poll()) != null) {
+            if (command.getDirection() != null) {
+                direction = command;
+            } else {
+                command.apply(game);
+            }
+        }
+
+        if (direction != null) {
+            direction.apply(game);
+        }
+    }
+
+    /*
+     * Copies the score board entries to share with snapshots if they have
+     * changed since they were last read.
+     */
+    private void readEntries() {
+        var scores = game.getScores();
+        if (scores.getModCount() == entriesVersion) {
+            return;
+        }
+        entriesByName = List.copyOf(scores.getEntriesByName());
+        entriesByScore = List.copyOf(scores.getEntriesByScore());
+        entriesVersion = scores.getModCount();
+    }
+
+    /*
+     * Publishes a snapshot of the game, keeping the changed cells of an
+     * unread snapshot it replaces.
+     */
+    private void publish() {
+        var snapshot = new GameSnapshot(game, new DirtyCells(changed),
+                entriesByName, entriesByScore, entriesVersion);
+        changed.clear();
+
+        GameSnapshot previous;
+        GameSnapshot next;
+        do {
+            previous = latest.get();
+            next = previous == null ? snapshot : snapshot.mergedWith(previous);
+        } while (!latest.compareAndSet(previous, next));
+    }
+
+    /*
+     * Wakes the loop thread if it is waiting.
+     */
+    private void wake() {
+        var current = thread;
+        if (current != null) {
+            LockSupport.unpark(current);
+        }
+    }
+}
@@ -1,10 +1,12 @@
 package pacman.game;
 
+import pacman.board.BoardAnalysis;
 import pacman.board.BoardItem;
 import pacman.board.PacmanBoard;
 import pacman.ghost.Ghost;
 import pacman.ghost.Phase;
 import pacman.hunter.*;
+import pacman.metrics.GameLoadEvent;
 import pacman.util.Direction;
 import pacman.util.Position;
 import pacman.util.UnpackableException;
@@ -12,6 +14,9 @@ import pacman.util.UnpackableException;
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
@@ -30,6 +35,8 @@ public class GameReader {
             "blinky", "inky", "pinky", "clyde");
     // number of comma separated elements in hunter and ghost value strings
     private static final int HUNTER_STRING_ITEMS = 5;
+    // further elements, lives and score, of hunters in multi-hunter games
+    private static final int HUNTER_TALLY_ITEMS = 2;
     private static final int GHOST_STRING_ITEMS = 4;
 
     /**
@@ -82,6 +89,13 @@ public class GameReader {
      *      where x and y are integers, DIRECTION is the string representation
      *      of a DIRECTION and the special duration is a integer greater than
      *      or equal to zero.</td></tr>
+     *   <tr><td>hunter1, hunter2, ...</td><td>Optional, any further hunters
+     *      in the same format as hunter. They must be numbered from 1 with
+     *      no gaps and start with the game's lives. In a game with several
+     *      hunters every hunter may be followed by two more attributes,
+     *      <br>lives, score<br>
+     *      the hunter's own lives and share of the score, integers greater
+     *      than or equal to zero.</td></tr>
      *   <tr><td>blinky|inky|pinky|clyde</td><td>A comma separated list of 
      *      attributes in the following order: 
      *      <br>x,y,DIRECTION,PHASE:PhaseDuration<br>
@@ -104,17 +118,126 @@ public class GameReader {
      */
     public static PacmanGame read(Reader reader) throws UnpackableException,
             IOException {
-        var betterReader = new SmoothReader(reader);
-        
-        var board = readGameBoard(betterReader);
-        var game = readGame(betterReader, board);
-        var scores = readScores(betterReader);
+        var event = new GameLoadEvent();
+        event.begin();
+        String loaded = null;
+
+        try {
+            var betterReader = new SmoothReader(reader);
+
+            var board = readGameBoard(betterReader);
+            var game = readGame(betterReader, board);
+            var scores = readScores(betterReader);
+
+            game.getScores().setScores(scores);
+
+            loaded = game.getTitle();
+            return game;
+        } finally {
+            event.finish(loaded);
+        }
+    }
 
-        game.getScores().setScores(scores);
+    /**
+     * Reads a game from a map file as {@link #read(Reader)} does, then
+     * checks that its board can be cleared, see {@link BoardAnalysis}.
+     * The analysis is cached as described in
+     * {@link #analyse(Path, PacmanBoard)}.
+     *
+     * @param map file to read.
+     * @param prune whether to wall in dots the hunter cannot reach rather
+     *              than refuse the map.
+     * @return a PacmanGame that reflects the state from the map.
+     * @throws UnpackableException when the saved data is invalid, the
+     * board has no pacman spawn, or the board has dots the hunter cannot
+     * reach and prune is false.
+     * @throws IOException when unable to read the map.
+     */
+    public static PacmanGame read(Path map, boolean prune)
+            throws UnpackableException, IOException {
+        PacmanGame game;
+        try (var reader = Files.newBufferedReader(map)) {
+            game = read(reader);
+        }
 
+        var analysis = analyse(map, game.getBoard());
+        if (!analysis.hasPacmanSpawn()) {
+            throw new UnpackableException("Board has no pacman spawn");
+        }
+        if (analysis.getUnreachableDots() > 0) {
+            if (!prune) {
+                throw new UnpackableException("Board has "
+                        + analysis.getUnreachableDots()
+                        + " dots that cannot be reached");
+            }
+            analysis.prune(game.getBoard());
+        }
         return game;
     }
 
+    /**
+     * Analyses the board read from a map file, reusing the analysis
+     * cached in a file beside the map, named after it with ".analysis"
+     * added, when the map has the same size and modification time as when
+     * it was cached. Otherwise the board is analysed and the cache is
+     * written, unless the map's directory cannot be written to. The cache
+     * is written to a temporary file that is then moved over it, so a
+     * reader never sees it half written.
+     *
+     * @param map file the board was read from.
+     * @param board read from the map, before any changes.
+     * @return the analysis of the board.
+     * @throws IOException when unable to read the map's attributes.
+     */
+    public static BoardAnalysis analyse(Path map, PacmanBoard board)
+            throws IOException {
+        String key = Files.size(map) + ","
+                + Files.getLastModifiedTime(map).toMillis();
+        var cache = map.resolveSibling(map.getFileName() + ".analysis");
+
+        if (Files.isReadable(cache)) {
+            try (var reader = Files.newBufferedReader(cache)) {
+                var cached = BoardAnalysis.read(reader, key);
+                if (cached != null && cached.getWidth() == board.getWidth()
+                        && cached.getHeight() == board.getHeight()) {
+                    return cached;
+                }
+            }
+        }
+
+        var analysis = BoardAnalysis.analyse(board);
+        writeCache(cache, analysis, key);
+        return analysis;
+    }
+
+    /*
+     * Writes an analysis to a temporary file beside the cache and moves it
+     * into place. Failures are ignored, as the cache only saves time and
+     * the map still loads without it.
+     */
+    private static void writeCache(Path cache, BoardAnalysis analysis,
+            String key) {
+        Path temp = null;
+        try {
+            temp = Files.createTempFile(cache.toAbsolutePath().getParent(),
+                    cache.getFileName().toString(), ".tmp");
+            try (var writer = Files.newBufferedWriter(temp)) {
+                analysis.write(writer, key);
+            }
+            Files.move(temp, cache, StandardCopyOption.ATOMIC_MOVE,
+                    StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            // leave the previous cache, if any, to be checked next time
+            try {
+                if (temp != null) {
+                    Files.deleteIfExists(temp);
+                }
+            } catch (IOException ignored) {
+                // nothing more can be done
+            }
+        }
+    }
+
     /*
      * Reads a game board.
      */
@@ -181,16 +304,34 @@ public class GameReader {
         }
 
         var assignments = readBlock(reader);
-        if (!assignments.getKeys().equals(GAME_KEYS)) {
+        if (!assignments.getKeys().containsAll(GAME_KEYS)) {
             throw new UnpackableException("Missing elements in game block.");
         }
 
+        // the only other keys allowed are hunter1 to hunterN
+        int extraHunters = assignments.getKeys().size() - GAME_KEYS.size();
+        for (int i = 1; i <= extraHunters; i++) {
+            if (!assignments.getKeys().contains("hunter" + i)) {
+                throw new UnpackableException(
+                        "Unknown elements in game block.");
+            }
+        }
+
         // create the game
         var game = new PacmanGame(
                 assignments.getValue("title"),
                 assignments.getValue("author"),
                 createHunter(assignments.getValue("hunter"), board),
                 board);
+        for (int i = 1; i <= extraHunters; i++) {
+            game.addHunter(
+                    createHunter(assignments.getValue("hunter" + i), board));
+        }
+        int[][] tallies = new int[extraHunters + 1][];
+        tallies[0] = readTally(assignments.getValue("hunter"));
+        for (int i = 1; i <= extraHunters; i++) {
+            tallies[i] = readTally(assignments.getValue("hunter" + i));
+        }
 
         for (var key : assignments.getKeys()) {
             switch (key) {
@@ -215,8 +356,40 @@ public class GameReader {
             }
         }
 
+        // each hunter's own lives and score override the game's
+        for (int i = 0; i < tallies.length; i++) {
+            if (tallies[i] != null) {
+                game.setLives(i, tallies[i][0]);
+                game.getScores().increasePlayerScore(i, tallies[i][1]);
+            }
+        }
+
         return game;
     }
+
+    /*
+     * Reads the lives and score that follow a hunter's attributes, or
+     * returns null if the hunter has none.
+     */
+    private static int[] readTally(String info) throws UnpackableException {
+        var parts = info.split(",");
+        if (parts.length == HUNTER_STRING_ITEMS) {
+            return null;
+        }
+        int[] tally = new int[HUNTER_TALLY_ITEMS];
+        try {
+            for (int i = 0; i < HUNTER_TALLY_ITEMS; i++) {
+                tally[i] = Integer.parseInt(parts[HUNTER_STRING_ITEMS + i]);
+            }
+        } catch (NumberFormatException e) {
+            throw new UnpackableException("Invalid hunter lives or score");
+        }
+        if (tally[0] < 0 || tally[1] < 0) {
+            throw new UnpackableException("Hunter lives and score must be "
+                    + ">= 0");
+        }
+        return tally;
+    }
     
     /*
      * Turns a hunter info string into a Hunter instance.
@@ -227,7 +400,8 @@ public class GameReader {
         
         Hunter hunter;
         var parts = info.split(",");
-        if (parts.length != HUNTER_STRING_ITEMS) {
+        if (parts.length != HUNTER_STRING_ITEMS
+                && parts.length != HUNTER_STRING_ITEMS + HUNTER_TALLY_ITEMS) {
             throw new UnpackableException("Invalid hunter assignment");
         }
         
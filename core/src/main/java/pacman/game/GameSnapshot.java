@@ -0,0 +1,233 @@
+package pacman.game;
+
+import pacman.board.DirtyCells;
+import pacman.board.PacmanBoard;
+import pacman.ghost.Ghost;
+import pacman.ghost.Phase;
+import pacman.util.Direction;
+import pacman.util.Position;
+
+import java.util.List;
+
+/**
+ * GameSnapshot is a copy of everything needed to draw a PacmanGame at
+ * one moment, so that it can be drawn on one thread while the game keeps
+ * ticking on another.
+ *
+ * Snapshots are never modified after they are published by a
+ * {@link GameLoop}, so they may be read from any thread. The board and
+ * the dirty cells are copies that readers must not modify. The board is a
+ * {@link PacmanBoard#fork()}, so taking a snapshot does not copy the
+ * cells. The game copies any tile it shares with the snapshot before it
+ * changes that tile.
+ */
+public class GameSnapshot {
+
+    // fork of the game board, sharing its cells until the game changes
+    private final PacmanBoard board;
+    // cells changed since the previous snapshot that was taken
+    private final DirtyCells changedCells;
+
+    // hunter state
+    private final Position hunterPosition;
+    private final Direction hunterDirection;
+    private final boolean hunterSpecialActive;
+
+    // ghost state, in the order of PacmanGame.getGhosts()
+    private final Position[] ghostPositions;
+    private final Phase[] ghostPhases;
+
+    // game state
+    private final int lives;
+    private final int level;
+    private final int tick;
+    private final int score;
+
+    // score board entries, see ScoreBoard.getEntriesByName/ByScore
+    private final List<String> entriesByName;
+    private final List<String> entriesByScore;
+    // ScoreBoard.getModCount() when the entries were read
+    private final long entriesVersion;
+
+    /**
+     * Copies the state of the given game.
+     *
+     * @param game to copy.
+     * @param changedCells cells changed since the previous snapshot, which
+     *                     the snapshot takes ownership of.
+     * @param entriesByName the score board entries sorted by name.
+     * @param entriesByScore the score board entries sorted by score.
+     * @param entriesVersion modification count of the score board when
+     *                       the entries were read.
+     */
+    GameSnapshot(PacmanGame game, DirtyCells changedCells,
+            List<String> entriesByName, List<String> entriesByScore,
+            long entriesVersion) {
+        this.board = game.getBoard().fork();
+        this.changedCells = changedCells;
+
+        var hunter = game.getHunter();
+        this.hunterPosition = hunter.getPosition();
+        this.hunterDirection = hunter.getDirection();
+        this.hunterSpecialActive = hunter.isSpecialActive();
+
+        List<Ghost> ghosts = game.getGhosts();
+        this.ghostPositions = new Position[ghosts.size()];
+        this.ghostPhases = new Phase[ghosts.size()];
+        for (int i = 0; i < ghosts.size(); i++) {
+            ghostPositions[i] = ghosts.get(i).getPosition();
+            ghostPhases[i] = ghosts.get(i).getPhase();
+        }
+
+        this.lives = game.getLives();
+        this.level = game.getLevel();
+        this.tick = game.getTick();
+        this.score = game.getScores().getScore();
+        this.entriesByName = entriesByName;
+        this.entriesByScore = entriesByScore;
+        this.entriesVersion = entriesVersion;
+    }
+
+    /*
+     * Copies other with a different set of changed cells.
+     */
+    private GameSnapshot(GameSnapshot other, DirtyCells changedCells) {
+        this.board = other.board;
+        this.changedCells = changedCells;
+        this.hunterPosition = other.hunterPosition;
+        this.hunterDirection = other.hunterDirection;
+        this.hunterSpecialActive = other.hunterSpecialActive;
+        this.ghostPositions = other.ghostPositions;
+        this.ghostPhases = other.ghostPhases;
+        this.lives = other.lives;
+        this.level = other.level;
+        this.tick = other.tick;
+        this.score = other.score;
+        this.entriesByName = other.entriesByName;
+        this.entriesByScore = other.entriesByScore;
+        this.entriesVersion = other.entriesVersion;
+    }
+
+    /**
+     * Creates a copy of this snapshot whose changed cells also include
+     * those of an earlier snapshot, for when the earlier one was replaced
+     * before it was drawn.
+     *
+     * @param earlier snapshot taken before this one.
+     * @return a snapshot with the changed cells of both.
+     */
+    GameSnapshot mergedWith(GameSnapshot earlier) {
+        var cells = new DirtyCells(changedCells);
+        cells.merge(earlier.changedCells);
+        return new GameSnapshot(this, cells);
+    }
+
+    /**
+     * @return a copy of the game board, which must not be modified.
+     */
+    public PacmanBoard getBoard() {
+        return board;
+    }
+
+    /**
+     * @return the board cells changed since the previous snapshot that
+     * was drawn, which must not be modified.
+     */
+    public DirtyCells getChangedCells() {
+        return changedCells;
+    }
+
+    /**
+     * @return position of the hunter.
+     */
+    public Position getHunterPosition() {
+        return hunterPosition;
+    }
+
+    /**
+     * @return direction the hunter is facing.
+     */
+    public Direction getHunterDirection() {
+        return hunterDirection;
+    }
+
+    /**
+     * @return true if the hunter's special is active.
+     */
+    public boolean isHunterSpecialActive() {
+        return hunterSpecialActive;
+    }
+
+    /**
+     * @return the number of ghosts in the game.
+     */
+    public int getGhostCount() {
+        return ghostPositions.length;
+    }
+
+    /**
+     * @param i index of the ghost in PacmanGame.getGhosts().
+     * @return position of the i-th ghost.
+     */
+    public Position getGhostPosition(int i) {
+        return ghostPositions[i];
+    }
+
+    /**
+     * @param i index of the ghost in PacmanGame.getGhosts().
+     * @return phase of the i-th ghost.
+     */
+    public Phase getGhostPhase(int i) {
+        return ghostPhases[i];
+    }
+
+    /**
+     * @return lives the player has left.
+     */
+    public int getLives() {
+        return lives;
+    }
+
+    /**
+     * @return level of the game.
+     */
+    public int getLevel() {
+        return level;
+    }
+
+    /**
+     * @return tick of the game, see {@link PacmanGame#getTick()}.
+     */
+    public int getTick() {
+        return tick;
+    }
+
+    /**
+     * @return current score of the game.
+     */
+    public int getScore() {
+        return score;
+    }
+
+    /**
+     * @return unmodifiable score board entries sorted by name.
+     */
+    public List<String> getEntriesByName() {
+        return entriesByName;
+    }
+
+    /**
+     * @return unmodifiable score board entries sorted by score.
+     */
+    public List<String> getEntriesByScore() {
+        return entriesByScore;
+    }
+
+    /**
+     * @return the score board's modification count when the entries were
+     * read, see {@link pacman.score.ScoreBoard#getModCount()}.
+     */
+    public long getEntriesVersion() {
+        return entriesVersion;
+    }
+}
@@ -1,6 +1,7 @@
 package pacman.game;
 
 import pacman.board.PacmanBoard;
+import pacman.metrics.GameSaveEvent;
 import pacman.score.ScoreBoard;
 
 import java.io.IOException;
@@ -25,10 +26,13 @@ public class GameWriter {
      * <p>
      * On the next line is the "[Game]" block which
      * will output the following assignments in order ( title, author,
-     * lives, level, score, hunter, blinky, inky, pinky, clyde ). The
+     * lives, level, score, hunter, blinky, inky, pinky, clyde ), with
+     * hunter1 to hunterN after hunter for any further hunters. The
      * assignments are to have a single space before and after the
      * equals sign. The assignments for ( hunter, blinky, inky, pinky,
      * clyde) are to be the toString representation of these entities.
+     * When there are several hunters each one is followed by its own
+     * lives and share of the score, e.g. "1,1,UP,0,PHIL,2,120".
      * Each assignment is to be on its own line.
      * </p>
      * One blank line.
@@ -49,11 +53,21 @@ public class GameWriter {
      */
     public static void write(Writer writer, PacmanGame game)
             throws IOException {
-        writeBoardBlock(writer, game.getBoard());
-        writer.write(System.lineSeparator());
-        writeGameBlock(writer, game);
-        writer.write(System.lineSeparator());
-        writeScoresBlock(writer, game.getScores());
+        var event = new GameSaveEvent();
+        event.begin();
+        boolean saved = false;
+
+        try {
+            writeBoardBlock(writer, game.getBoard());
+            writer.write(System.lineSeparator());
+            writeGameBlock(writer, game);
+            writer.write(System.lineSeparator());
+            writeScoresBlock(writer, game.getScores());
+
+            saved = true;
+        } finally {
+            event.finish(game.getTitle(), saved);
+        }
     }
 
     /*
@@ -100,8 +114,11 @@ public class GameWriter {
         writer.write(String.format("score = %d%n",
                 game.getScores().getScore()));
 
-        writer.write(String.format("hunter = %s%n",
-                game.getHunter().toString()));
+        writer.write(String.format("hunter = %s%n", hunterInfo(game, 0)));
+        for (int i = 1; i < game.getHunterCount(); i++) {
+            writer.write(String.format("hunter%d = %s%n", i,
+                    hunterInfo(game, i)));
+        }
         
         // write ghosts
         for (var ghost : game.getGhosts()) {
@@ -111,4 +128,16 @@ public class GameWriter {
         }
     }
 
+    /*
+     * Describes a hunter, followed by its own lives and score when the
+     * game has several hunters.
+     */
+    private static String hunterInfo(PacmanGame game, int hunter) {
+        String info = game.getHunter(hunter).toString();
+        if (game.getHunterCount() == 1) {
+            return info;
+        }
+        return String.format("%s,%d,%d", info, game.getLives(hunter),
+                game.getScores().getPlayerScore(hunter));
+    }
 }
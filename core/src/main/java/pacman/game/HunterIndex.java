@@ -0,0 +1,142 @@
+package pacman.game;
+
+import pacman.hunter.Hunter;
+import pacman.util.Position;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * HunterIndex finds the hunter nearest to a position without checking
+ * every hunter, for games with many hunters.
+ *
+ * Hunters are put in square buckets of the board by their position, and
+ * searches check rings of buckets outwards from the position until no
+ * closer hunter can be found. The index must be rebuilt whenever hunters
+ * move.
+ */
+class HunterIndex {
+
+    // width and height of a bucket in cells
+    private static final int BUCKET = 8;
+
+    // size of the grid of buckets
+    private final int columns;
+    private final int rows;
+    // first hunter in each bucket, or -1
+    private final int[] heads;
+    // next hunter in the same bucket as each hunter, or -1
+    private int[] next = new int[0];
+
+    // hunters indexed, by index in the game
+    private List<Hunter> hunters;
+
+    /**
+     * Creates an empty index for a board of the given size.
+     *
+     * @param width of the board.
+     * @param height of the board.
+     */
+    HunterIndex(int width, int height) {
+        this.columns = Math.max(1, (width + BUCKET - 1) / BUCKET);
+        this.rows = Math.max(1, (height + BUCKET - 1) / BUCKET);
+        this.heads = new int[columns * rows];
+        Arrays.fill(heads, -1);
+    }
+
+    /**
+     * Indexes the positions of the hunters which have lives left.
+     *
+     * @param hunters of the game.
+     * @param lives of each hunter.
+     */
+    void rebuild(List<Hunter> hunters, int[] lives) {
+        this.hunters = hunters;
+        Arrays.fill(heads, -1);
+        if (next.length < hunters.size()) {
+            next = new int[hunters.size()];
+        }
+
+        // added in reverse so each bucket lists hunters in index order
+        for (int i = hunters.size() - 1; i >= 0; i--) {
+            if (lives[i] == 0) {
+                continue;
+            }
+            int bucket = bucket(hunters.get(i).getPosition());
+            next[i] = heads[bucket];
+            heads[bucket] = i;
+        }
+    }
+
+    /**
+     * Finds the indexed hunter nearest to a position, by euclidean
+     * distance. Ties go to the hunter added to the game first.
+     *
+     * @param position to search from, which may be off the board.
+     * @return index of the nearest hunter, or -1 if none are indexed.
+     */
+    int nearest(Position position) {
+        int column = clamp(position.getX() / BUCKET, columns);
+        int row = clamp(position.getY() / BUCKET, rows);
+        int rings = Math.max(columns, rows);
+
+        int best = -1;
+        long bestDistance = Long.MAX_VALUE;
+        for (int ring = 0; ring <= rings; ring++) {
+            for (int r = row - ring; r <= row + ring; r++) {
+                if (r < 0 || r >= rows) {
+                    continue;
+                }
+                // whole rows at the top and bottom, ends of the others
+                int step = r == row - ring || r == row + ring
+                        ? 1 : Math.max(1, 2 * ring);
+                for (int c = column - ring; c <= column + ring; c += step) {
+                    if (c < 0 || c >= columns) {
+                        continue;
+                    }
+                    for (int i = heads[r * columns + c]; i != -1;
+                            i = next[i]) {
+                        long distance = squaredDistance(position,
+                                hunters.get(i).getPosition());
+                        if (distance < bestDistance
+                                || distance == bestDistance && i < best) {
+                            best = i;
+                            bestDistance = distance;
+                        }
+                    }
+                }
+            }
+
+            // every bucket of the next ring is further than ring buckets
+            long reach = (long) ring * BUCKET;
+            if (best != -1 && bestDistance <= reach * reach) {
+                break;
+            }
+        }
+        return best;
+    }
+
+    /*
+     * Returns the bucket a position is in, clamping it onto the grid.
+     */
+    private int bucket(Position position) {
+        return clamp(position.getY() / BUCKET, rows) * columns
+                + clamp(position.getX() / BUCKET, columns);
+    }
+
+    /*
+     * Clamps value to [0, size).
+     */
+    private static int clamp(int value, int size) {
+        return Math.max(0, Math.min(size - 1, value));
+    }
+
+    /*
+     * Returns the square of the euclidean distance between two positions.
+     */
+    private static long squaredDistance(Position a, Position b) {
+        long dx = a.getX() - b.getX();
+        long dy = a.getY() - b.getY();
+        return dx * dx + dy * dy;
+    }
+}
@@ -0,0 +1,102 @@
+package pacman.game;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * InputRing is a fixed size queue of commands passed from one thread
+ * that reads input to one thread that applies it.
+ *
+ * Only a single thread may call {@link #offer(Command)} and only a single
+ * (possibly different) thread may call {@link #poll()}. Neither allocates
+ * or blocks: when the ring is full new commands are dropped and counted.
+ */
+public class InputRing {
+
+    // slots for queued commands, the length is a power of two
+    private final Command[] slots;
+    // slots.length - 1, masks a sequence number to a slot index
+    private final int mask;
+    // sequence number of the next command to poll
+    private final AtomicLong head = new AtomicLong();
+    // sequence number of the next command to offer
+    private final AtomicLong tail = new AtomicLong();
+    // commands dropped because the ring was full
+    private final AtomicLong dropped = new AtomicLong();
+
+    /**
+     * Creates an empty ring holding at least the given number of commands.
+     *
+     * @param capacity least number of commands held, at least 1.
+     */
+    public InputRing(int capacity) {
+        int size = Integer.highestOneBit(Integer.max(1, capacity));
+        if (size < capacity) {
+            size <<= 1;
+        }
+        this.slots = new Command[size];
+        this.mask = size - 1;
+    }
+
+    /**
+     * @return the number of commands the ring can hold.
+     */
+    public int capacity() {
+        return slots.length;
+    }
+
+    /**
+     * Adds a command to the end of the ring. Must only be called by the
+     * producing thread.
+     *
+     * @param command to add.
+     * @return true if it was added, false if the ring was full and the
+     * command was dropped.
+     */
+    public boolean offer(Command command) {
+        long t = tail.get();
+        if (t - head.get() == slots.length) {
+            dropped.incrementAndGet();
+            return false;
+        }
+
+        slots[(int) t & mask] = command;
+        // publishes the slot to the consumer
+        tail.lazySet(t + 1);
+        return true;
+    }
+
+    /**
+     * Removes the command at the front of the ring. Must only be called by
+     * the consuming thread.
+     *
+     * @return the oldest command, or null if the ring is empty.
+     */
+    public Command poll() {
+        long h = head.get();
+        if (h == tail.get()) {
+            return null;
+        }
+
+        int index = (int) h & mask;
+        var command = slots[index];
+        slots[index] = null;
+        // frees the slot for the producer
+        head.lazySet(h + 1);
+        return command;
+    }
+
+    /**
+     * @return true if there are no commands in the ring.
+     */
+    public boolean isEmpty() {
+        return head.get() == tail.get();
+    }
+
+    /**
+     * @return the total number of commands dropped because the ring was
+     * full.
+     */
+    public long getDropped() {
+        return dropped.get();
+    }
+}
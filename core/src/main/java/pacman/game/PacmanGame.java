@@ -0,0 +1,772 @@
+package pacman.game;
+
+import pacman.board.PacmanBoard;
+import pacman.ghost.*;
+import pacman.hunter.*;
+import pacman.metrics.GhostKillEvent;
+import pacman.metrics.GhostsFrightenedEvent;
+import pacman.metrics.HunterDeathEvent;
+import pacman.metrics.LevelAdvanceEvent;
+import pacman.metrics.MetricsRegistry;
+import pacman.metrics.TickPhase;
+import pacman.metrics.TickTimer;
+import pacman.score.ScoreBoard;
+import pacman.util.Position;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * PacmanGame stores the game's state and acts as the model for
+ * the entire game.
+ *
+ * A game has one hunter controlled by the player, and may have more added
+ * with {@link #addHunter(Hunter)}, e.g. to load test an arena with many
+ * players. Each hunter has its own lives and its own share of the score.
+ *
+ * @ass2
+ */
+public class PacmanGame {
+
+    // default number of lives for player
+    private static final int DEFAULT_LIVES = 4;
+    // score increase for ghost kill
+    private static final int GHOST_SCORE = 200;
+
+    // title and author of this game
+    private String title;
+    private String author;
+
+    // the game board
+    private PacmanBoard board;
+
+    // the game entities, the first hunter is also kept as hunter
+    private Hunter hunter;
+    private List<Hunter> hunters = new ArrayList<>();
+    private List<Ghost> ghosts = new ArrayList<>();
+    
+    // level state
+    private int level = 0;
+    // lives of each hunter, in the order of hunters
+    private int[] lives = {DEFAULT_LIVES};
+    private int tick = 0;
+    // state of the game's random numbers, so that replaying the same
+    // commands from a copy of the game plays out the same way
+    private long seed;
+
+    // finds the hunter nearest to a ghost when there are several
+    private HunterIndex hunterIndex;
+    // whether hunters have moved since the index was built
+    private boolean indexStale = true;
+    // index of the hunter that killed each ghost this tick, or -1
+    private int[] killedBy;
+
+    // scores for the game
+    private ScoreBoard scoreBoard = new ScoreBoard();
+
+    // times the phases of each tick
+    private TickTimer timer = new TickTimer();
+    // sends changes to listeners, which are not copied with the game
+    private final GameEvents events = new GameEvents(this);
+
+    /**
+     * Creates a new game with the given parameters and spawns one of
+     * each type of ghost (Blinky, Clyde, Inky, Pinky). The ghosts
+     * should be spawned at the ghost spawn point.
+     * 
+     * <p>The game should start with:</p>
+     * <ul>
+     *     <li>a tick of 0.</li>
+     *     <li>a level of 0.</li>
+     *     <li>a set of 4 lives.</li>
+     *     <li>a empty scoreboard with a initial score of 0.</li>
+     * </ul>
+     *
+     * @requires title != null and author != null and hunter != null
+     *      and board != null and board contains a spawn point for Ghosts
+     *      and for the hunter.
+     * @param title of the game board.
+     * @param author of the game board.
+     * @param hunter for the current game.
+     * @param board to be copied for this game.
+     * @ass2
+     */
+    public PacmanGame(String title, String author, Hunter hunter, 
+            PacmanBoard board) {
+        
+        this.title = title;
+        this.author = author;
+        this.board = new PacmanBoard(board);
+        this.hunter = hunter;
+        hunters.add(hunter);
+
+        ghosts.addAll(
+                List.of(new Blinky(), new Clyde(), new Inky(), new Pinky()));
+        killedBy = new int[ghosts.size()];
+
+        for (Ghost ghost : ghosts) {
+            ghost.setPosition(board.getGhostSpawn());
+        }
+    }
+
+    /*
+     * Copies the state of the original game, sharing its board cells and
+     * score entries until they are changed.
+     */
+    private PacmanGame(PacmanGame original) {
+        this.title = original.title;
+        this.author = original.author;
+        this.board = original.board.fork();
+        for (var originalHunter : original.hunters) {
+            hunters.add(copy(originalHunter));
+        }
+        this.hunter = hunters.get(0);
+        for (var ghost : original.ghosts) {
+            ghosts.add(copy(ghost));
+        }
+        this.killedBy = new int[ghosts.size()];
+        this.level = original.level;
+        this.lives = original.lives.clone();
+        this.tick = original.tick;
+        this.seed = original.seed;
+        this.scoreBoard = original.scoreBoard.fork();
+    }
+
+    /**
+     * Creates a copy of this game that can be played without changing
+     * this one, e.g. to look ahead. The board and score board are shared
+     * with this game until either game changes them, so forking is cheap.
+     * The copy records no metrics and neither it nor its board has
+     * listeners.
+     *
+     * A game must not be forked by several threads at once unless it is
+     * itself a fork that has not been ticked since it was made.
+     *
+     * @return a copy of this game.
+     */
+    public PacmanGame fork() {
+        return new PacmanGame(this);
+    }
+
+    /**
+     * Sets the state of this game to that of a fork of it, e.g. to roll
+     * back to a snapshot and play commands that arrived late. Unlike
+     * replacing the game with the snapshot, this game keeps its entities,
+     * board, score board and listeners, and listeners are told about
+     * everything that changed.
+     *
+     * @param snapshot fork of this game, see {@link #fork()}.
+     * @throws IllegalArgumentException if the snapshot has a different
+     * number of hunters or a different size of board.
+     */
+    public void restore(PacmanGame snapshot) throws IllegalArgumentException {
+        if (snapshot.hunters.size() != hunters.size()) {
+            throw new IllegalArgumentException("hunter counts differ");
+        }
+        board.restore(snapshot.board);
+        for (int i = 0; i < hunters.size(); i++) {
+            var each = hunters.get(i);
+            var from = each.getPosition();
+            each.restore(snapshot.hunters.get(i));
+            events.entityMoved(each, from);
+        }
+        for (int g = 0; g < ghosts.size(); g++) {
+            var ghost = ghosts.get(g);
+            var from = ghost.getPosition();
+            var phase = ghost.getPhase();
+            ghost.restore(snapshot.ghosts.get(g));
+            events.entityMoved(ghost, from);
+            if (ghost.getPhase() != phase) {
+                events.phaseChanged(ghost);
+            }
+        }
+        indexStale = true;
+        for (int i = 0; i < lives.length; i++) {
+            setLives(i, snapshot.lives[i]);
+        }
+        setLevel(snapshot.level);
+        tick = snapshot.tick;
+        seed = snapshot.seed;
+        scoreBoard.restore(snapshot.scoreBoard);
+    }
+
+    /*
+     * Copies a hunter, keeping its type.
+     */
+    private static Hunter copy(Hunter hunter) {
+        if (hunter instanceof Speedy) {
+            return new Speedy(hunter);
+        } else if (hunter instanceof Phasey) {
+            return new Phasey(hunter);
+        } else if (hunter instanceof Hungry) {
+            return new Hungry(hunter);
+        }
+        return new Phil(hunter);
+    }
+
+    /*
+     * Copies a ghost, keeping its type.
+     */
+    private static Ghost copy(Ghost ghost) {
+        switch (ghost.getType()) {
+            case BLINKY:
+                return new Blinky(ghost);
+            case CLYDE:
+                return new Clyde(ghost);
+            case INKY:
+                return new Inky(ghost);
+            default:
+                return new Pinky(ghost);
+        }
+    }
+
+    /**
+     * @return title of the map.
+     * @ensures result != null
+     * @ass2
+     */
+    public String getTitle() {
+        return title;
+    }
+
+    /**
+     * @return author of the map.
+     * @ensures result != null
+     * @ass2
+     */
+    public String getAuthor() {
+        return author;
+    }
+
+    /**
+     * Gets the current pacman board.
+     * @return a mutable reference to the board.
+     * @ass2
+     */
+    public PacmanBoard getBoard() {
+        return this.board;
+    }
+
+    /**
+     * Gets the number of times that tick has been called in the current game. 
+     * See {@link PacmanGame#tick}
+     * @return the current game tick value.
+     * @ass2
+     */
+    public int getTick() {
+        return this.tick;
+    }
+
+    /**
+     * Gets the current score board.
+     * @return a mutable reference to the score board.
+     * @ass2
+     */
+    public ScoreBoard getScores() {
+        return this.scoreBoard;
+    }
+
+    /**
+     * @return current level of the game.
+     * @ass2
+     */
+    public int getLevel() {
+        return level;
+    }
+
+    /**
+     * Sets the level of the game.
+     *
+     * @ensures newLevel = max(0, givenLevel)
+     * @param level to be set to.
+     * @ass2
+     */
+    public void setLevel(int level) {
+        int previous = this.level;
+        this.level = Integer.max(0, level);
+        if (this.level != previous) {
+            events.levelChanged(this.level);
+        }
+    }
+
+    /**
+     * With several hunters this is the most lives any of them has left,
+     * so the game is over when it is 0.
+     *
+     * @return amount of lives the player currently has.
+     * @ass2
+     */
+    public int getLives() {
+        int most = 0;
+        for (int hunterLives : lives) {
+            most = Integer.max(most, hunterLives);
+        }
+        return most;
+    }
+
+    /**
+     * Sets the lives of the current player, and of every other hunter.
+     * @ensures newLives = max(0, givenLives)
+     * @param lives to be set to.
+     * @ass2
+     */
+    public void setLives(int lives) {
+        for (int i = 0; i < this.lives.length; i++) {
+            setLives(i, lives);
+        }
+    }
+
+    /**
+     * @param hunter index of the hunter, see {@link #getHunter(int)}.
+     * @return amount of lives the hunter has left.
+     */
+    public int getLives(int hunter) {
+        return lives[hunter];
+    }
+
+    /**
+     * Sets the lives of one hunter. A hunter with no lives left no longer
+     * moves, eats or is chased.
+     *
+     * @param hunter index of the hunter, see {@link #getHunter(int)}.
+     * @param lives to be set to, at least 0.
+     */
+    public void setLives(int hunter, int lives) {
+        int previous = this.lives[hunter];
+        this.lives[hunter] = Integer.max(0, lives);
+        indexStale = true;
+        if (this.lives[hunter] != previous) {
+            events.livesChanged(hunter, this.lives[hunter]);
+        }
+    }
+
+    /**
+     * @return a mutable reference to the hunter.
+     * @ass2
+     */
+    public Hunter getHunter() {
+        return this.hunter;
+    }
+
+    /**
+     * @param hunter index of the hunter, where 0 is the player's hunter
+     *               returned by {@link #getHunter()}.
+     * @return a mutable reference to the hunter.
+     */
+    public Hunter getHunter(int hunter) {
+        return hunters.get(hunter);
+    }
+
+    /**
+     * @return the number of hunters in the game, at least 1.
+     */
+    public int getHunterCount() {
+        return hunters.size();
+    }
+
+    /**
+     * Note: Adding, removing elements to this list should not affect the
+     * internal copy.
+     * @return a list of the hunters in the game, the player's first.
+     */
+    public List<Hunter> getHunters() {
+        return new ArrayList<>(this.hunters);
+    }
+
+    /**
+     * Adds another hunter to the game, with as many lives as the player's
+     * hunter. The hunter keeps its position until the game or its
+     * entities are reset, which moves it to the pacman spawn.
+     *
+     * @param hunter to add.
+     * @throws NullPointerException if hunter is null.
+     */
+    public void addHunter(Hunter hunter) throws NullPointerException {
+        if (hunter == null) {
+            throw new NullPointerException();
+        }
+        hunters.add(hunter);
+        lives = Arrays.copyOf(lives, hunters.size());
+        lives[hunters.size() - 1] = lives[0];
+        indexStale = true;
+    }
+
+    /**
+     * Finds the hunter with lives left that is nearest to a position, which
+     * ghosts chase. With several hunters the hunters are indexed by
+     * position once per tick rather than all being checked, so positions
+     * set outside of {@link #tick()} are only seen after the next tick.
+     *
+     * @param position to search from.
+     * @return the nearest hunter, or the player's hunter if no hunter has
+     * lives left.
+     */
+    public Hunter getNearestHunter(Position position) {
+        if (hunters.size() == 1) {
+            return hunter;
+        }
+        if (hunterIndex == null) {
+            hunterIndex = new HunterIndex(board.getWidth(), board.getHeight());
+        }
+        if (indexStale) {
+            hunterIndex.rebuild(hunters, lives);
+            indexStale = false;
+        }
+        int nearest = hunterIndex.nearest(position);
+        return nearest == -1 ? hunter : hunters.get(nearest);
+    }
+
+    /**
+     * Note: Adding, removing elements to this list should not affect the
+     * internal copy.
+     * @return a list of ghosts in the game.
+     * @ass2
+     */
+    public List<Ghost> getGhosts() {
+        return new ArrayList<>(this.ghosts);
+    }
+
+    /**
+     * Seeds the random numbers of the game. The state of the random
+     * numbers is part of the game, so forks draw the same numbers.
+     *
+     * @param seed to start from.
+     */
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * @return the current state of the random numbers of the game.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Draws the next random number of the game, the same on every copy of
+     * the game in the same state. Anything random in a tick must be drawn
+     * from here so that ticks can be replayed.
+     *
+     * @param bound exclusive upper bound, greater than 0.
+     * @return a number in [0, bound).
+     * @throws IllegalArgumentException if bound is not positive.
+     */
+    public int nextRandom(int bound) throws IllegalArgumentException {
+        if (bound <= 0) {
+            throw new IllegalArgumentException("bound <= 0");
+        }
+        // SplitMix64, as used by java.util.SplittableRandom
+        seed += 0x9E3779B97F4A7C15L;
+        long z = seed;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        z ^= z >>> 31;
+        return (int) Long.remainderUnsigned(z, bound);
+    }
+
+    /**
+     * Sets the registry that the duration of each phase of a tick is
+     * recorded to, see {@link TickPhase}. By default nothing is recorded.
+     *
+     * @param metrics registry to record to, or MetricsRegistry.NONE.
+     */
+    public void setMetrics(MetricsRegistry metrics) {
+        timer.setMetrics(metrics);
+    }
+
+    /**
+     * @return the registry tick phases are recorded to.
+     */
+    public MetricsRegistry getMetrics() {
+        return timer.getMetrics();
+    }
+
+    /**
+     * Adds a listener that is told about the end of every tick, e.g. to
+     * send the changes of each tick to clients.
+     *
+     * @param listener to add, ignored if null.
+     */
+    public void addTickListener(TickListener listener) {
+        events.addTickListener(listener);
+    }
+
+    /**
+     * Removes a listener added by {@link #addTickListener(TickListener)}.
+     *
+     * @param listener to remove.
+     */
+    public void removeTickListener(TickListener listener) {
+        events.removeTickListener(listener);
+    }
+
+    /**
+     * Adds a listener that is told about every change to the game as it
+     * is made, see {@link GameListener}.
+     *
+     * @param listener to add, ignored if null.
+     */
+    public void addListener(GameListener listener) {
+        events.addListener(listener);
+    }
+
+    /**
+     * Removes a listener added by {@link #addListener(GameListener)}.
+     *
+     * @param listener to remove.
+     */
+    public void removeListener(GameListener listener) {
+        events.removeListener(listener);
+    }
+
+    /**
+     * @return the events of this game, which entities send their changes
+     * to.
+     */
+    public GameEvents getEvents() {
+        return events;
+    }
+
+    /**
+     * Tick
+     *
+     * If we do not have any lives (getLives() == 0) then do nothing.
+     * Otherwise we do the following in this order, where the hunter is
+     * each hunter that has lives left when there are several:
+     *
+     * <ol>
+     *     <li>The Hunter moves {@link Hunter#move(PacmanGame)}.</li>
+     *     <li>For each ghost in the game, call {@link Hunter#hit(Ghost)} </li>
+     *     <li>The Ghosts that are alive move on even ticks 
+     *     {@link Ghost#move(PacmanGame)}
+     *     {@link PacmanGame#getTick()}.</li>
+     *     <li>For each Ghost in the game, call {@link Hunter#hit(Ghost)} 
+     * on the game's hunter.</li>
+     *     <li>For each ghost which is dead:
+     *         <ol>
+     *             <li>Reset the ghost. </li>
+     *             <li>Set the ghost's position to the ghost spawn
+     *             position on the current board. </li>
+     *             <li>Add 200 points to the score.</li>
+     *         </ol>
+     *     </li>
+     *     <li>If the hunter is dead, then decrease the lives and reset
+     *     all the entities and place them at their spawn points. With
+     *     several hunters only each dead hunter is reset and placed at the
+     *     pacman spawn, and loses one of its own lives.</li>
+     *     <li>If the board is empty, then increase the level and set the 
+     *     ticks to 0 and reset the board and entities placing them at their 
+     *     spawn points.</li>
+     *     <li>If we did not increase the level then increase the tick value.
+     *     See {@link PacmanGame#getTick()}</li>
+     *     <li>Tell each tick and game listener about the tick.</li>
+     * </ol>
+     * Note: game should start at a tick count of zero. 
+     * @ass2
+     */
+    public void tick() {
+        if (getLives() == 0) {
+            return; // do nothing
+        }
+
+        timer.start();
+        int startLevel = level;
+        int startTick = tick;
+
+        // move each hunter still playing, crediting it with what it eats
+        for (int i = 0; i < hunters.size(); i++) {
+            if (lives[i] > 0) {
+                int score = scoreBoard.getScore();
+                hunters.get(i).move(this);
+                scoreBoard.increasePlayerScore(i,
+                        scoreBoard.getScore() - score);
+            }
+        }
+        indexStale = true;
+        timer.lap(TickPhase.HUNTER_MOVE);
+        
+        // Check if we killed any ghost
+        Arrays.fill(killedBy, -1);
+        hitGhosts();
+        timer.lap(TickPhase.HUNTER_HIT);
+        
+        // move each ghost
+        if (tick % 2 == 0) {
+            for (var ghost : ghosts) {
+                if (!ghost.isDead()) {
+                    ghost.move(this);
+                }
+            }
+            timer.lap(TickPhase.GHOST_MOVE);
+        }
+        
+        // check if pacman is colliding with a ghost
+        hitGhosts();
+        timer.lap(TickPhase.GHOST_HIT);
+
+        // respawn ghosts.
+        for (int g = 0; g < ghosts.size(); g++) {
+            var ghost = ghosts.get(g);
+            if (ghost.isDead()) {
+                var from = ghost.getPosition();
+                GhostKillEvent.emit(ghost.getType().name(), level, tick,
+                        from);
+                ghost.reset();
+                ghost.setPosition(board.getGhostSpawn());
+                events.ghostKilled(ghost, killedBy[g]);
+                events.entityMoved(ghost, from);
+                scoreBoard.increaseScore(GHOST_SCORE);
+                if (killedBy[g] != -1) {
+                    scoreBoard.increasePlayerScore(killedBy[g], GHOST_SCORE);
+                }
+            }
+        }
+
+        if (hunters.size() == 1) {
+            if (hunter.isDead()) {
+                HunterDeathEvent.emit(level, tick,
+                        Integer.max(0, lives[0] - 1), hunter.getPosition());
+                setLives(lives[0] - 1);
+                reset(ResetLevel.ENTITIES);
+            }
+        } else {
+            // only the dead hunters respawn, the others play on
+            for (int i = 0; i < hunters.size(); i++) {
+                var dead = hunters.get(i);
+                if (lives[i] > 0 && dead.isDead()) {
+                    var from = dead.getPosition();
+                    HunterDeathEvent.emit(level, tick, lives[i] - 1, from);
+                    setLives(i, lives[i] - 1);
+                    dead.reset();
+                    dead.setPosition(board.getPacmanSpawn());
+                    events.entityMoved(dead, from);
+                }
+            }
+        }
+        timer.lap(TickPhase.RESPAWN);
+
+        // next level
+        boolean cleared = board.isEmpty();
+        timer.lap(TickPhase.EMPTY_CHECK);
+        if (cleared) {
+            setLevel(level + 1);
+            LevelAdvanceEvent.emit(level, tick);
+            reset(ResetLevel.LEVEL);
+            timer.lap(TickPhase.LEVEL_RESET);
+        } else {
+            tick++;
+        }
+
+        timer.end(startLevel, startTick);
+        events.ticked();
+    }
+
+    /*
+     * Checks every hunter still playing against every ghost, noting which
+     * hunter killed each ghost.
+     */
+    private void hitGhosts() {
+        for (int i = 0; i < hunters.size(); i++) {
+            if (lives[i] == 0) {
+                continue;
+            }
+            var current = hunters.get(i);
+            for (int g = 0; g < ghosts.size(); g++) {
+                var ghost = ghosts.get(g);
+                boolean wasDead = ghost.isDead();
+                current.hit(ghost);
+                if (!wasDead && ghost.isDead()) {
+                    killedBy[g] = i;
+                }
+            }
+        }
+    }
+
+    /**
+     * Resets the Game in the following way:
+     *
+     * <ul>
+     *     <li>Lives is set to the default of 4.</li>
+     *     <li>Level is set to 0.</li>
+     *     <li>ScoreBoard is reset  {@link ScoreBoard#reset()}</li>
+     *     <li>PacmanBoard is reset {@link PacmanBoard#reset()}</li>
+     *     <li>All entities are reset</li>
+     *     <li>All entity positions are set to their spawn locations.</li>
+     *     <li>The tick value is reset to zero.</li>
+     * </ul>
+     * @ass2
+     */
+    public void reset() {
+        reset(ResetLevel.GAME);
+    }
+
+    /*
+     * TODO
+     * 
+     */
+    private void reset(ResetLevel level) {
+        switch (level) {
+            case GAME:
+                setLives(DEFAULT_LIVES);
+                setLevel(0);
+                scoreBoard.reset();
+                /* fallthrough */
+            case LEVEL:
+                board.reset();
+                tick = 0;
+                /* fallthrough */
+            case ENTITIES:
+                for (var each : hunters) {
+                    var from = each.getPosition();
+                    each.reset();
+                    each.setPosition(board.getPacmanSpawn());
+                    events.entityMoved(each, from);
+                }
+                indexStale = true;
+                
+                // reset ghosts
+                for (var ghost : ghosts) {
+                    var from = ghost.getPosition();
+                    var phase = ghost.getPhase();
+                    ghost.reset();
+                    ghost.setPosition(board.getGhostSpawn());
+                    events.entityMoved(ghost, from);
+                    if (ghost.getPhase() != phase) {
+                        events.phaseChanged(ghost);
+                    }
+                }
+                
+                break;
+        }
+    }
+
+    /**
+     * For each ghost in the game, set its phase to be
+     * Phase.FRIGHTENED with a duration of
+     * Phase.FRIGHTENED.getDuration();
+     * @ass2
+     */
+    public void setGhostsFrightened() {
+        for (var ghost : ghosts) {
+            ghost.setPhase(Phase.FRIGHTENED, Phase.FRIGHTENED.getDuration());
+            events.phaseChanged(ghost);
+        }
+        GhostsFrightenedEvent.emit(ghosts.size(),
+                Phase.FRIGHTENED.getDuration());
+    }
+
+
+    /*
+     * Helper enum to indicate which part of game to reset.
+     */
+    private enum ResetLevel {
+        // resets entities
+        ENTITIES,
+        // resets the entire level 
+        LEVEL,
+        // resets the entire game
+        GAME
+    }
+}
@@ -0,0 +1,17 @@
+package pacman.game;
+
+/**
+ * Listens for the ticks of a {@link PacmanGame}.
+ *
+ * See {@link PacmanGame#addTickListener(TickListener)}
+ */
+public interface TickListener {
+
+    /**
+     * Called at the end of every tick that changed the game, on the thread
+     * that ticked it. See {@link PacmanGame#tick()}
+     *
+     * @param game that was ticked.
+     */
+    void ticked(PacmanGame game);
+}
@@ -14,8 +14,29 @@ import pacman.util.Position;
 public class Blinky extends Ghost {
 
     /**
-     * Blinky targets the hunters position.
-     * See: {@link PacmanGame#getHunter()}
+     * Creates a Blinky ghost.
+     *
+     * see {@link Ghost#Ghost()}
+     */
+    public Blinky() {
+        super();
+    }
+
+    /**
+     * Creates a Blinky ghost by copying the internal state of another
+     * ghost.
+     *
+     * see {@link Ghost#Ghost(Ghost)}
+     *
+     * @param original ghost to copy from
+     */
+    public Blinky(Ghost original) {
+        super(original);
+    }
+
+    /**
+     * Blinky targets the position of the nearest hunter.
+     * See: {@link PacmanGame#getNearestHunter(Position)}
      *
      * @param game to read positions from.
      * @return hunter position
@@ -23,7 +44,7 @@ public class Blinky extends Ghost {
      */
     @Override
     public Position chaseTarget(PacmanGame game) {
-        return game.getHunter().getPosition();
+        return game.getNearestHunter(getPosition()).getPosition();
     }
 
     /**
@@ -13,12 +13,33 @@ import pacman.util.Position;
  */
 public class Clyde extends Ghost {
 
+    /**
+     * Creates a Clyde ghost.
+     *
+     * see {@link Ghost#Ghost()}
+     */
+    public Clyde() {
+        super();
+    }
+
+    /**
+     * Creates a Clyde ghost by copying the internal state of another
+     * ghost.
+     *
+     * see {@link Ghost#Ghost(Ghost)}
+     *
+     * @param original ghost to copy from
+     */
+    public Clyde(Ghost original) {
+        super(original);
+    }
+
     /**
      * Clyde will target the hunter if equal to or greater than a
      * distance of 8 away from the hunter. Otherwise if closer than 8
      * it will target its home position. See: {@link Clyde#home(PacmanGame)}
      * 
-     * See: {@link PacmanGame#getHunter()}
+     * See: {@link PacmanGame#getNearestHunter(Position)}
      *
      * @param game to read positions from.
      * @return home if less than 8 away from hunter, otherwise hunter position.
@@ -26,7 +47,7 @@ public class Clyde extends Ghost {
      */
     @Override
     public Position chaseTarget(PacmanGame game) {
-        Position target = game.getHunter().getPosition();
+        Position target = game.getNearestHunter(getPosition()).getPosition();
         
         if (target.distance(getPosition()) < 8) {
             target = home(game);
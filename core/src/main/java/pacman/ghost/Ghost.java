@@ -38,6 +38,33 @@ public abstract class Ghost extends Entity {
         phaseDuration = Phase.SCATTER.getDuration();
     }
 
+    /**
+     * Creates a ghost with the same dead/alive status, phase, phase
+     * duration, position and direction as the original.
+     *
+     * @param original ghost to copy.
+     */
+    public Ghost(Ghost original) {
+        super(original.getPosition(), original.getDirection());
+        dead = original.dead;
+        phase = original.phase;
+        phaseDuration = original.phaseDuration;
+    }
+
+    /**
+     * Sets the state of this ghost to that of the original, as copied by
+     * {@link #Ghost(Ghost)}, e.g. to roll a game back to a snapshot.
+     *
+     * @param original ghost to copy the state of.
+     */
+    public void restore(Ghost original) {
+        setPosition(original.getPosition());
+        setDirection(original.getDirection());
+        dead = original.dead;
+        phase = original.phase;
+        phaseDuration = original.phaseDuration;
+    }
+
     /**
      * Sets the Ghost Phase and its duration overriding any current
      * phase information.
@@ -140,11 +167,19 @@ public abstract class Ghost extends Entity {
      *     as if they are not pathable. </li>
      * </ul>
      *
+     * Changes of phase and position are sent to the game's events, see
+     * {@link pacman.game.GameEvents}.
+     *
      * @param game information needed to decide movement.
      * @ass2
      */
     public void move(PacmanGame game) {
+        var phase = getPhase();
         nextPhase();
+        if (getPhase() != phase) {
+            game.getEvents().phaseChanged(this);
+        }
+        var from = getPosition();
 
         Position target = target(game);
         
@@ -174,6 +209,7 @@ public abstract class Ghost extends Entity {
                     && distances.get(direction) == smallest) {
                 this.setPosition(getPosition().add(direction.offset()));
                 this.setDirection(direction);
+                game.getEvents().entityMoved(this, from);
                 break;
             }
         }
@@ -12,11 +12,32 @@ import pacman.util.Position;
  */
 public class Inky extends Ghost {
 
+    /**
+     * Creates a Inky ghost.
+     *
+     * see {@link Ghost#Ghost()}
+     */
+    public Inky() {
+        super();
+    }
+
+    /**
+     * Creates a Inky ghost by copying the internal state of another
+     * ghost.
+     *
+     * see {@link Ghost#Ghost(Ghost)}
+     *
+     * @param original ghost to copy from
+     */
+    public Inky(Ghost original) {
+        super(original);
+    }
+
 
     /**
      * Inky will chase 2 blocks behind the hunter's current direction.
      *
-     * See: {@link PacmanGame#getHunter()}
+     * See: {@link PacmanGame#getNearestHunter(Position)}
      *
      * @param game to read positions from.
      * @return the position 2 blocks behind hunter position.
@@ -24,10 +45,10 @@ public class Inky extends Ghost {
      */
     @Override
     public Position chaseTarget(PacmanGame game) {
-        var target = game.getHunter().getPosition();
+        var hunter = game.getNearestHunter(getPosition());
         
-        return target.add(
-                game.getHunter().getDirection().offset().multiply(-2));
+        return hunter.getPosition().add(
+                hunter.getDirection().offset().multiply(-2));
     }
 
     /**
@@ -12,6 +12,27 @@ import pacman.util.Position;
  */
 public class Pinky extends Ghost {
 
+    /**
+     * Creates a Pinky ghost.
+     *
+     * see {@link Ghost#Ghost()}
+     */
+    public Pinky() {
+        super();
+    }
+
+    /**
+     * Creates a Pinky ghost by copying the internal state of another
+     * ghost.
+     *
+     * see {@link Ghost#Ghost(Ghost)}
+     *
+     * @param original ghost to copy from
+     */
+    public Pinky(Ghost original) {
+        super(original);
+    }
+
     /**
      * Pinky will chase 4 blocks in front of the hunter's current direction.
      * @param game to read positions from.
@@ -20,10 +41,10 @@ public class Pinky extends Ghost {
      */
     @Override
     public Position chaseTarget(PacmanGame game) {
-        var target = game.getHunter().getPosition();
+        var hunter = game.getNearestHunter(getPosition());
         
-        return target.add(
-                game.getHunter().getDirection().offset().multiply(4));
+        return hunter.getPosition().add(
+                hunter.getDirection().offset().multiply(4));
     }
 
     /**
@@ -0,0 +1,286 @@
+package pacman.hunter;
+
+import pacman.board.BoardItem;
+import pacman.board.BoardListener;
+import pacman.board.PacmanBoard;
+import pacman.game.PacmanGame;
+import pacman.ghost.Ghost;
+import pacman.ghost.Phase;
+import pacman.util.Direction;
+import pacman.util.Position;
+
+/**
+ * Autopilot steers the hunter of a game without a player, e.g. to soak
+ * test maps headlessly. Any type of hunter can be steered.
+ *
+ * Before each tick {@link #steer()} faces the hunter along the shortest
+ * path to the nearest dot or big dot, found by a breadth first search
+ * that avoids ghosts which are not frightened: the cells they are on and
+ * the cells they could move to next. If every dot is cut off by ghosts
+ * the search first allows the cells next to ghosts, then any cell.
+ *
+ * The path found is followed on later ticks without searching again
+ * until it is eaten, blocked or the board is reset, which the autopilot
+ * hears about as a {@link BoardListener}, or until a ghost comes near the
+ * next step or the hunter leaves the path. Searches use arrays allocated
+ * once per board so steering does not allocate.
+ */
+public class Autopilot implements BoardListener {
+
+    // directions tried from each cell, in order
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    // game being steered
+    private final PacmanGame game;
+    // board and ghosts of the game, as getGhosts() copies the list
+    private final PacmanBoard board;
+    private final Ghost[] ghosts;
+    // size of the board
+    private final int width;
+    private final int height;
+
+    // search state, indexed by cell = y * width + x
+    private final int[] queue;
+    private final int[] parent;
+    // cell was reached by the search with the current stamp
+    private final int[] seen;
+    private int seenStamp;
+
+    // ghost cells and cells next to them, of the current stamp
+    private final int[] ghostCell;
+    private final int[] nearGhost;
+    private int dangerStamp;
+
+    // cells of the current path, from the hunter to the dot
+    private final int[] path;
+    private int pathLength;
+    // index of each cell in the path, if on the path of this generation
+    private final int[] pathIndex;
+    private final int[] pathStamp;
+    private int generation;
+    // whether the current path can still be followed
+    private boolean valid;
+
+    // number of searches made
+    private long searches;
+
+    /**
+     * Creates an autopilot for the hunter of the given game, listening to
+     * changes of the game's board.
+     *
+     * @param game to steer.
+     */
+    public Autopilot(PacmanGame game) {
+        this.game = game;
+        this.board = game.getBoard();
+        this.ghosts = game.getGhosts().toArray(new Ghost[0]);
+        this.width = board.getWidth();
+        this.height = board.getHeight();
+
+        int cells = width * height;
+        this.queue = new int[cells];
+        this.parent = new int[cells];
+        this.seen = new int[cells];
+        this.ghostCell = new int[cells];
+        this.nearGhost = new int[cells];
+        this.path = new int[cells];
+        this.pathIndex = new int[cells];
+        this.pathStamp = new int[cells];
+
+        board.addListener(this);
+    }
+
+    /**
+     * Stops listening to the board, after which the autopilot must not be
+     * used.
+     */
+    public void detach() {
+        board.removeListener(this);
+    }
+
+    /**
+     * @return the number of path searches made so far.
+     */
+    public long getSearches() {
+        return searches;
+    }
+
+    /**
+     * Faces the hunter along the path to the nearest dot, searching for a
+     * new path if the current one cannot be followed. If no dot can be
+     * reached the hunter's direction is left as it is.
+     */
+    public void steer() {
+        var position = game.getHunter().getPosition();
+        if (!inBounds(position.getX(), position.getY())) {
+            return;
+        }
+        int here = position.getY() * width + position.getX();
+        markGhosts();
+
+        if (valid && pathStamp[here] == generation) {
+            int next = pathIndex[here] + 1;
+            if (next < pathLength && nearGhost[path[next]] != dangerStamp) {
+                face(here, path[next]);
+                return;
+            }
+        }
+
+        // nearest dot avoiding ghosts, then only their cells, then nothing
+        for (int avoid = 2; avoid >= 0; avoid--) {
+            if (search(here, avoid)) {
+                valid = true;
+                face(here, path[1]);
+                return;
+            }
+        }
+        valid = false;
+    }
+
+    /**
+     * Invalidates the path if the changed cell is its dot or a cell of it
+     * that can no longer be walked on.
+     *
+     * @param position of the entry that was set.
+     * @param item that is now at the position.
+     */
+    @Override
+    public void entryChanged(Position position, BoardItem item) {
+        int cell = position.getY() * width + position.getX();
+        if (!valid || pathStamp[cell] != generation) {
+            return;
+        }
+        if (cell == path[pathLength - 1] ? !isDot(item)
+                : !item.getPathable()) {
+            valid = false;
+        }
+    }
+
+    /**
+     * Invalidates the path, as a nearer dot may have respawned.
+     */
+    @Override
+    public void boardReset() {
+        valid = false;
+    }
+
+    /*
+     * Stamps the cells of ghosts that can kill the hunter, and the cells
+     * next to them.
+     */
+    private void markGhosts() {
+        dangerStamp++;
+        for (var ghost : ghosts) {
+            if (ghost.isDead() || ghost.getPhase() == Phase.FRIGHTENED) {
+                continue;
+            }
+            int x = ghost.getPosition().getX();
+            int y = ghost.getPosition().getY();
+            if (!inBounds(x, y)) {
+                continue;
+            }
+            ghostCell[y * width + x] = dangerStamp;
+            nearGhost[y * width + x] = dangerStamp;
+            for (var direction : DIRECTIONS) {
+                int nx = x + direction.offset().getX();
+                int ny = y + direction.offset().getY();
+                if (inBounds(nx, ny)) {
+                    nearGhost[ny * width + nx] = dangerStamp;
+                }
+            }
+        }
+    }
+
+    /*
+     * Searches for the nearest dot from the start cell and stores the path
+     * to it. Avoid is 2 to avoid cells next to ghosts, 1 to avoid only
+     * ghost cells, or 0 to avoid neither. Returns false if no dot can be
+     * reached.
+     */
+    private boolean search(int start, int avoid) {
+        searches++;
+        seenStamp++;
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = start;
+        seen[start] = seenStamp;
+        parent[start] = -1;
+
+        while (head < tail) {
+            int cell = queue[head++];
+            int x = cell % width;
+            int y = cell / width;
+            if (cell != start && isDot(board.getEntry(x, y))) {
+                storePath(cell);
+                return true;
+            }
+
+            for (var direction : DIRECTIONS) {
+                int nx = x + direction.offset().getX();
+                int ny = y + direction.offset().getY();
+                if (!inBounds(nx, ny)) {
+                    continue;
+                }
+                int next = ny * width + nx;
+                if (seen[next] == seenStamp
+                        || !board.getEntry(nx, ny).getPathable()
+                        || avoid == 2 && nearGhost[next] == dangerStamp
+                        || avoid == 1 && ghostCell[next] == dangerStamp) {
+                    continue;
+                }
+                seen[next] = seenStamp;
+                parent[next] = cell;
+                queue[tail++] = next;
+            }
+        }
+        return false;
+    }
+
+    /*
+     * Stores the path from the start of the last search to the target.
+     */
+    private void storePath(int target) {
+        pathLength = 0;
+        for (int cell = target; cell != -1; cell = parent[cell]) {
+            pathLength++;
+        }
+
+        generation++;
+        int i = pathLength;
+        for (int cell = target; cell != -1; cell = parent[cell]) {
+            i--;
+            path[i] = cell;
+            pathIndex[cell] = i;
+            pathStamp[cell] = generation;
+        }
+    }
+
+    /*
+     * Faces the hunter from one cell towards a neighbouring cell.
+     */
+    private void face(int from, int to) {
+        int dx = to % width - from % width;
+        int dy = to / width - from / width;
+        for (var direction : DIRECTIONS) {
+            if (direction.offset().getX() == dx
+                    && direction.offset().getY() == dy) {
+                game.getHunter().setDirection(direction);
+                return;
+            }
+        }
+    }
+
+    /*
+     * Checks if the cell is on the board.
+     */
+    private boolean inBounds(int x, int y) {
+        return x >= 0 && y >= 0 && x < width && y < height;
+    }
+
+    /*
+     * Checks if the item is something the autopilot heads for.
+     */
+    private static boolean isDot(BoardItem item) {
+        return item == BoardItem.DOT || item == BoardItem.BIG_DOT;
+    }
+}
@@ -5,6 +5,7 @@ import pacman.game.Entity;
 import pacman.game.PacmanGame;
 import pacman.ghost.Ghost;
 import pacman.ghost.Phase;
+import pacman.metrics.BigDotEatenEvent;
 import pacman.util.Direction;
 import pacman.util.Position;
 
@@ -76,6 +77,16 @@ public abstract class Hunter extends Entity {
      */
     public Hunter(Hunter original) {
         super();
+        restore(original);
+    }
+
+    /**
+     * Sets the state of this hunter to that of the original, as copied by
+     * {@link #Hunter(Hunter)}, e.g. to roll a game back to a snapshot.
+     *
+     * @param original hunter to copy the state of.
+     */
+    public void restore(Hunter original) {
         dead = original.dead;
         duration = original.duration;
         used = original.used;
@@ -197,21 +208,27 @@ public abstract class Hunter extends Entity {
      * Note: The hunter cannot move off of the board, any position outside
      * the board is not pathable.
      *
+     * The move is sent to the game's events, see
+     * {@link pacman.game.GameEvents#entityMoved}.
+     *
      * @param game information needed to decide movement.
      * @ass2
      */
     @Override
     public void move(PacmanGame game) {
-        var nextPos = this.getPosition().add(this.getDirection().offset());
+        var from = this.getPosition();
+        var nextPos = from.add(this.getDirection().offset());
         var block = game.getBoard().eatDot(nextPos);
 
         if (block.getPathable()) {
             this.setPosition(nextPos);
+            game.getEvents().entityMoved(this, from);
         }
 
         game.getScores().increaseScore(block.getScore());
 
         if (block == BoardItem.BIG_DOT) {
+            BigDotEatenEvent.emit(nextPos);
             game.setGhostsFrightened();
         }
 
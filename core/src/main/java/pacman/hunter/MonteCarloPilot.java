@@ -0,0 +1,370 @@
+package pacman.hunter;
+
+import pacman.board.PacmanBoard;
+import pacman.game.PacmanGame;
+import pacman.util.Direction;
+import pacman.util.Position;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * MonteCarloPilot steers the hunter of a game by Monte Carlo tree search,
+ * e.g. to find out how hard a map is for a strong player.
+ *
+ * Each decision runs a fixed number of rollouts from a
+ * {@link PacmanGame#fork()} of the game. A rollout descends the search
+ * tree choosing directions by UCT, adds one node, then plays random
+ * directions for a fixed number of ticks or until the hunter dies or the
+ * level is cleared. It is worth 0 if the hunter died and otherwise
+ * between 0.5 and 1 depending on the score gained per tick, so faster
+ * ways of eating the same dots are worth more. The direction of the
+ * root's most visited child is chosen.
+ *
+ * Rollouts run on several threads over one shared tree. A node's visit
+ * count is increased when a rollout passes through it and its value only
+ * when the rollout ends, which acts as a virtual loss that steers other
+ * threads away from paths already being explored.
+ */
+public class MonteCarloPilot implements AutoCloseable {
+
+    // exploration constant of UCT
+    private static final double EXPLORATION = Math.sqrt(2);
+    // values are summed as fixed point longs with this scale
+    private static final double SCALE = 1 << 20;
+    // score of a dot, for scaling the score gained by a rollout
+    private static final double DOT_SCORE = 10;
+    // chance a random rollout keeps going in the same direction
+    private static final double KEEP_DIRECTION = 0.75;
+    // directions tried from each node, in order
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    // rollouts made per decision
+    private final int rollouts;
+    // random ticks played at the end of each rollout
+    private final int depth;
+    // threads the rollouts run on
+    private final int threads;
+    // runs all but one of the threads, the caller being the other
+    private final ExecutorService pool;
+    // seed for the random rollouts
+    private final long seed;
+
+    // decisions made, varies the random seed between decisions
+    private long decisions;
+    // totals over every decision made
+    private final AtomicLong totalRollouts = new AtomicLong();
+    private long totalNanos;
+
+    /**
+     * Creates a pilot.
+     *
+     * @param rollouts made for each decision, at least 1.
+     * @param depth random ticks played at the end of each rollout.
+     * @param threads number of threads to run rollouts on, at least 1.
+     * @param seed for the random rollouts.
+     * @throws IllegalArgumentException if rollouts or threads is less
+     *                                  than 1 or depth is negative.
+     */
+    public MonteCarloPilot(int rollouts, int depth, int threads, long seed)
+            throws IllegalArgumentException {
+        if (rollouts < 1 || depth < 0 || threads < 1) {
+            throw new IllegalArgumentException();
+        }
+        this.rollouts = rollouts;
+        this.depth = depth;
+        this.threads = threads;
+        this.seed = seed;
+        this.pool = threads == 1 ? null
+                : Executors.newFixedThreadPool(threads - 1, runnable -> {
+                    var thread = new Thread(runnable, "pacman-mcts");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    /**
+     * Stops the threads of this pilot, after which it must not be used.
+     */
+    @Override
+    public void close() {
+        if (pool != null) {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * @return the number of rollouts made so far.
+     */
+    public long getRollouts() {
+        return totalRollouts.get();
+    }
+
+    /**
+     * @return rollouts made per second by each thread, over every
+     * decision made so far.
+     */
+    public double getRolloutsPerSecondPerThread() {
+        return totalNanos == 0 ? 0
+                : totalRollouts.get() / (totalNanos / 1e9) / threads;
+    }
+
+    /**
+     * Faces the hunter of the game in the direction chosen by
+     * {@link #choose(PacmanGame)}.
+     *
+     * @param game to steer.
+     */
+    public void steer(PacmanGame game) {
+        game.getHunter().setDirection(choose(game));
+    }
+
+    /**
+     * Searches for the best direction for the hunter of the game to face
+     * for its next move. The game is not changed.
+     *
+     * @param game to search from.
+     * @return the direction chosen, or the hunter's current direction if
+     * it cannot move.
+     */
+    public Direction choose(PacmanGame game) {
+        long start = System.nanoTime();
+        var search = new Search(game.fork(), seed + 31 * decisions++);
+
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 1; i < threads; i++) {
+            int worker = i;
+            futures.add(pool.submit(() -> search.run(worker)));
+        }
+        search.run(0);
+        try {
+            for (var future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+        totalNanos += System.nanoTime() - start;
+
+        var best = search.best();
+        return best == null ? game.getHunter().getDirection() : best;
+    }
+
+    /*
+     * A node of the search tree, reached by facing the hunter in a
+     * direction from its parent.
+     */
+    private static final class Node {
+        // children by Direction.ordinal(), null until expanded
+        private final AtomicReferenceArray<Node> children =
+                new AtomicReferenceArray<>(DIRECTIONS.length);
+        // rollouts started through this node
+        private final AtomicInteger visits = new AtomicInteger();
+        // sum of the values of the rollouts finished, fixed point
+        private final AtomicLong value = new AtomicLong();
+    }
+
+    /*
+     * The shared tree and state of one decision.
+     */
+    private final class Search {
+        // game being searched from, only ever forked
+        private final PacmanGame root;
+        // root of the tree
+        private final Node tree = new Node();
+        // rollouts left to start
+        private final AtomicInteger remaining = new AtomicInteger(rollouts);
+        // seed of this decision
+        private final long seed;
+        // lives and level of the game being searched from
+        private final int lives;
+        private final int level;
+
+        private Search(PacmanGame root, long seed) {
+            this.root = root;
+            this.seed = seed;
+            this.lives = root.getLives();
+            this.level = root.getLevel();
+        }
+
+        /*
+         * Makes rollouts until none are left.
+         */
+        private void run(int worker) {
+            var random = new SplittableRandom(seed + worker);
+            var path = new Node[rollouts + 1];
+            while (remaining.getAndDecrement() > 0
+                    && !Thread.currentThread().isInterrupted()) {
+                rollout(random, path);
+                totalRollouts.incrementAndGet();
+            }
+        }
+
+        /*
+         * Descends the tree from the root, expands one node, plays random
+         * moves and adds the value to every node passed through.
+         */
+        private void rollout(SplittableRandom random, Node[] path) {
+            var game = root.fork();
+            int score = game.getScores().getScore();
+            var node = tree;
+            node.visits.incrementAndGet();
+            path[0] = node;
+            int length = 1;
+            boolean expanded = false;
+
+            while (!expanded && !isOver(game)) {
+                Node next = null;
+                int nextDirection = -1;
+                double bestScore = Double.NEGATIVE_INFINITY;
+                double logVisits = Math.log(Math.max(1, node.visits.get()));
+                for (int d = 0; d < DIRECTIONS.length; d++) {
+                    if (!canMove(game, DIRECTIONS[d])) {
+                        continue;
+                    }
+                    var child = node.children.get(d);
+                    if (child == null) {
+                        // expand the first unexplored direction
+                        node.children.compareAndSet(d, null, new Node());
+                        next = node.children.get(d);
+                        nextDirection = d;
+                        expanded = true;
+                        break;
+                    }
+                    double uct = uct(child, logVisits);
+                    if (uct > bestScore) {
+                        bestScore = uct;
+                        next = child;
+                        nextDirection = d;
+                    }
+                }
+                if (next == null) {
+                    break;
+                }
+
+                next.visits.incrementAndGet();
+                path[length++] = next;
+                node = next;
+                game.getHunter().setDirection(DIRECTIONS[nextDirection]);
+                game.tick();
+            }
+
+            int ticks = 0;
+            while (ticks < depth && !isOver(game)) {
+                randomMove(game, random);
+                game.tick();
+                ticks++;
+            }
+
+            // the root is not a move, every other node on the path is
+            long value = (long) (value(game, score, length - 1 + ticks)
+                    * SCALE);
+            for (int i = 0; i < length; i++) {
+                path[i].value.addAndGet(value);
+            }
+        }
+
+        /*
+         * Returns the direction of the root's most visited child.
+         */
+        private Direction best() {
+            Direction best = null;
+            int most = 0;
+            for (int d = 0; d < DIRECTIONS.length; d++) {
+                var child = tree.children.get(d);
+                if (child != null && child.visits.get() > most) {
+                    most = child.visits.get();
+                    best = DIRECTIONS[d];
+                }
+            }
+            return best;
+        }
+
+        /*
+         * Checks if the rollout has ended by the hunter dying or the level
+         * being cleared, after which the board is reset.
+         */
+        private boolean isOver(PacmanGame game) {
+            return game.getLives() < lives || game.getLevel() > level;
+        }
+
+        /*
+         * Values the end of a rollout made over the given number of ticks.
+         */
+        private double value(PacmanGame game, int score, int ticks) {
+            if (game.getLives() < lives) {
+                return 0;
+            }
+            int gained = game.getScores().getScore() - score;
+            return 0.5 + 0.5 * Math.min(1,
+                    gained / (DOT_SCORE * Math.max(1, ticks)));
+        }
+    }
+
+    /*
+     * Upper confidence bound of a child, counting rollouts still running
+     * through it as losses.
+     */
+    private static double uct(Node child, double logParentVisits) {
+        int visits = child.visits.get();
+        if (visits == 0) {
+            return Double.POSITIVE_INFINITY;
+        }
+        double mean = child.value.get() / SCALE / visits;
+        return mean + EXPLORATION * Math.sqrt(logParentVisits / visits);
+    }
+
+    /*
+     * Faces the hunter in a random direction it can move in, preferring
+     * to keep going and never turning back unless it has to.
+     */
+    private static void randomMove(PacmanGame game, SplittableRandom random) {
+        var hunter = game.getHunter();
+        var current = hunter.getDirection();
+        if (canMove(game, current) && random.nextDouble() < KEEP_DIRECTION) {
+            return;
+        }
+
+        int choices = 0;
+        for (var direction : DIRECTIONS) {
+            if (direction != current.opposite() && canMove(game, direction)) {
+                choices++;
+            }
+        }
+        if (choices == 0) {
+            hunter.setDirection(current.opposite());
+            return;
+        }
+
+        int pick = random.nextInt(choices);
+        for (var direction : DIRECTIONS) {
+            if (direction != current.opposite() && canMove(game, direction)
+                    && pick-- == 0) {
+                hunter.setDirection(direction);
+                return;
+            }
+        }
+    }
+
+    /*
+     * Checks if the hunter can move one cell in the direction.
+     */
+    private static boolean canMove(PacmanGame game, Direction direction) {
+        PacmanBoard board = game.getBoard();
+        Position position = game.getHunter().getPosition();
+        int x = position.getX() + direction.offset().getX();
+        int y = position.getY() + direction.offset().getY();
+        return x >= 0 && y >= 0 && x < board.getWidth()
+                && y < board.getHeight() && board.getEntry(x, y).getPathable();
+    }
+}
@@ -0,0 +1,39 @@
+package pacman.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import pacman.util.Position;
+
+/**
+ * A flight recorder event for the hunter eating a big dot.
+ */
+@Name("pacman.BigDotEaten")
+@Label("Big Dot Eaten")
+@Category({"Pacman", "Gameplay"})
+@Description("The hunter ate a big dot, frightening the ghosts")
+@StackTrace(false)
+public class BigDotEatenEvent extends jdk.jfr.Event {
+
+    @Label("X")
+    int x;
+
+    @Label("Y")
+    int y;
+
+    /**
+     * Records a big dot being eaten if the event is enabled.
+     *
+     * @param position of the big dot.
+     */
+    public static void emit(Position position) {
+        var event = new BigDotEatenEvent();
+        if (event.shouldCommit()) {
+            event.x = position.getX();
+            event.y = position.getY();
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package pacman.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A flight recorder event spanning a game being read by
+ * {@link pacman.game.GameReader#read}, whether or not it succeeded.
+ */
+@Name("pacman.GameLoad")
+@Label("Game Load")
+@Category({"Pacman", "IO"})
+@Description("A game was read from the save format")
+@StackTrace(false)
+public class GameLoadEvent extends jdk.jfr.Event {
+
+    @Label("Title")
+    String title;
+
+    @Label("Succeeded")
+    boolean succeeded;
+
+    /**
+     * Ends the event and records it if enabled.
+     *
+     * @param title of the loaded game, or null if it could not be read.
+     */
+    public void finish(String title) {
+        end();
+        if (shouldCommit()) {
+            this.title = title;
+            this.succeeded = title != null;
+            commit();
+        }
+    }
+}
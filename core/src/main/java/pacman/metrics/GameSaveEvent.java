@@ -0,0 +1,53 @@
+package pacman.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A flight recorder event spanning a game being written by
+ * {@link pacman.game.GameWriter#write}, whether or not it succeeded.
+ *
+ * Usage:
+ * <pre>{@code
+ *     var event = new GameSaveEvent();
+ *     event.begin();
+ *     boolean saved = false;
+ *     try {
+ *         ...
+ *         saved = true;
+ *     } finally {
+ *         event.finish(title, saved);
+ *     }
+ * }</pre>
+ */
+@Name("pacman.GameSave")
+@Label("Game Save")
+@Category({"Pacman", "IO"})
+@Description("A game was written in the save format")
+@StackTrace(false)
+public class GameSaveEvent extends jdk.jfr.Event {
+
+    @Label("Title")
+    String title;
+
+    @Label("Succeeded")
+    boolean succeeded;
+
+    /**
+     * Ends the event and records it if enabled.
+     *
+     * @param title of the saved game.
+     * @param succeeded false if the game could not be written.
+     */
+    public void finish(String title, boolean succeeded) {
+        end();
+        if (shouldCommit()) {
+            this.title = title;
+            this.succeeded = succeeded;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package pacman.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import pacman.util.Position;
+
+/**
+ * A flight recorder event for a frightened ghost being killed by the
+ * hunter.
+ */
+@Name("pacman.GhostKill")
+@Label("Ghost Kill")
+@Category({"Pacman", "Gameplay"})
+@Description("The hunter killed a ghost, which respawns")
+@StackTrace(false)
+public class GhostKillEvent extends jdk.jfr.Event {
+
+    @Label("Ghost")
+    String ghost;
+
+    @Label("Level")
+    int level;
+
+    @Label("Tick")
+    int tick;
+
+    @Label("X")
+    int x;
+
+    @Label("Y")
+    int y;
+
+    /**
+     * Records a ghost kill if the event is enabled.
+     *
+     * @param ghost type of the ghost, e.g. "BLINKY".
+     * @param level of the game.
+     * @param tick of the game.
+     * @param position where the ghost was killed.
+     */
+    public static void emit(String ghost, int level, int tick,
+            Position position) {
+        var event = new GhostKillEvent();
+        if (event.shouldCommit()) {
+            event.ghost = ghost;
+            event.level = level;
+            event.tick = tick;
+            event.x = position.getX();
+            event.y = position.getY();
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package pacman.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A flight recorder event for every ghost being made frightened.
+ */
+@Name("pacman.GhostsFrightened")
+@Label("Ghosts Frightened")
+@Category({"Pacman", "Gameplay"})
+@Description("Every ghost was set to the FRIGHTENED phase")
+@StackTrace(false)
+public class GhostsFrightenedEvent extends jdk.jfr.Event {
+
+    @Label("Ghosts")
+    int ghosts;
+
+    @Label("Duration")
+    @Description("Ticks the ghosts stay frightened")
+    int duration;
+
+    /**
+     * Records the ghosts being frightened if the event is enabled.
+     *
+     * @param ghosts number of ghosts frightened.
+     * @param duration in ticks that they stay frightened.
+     */
+    public static void emit(int ghosts, int duration) {
+        var event = new GhostsFrightenedEvent();
+        if (event.shouldCommit()) {
+            event.ghosts = ghosts;
+            event.duration = duration;
+            event.commit();
+        }
+    }
+}
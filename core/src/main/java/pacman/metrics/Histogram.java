@@ -0,0 +1,102 @@
+package pacman.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A histogram of durations in nanoseconds with one bucket per power of
+ * two, so bucket i counts durations in [2^(i-1), 2^i) and bucket 0 counts
+ * durations of 0.
+ *
+ * Recording is lock free and values may be read from any thread while
+ * another records, though a read may miss values being recorded at the
+ * same time.
+ */
+public class Histogram {
+
+    // number of buckets, enough for any non-negative long
+    private static final int BUCKETS = 64;
+
+    // counts of recorded values in each bucket
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+
+    /**
+     * Records a duration.
+     *
+     * @param nanos duration to record, negative durations count as 0.
+     */
+    public void record(long nanos) {
+        buckets.incrementAndGet(bucketOf(nanos));
+    }
+
+    /**
+     * @return the number of buckets in this histogram.
+     */
+    public int getBucketCount() {
+        return BUCKETS;
+    }
+
+    /**
+     * Gets the number of durations recorded in a bucket.
+     *
+     * @param bucket index of the bucket, 0 &lt;= bucket &lt; getBucketCount().
+     * @return the number of durations in the bucket.
+     */
+    public long getCount(int bucket) {
+        return buckets.get(bucket);
+    }
+
+    /**
+     * Gets the largest duration that falls in a bucket.
+     *
+     * @param bucket index of the bucket, 0 &lt;= bucket &lt; getBucketCount().
+     * @return the upper bound of the bucket in nanoseconds, inclusive.
+     */
+    public static long getUpperBound(int bucket) {
+        if (bucket == 0) {
+            return 0;
+        }
+        return bucket == BUCKETS - 1 ? Long.MAX_VALUE : (1L << bucket) - 1;
+    }
+
+    /**
+     * @return the total number of durations recorded.
+     */
+    public long getTotal() {
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            total += buckets.get(i);
+        }
+        return total;
+    }
+
+    /**
+     * Gets an upper bound of the duration below which the given fraction
+     * of the recorded durations fall, e.g. 0.99 for the 99th percentile.
+     *
+     * @param fraction of durations, between 0 and 1.
+     * @return the upper bound of the bucket holding the percentile, or 0 if
+     * nothing has been recorded.
+     */
+    public long getPercentile(double fraction) {
+        long total = getTotal();
+        long wanted = (long) Math.ceil(total * fraction);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += buckets.get(i);
+            if (seen >= wanted && seen > 0) {
+                return getUpperBound(i);
+            }
+        }
+        return 0;
+    }
+
+    /*
+     * Returns the bucket a duration falls in.
+     */
+    private static int bucketOf(long nanos) {
+        if (nanos <= 0) {
+            return 0;
+        }
+        return Integer.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(nanos));
+    }
+}
@@ -0,0 +1,55 @@
+package pacman.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import pacman.util.Position;
+
+/**
+ * A flight recorder event for the hunter being killed by a ghost.
+ */
+@Name("pacman.HunterDeath")
+@Label("Hunter Death")
+@Category({"Pacman", "Gameplay"})
+@Description("The hunter was killed by a ghost and lost a life")
+@StackTrace(false)
+public class HunterDeathEvent extends jdk.jfr.Event {
+
+    @Label("Level")
+    int level;
+
+    @Label("Tick")
+    int tick;
+
+    @Label("Lives Left")
+    int livesLeft;
+
+    @Label("X")
+    int x;
+
+    @Label("Y")
+    int y;
+
+    /**
+     * Records a hunter death if the event is enabled.
+     *
+     * @param level of the game.
+     * @param tick of the game.
+     * @param livesLeft after the death.
+     * @param position where the hunter died.
+     */
+    public static void emit(int level, int tick, int livesLeft,
+            Position position) {
+        var event = new HunterDeathEvent();
+        if (event.shouldCommit()) {
+            event.level = level;
+            event.tick = tick;
+            event.livesLeft = livesLeft;
+            event.x = position.getX();
+            event.y = position.getY();
+            event.commit();
+        }
+    }
+}
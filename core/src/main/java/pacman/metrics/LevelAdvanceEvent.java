@@ -0,0 +1,42 @@
+package pacman.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A flight recorder event for the board being cleared and the game moving
+ * to the next level.
+ */
+@Name("pacman.LevelAdvance")
+@Label("Level Advance")
+@Category({"Pacman", "Gameplay"})
+@Description("The board was cleared and the game moved to the next level")
+@StackTrace(false)
+public class LevelAdvanceEvent extends jdk.jfr.Event {
+
+    @Label("Level")
+    @Description("The level that was started")
+    int level;
+
+    @Label("Ticks")
+    @Description("Ticks taken to clear the previous level")
+    int ticks;
+
+    /**
+     * Records a level advance if the event is enabled.
+     *
+     * @param level that was started.
+     * @param ticks taken to clear the previous level.
+     */
+    public static void emit(int level, int ticks) {
+        var event = new LevelAdvanceEvent();
+        if (event.shouldCommit()) {
+            event.level = level;
+            event.ticks = ticks;
+            event.commit();
+        }
+    }
+}
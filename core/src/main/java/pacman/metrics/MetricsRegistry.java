@@ -0,0 +1,75 @@
+package pacman.metrics;
+
+/**
+ * MetricsRegistry collects how long each phase of a game tick takes.
+ *
+ * A game uses {@link #NONE} unless given another registry, which records
+ * nothing and tells the game not to read the clock at all.
+ *
+ * See {@link pacman.game.PacmanGame#setMetrics(MetricsRegistry)}
+ */
+public interface MetricsRegistry {
+
+    /**
+     * A registry that records nothing and reports nothing recorded.
+     */
+    MetricsRegistry NONE = new MetricsRegistry() {
+        private final Histogram empty = new Histogram();
+
+        @Override
+        public boolean isEnabled() {
+            return false;
+        }
+
+        @Override
+        public void record(TickPhase phase, long nanos) {
+        }
+
+        @Override
+        public long getTotalNanos(TickPhase phase) {
+            return 0;
+        }
+
+        @Override
+        public long getCount(TickPhase phase) {
+            return 0;
+        }
+
+        @Override
+        public Histogram getHistogram(TickPhase phase) {
+            return empty;
+        }
+    };
+
+    /**
+     * @return true if durations should be measured and recorded, false
+     * if {@link #record(TickPhase, long)} would ignore them.
+     */
+    boolean isEnabled();
+
+    /**
+     * Records one run of a tick phase.
+     *
+     * @param phase that ran.
+     * @param nanos it took.
+     */
+    void record(TickPhase phase, long nanos);
+
+    /**
+     * @param phase of a tick.
+     * @return the total nanoseconds recorded for the phase.
+     */
+    long getTotalNanos(TickPhase phase);
+
+    /**
+     * @param phase of a tick.
+     * @return the number of times the phase was recorded.
+     */
+    long getCount(TickPhase phase);
+
+    /**
+     * @param phase of a tick.
+     * @return the histogram of the phase's recorded durations.
+     */
+    Histogram getHistogram(TickPhase phase);
+}
@@ -0,0 +1,71 @@
+package pacman.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A MetricsRegistry that keeps a running total, count and histogram for
+ * each tick phase. Phases may be recorded on one thread, e.g. a game
+ * loop, while being read on another.
+ */
+public class PhaseMetrics implements MetricsRegistry {
+
+    private static final TickPhase[] PHASES = TickPhase.values();
+
+    // total nanos and count recorded, indexed by phase ordinal
+    private final AtomicLongArray totals = new AtomicLongArray(PHASES.length);
+    private final AtomicLongArray counts = new AtomicLongArray(PHASES.length);
+    // histogram of each phase, indexed by phase ordinal
+    private final Histogram[] histograms = new Histogram[PHASES.length];
+
+    /**
+     * Creates a registry with nothing recorded.
+     */
+    public PhaseMetrics() {
+        for (int i = 0; i < histograms.length; i++) {
+            histograms[i] = new Histogram();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void record(TickPhase phase, long nanos) {
+        int i = phase.ordinal();
+        totals.addAndGet(i, nanos);
+        counts.incrementAndGet(i);
+        histograms[i].record(nanos);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getTotalNanos(TickPhase phase) {
+        return totals.get(phase.ordinal());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getCount(TickPhase phase) {
+        return counts.get(phase.ordinal());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Histogram getHistogram(TickPhase phase) {
+        return histograms[phase.ordinal()];
+    }
+}
@@ -0,0 +1,55 @@
+package pacman.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * A flight recorder event for one game tick, with the time spent in each
+ * phase. Its duration is the whole tick, so ticks can be lined up with GC
+ * pauses and other events in a recording. Recorded by {@link TickTimer}.
+ */
+@Name("pacman.Tick")
+@Label("Game Tick")
+@Category("Pacman")
+@Description("A single PacmanGame.tick and the time taken by each phase")
+@StackTrace(false)
+public class TickEvent extends jdk.jfr.Event {
+
+    @Label("Level")
+    int level;
+
+    @Label("Tick")
+    int tick;
+
+    @Label("Hunter Move")
+    @Timespan(Timespan.NANOSECONDS)
+    long hunterMove;
+
+    @Label("Hunter Hit")
+    @Timespan(Timespan.NANOSECONDS)
+    long hunterHit;
+
+    @Label("Ghost Move")
+    @Timespan(Timespan.NANOSECONDS)
+    long ghostMove;
+
+    @Label("Ghost Hit")
+    @Timespan(Timespan.NANOSECONDS)
+    long ghostHit;
+
+    @Label("Respawn")
+    @Timespan(Timespan.NANOSECONDS)
+    long respawn;
+
+    @Label("Empty Check")
+    @Timespan(Timespan.NANOSECONDS)
+    long emptyCheck;
+
+    @Label("Level Reset")
+    @Timespan(Timespan.NANOSECONDS)
+    long levelReset;
+}
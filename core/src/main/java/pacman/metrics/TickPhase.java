@@ -0,0 +1,41 @@
+package pacman.metrics;
+
+/**
+ * TickPhase names the parts of {@link pacman.game.PacmanGame#tick()} that
+ * are timed separately, in the order they run.
+ */
+public enum TickPhase {
+    /**
+     * The hunter moving.
+     */
+    HUNTER_MOVE,
+    /**
+     * The hunter checking for collisions after it moves.
+     */
+    HUNTER_HIT,
+    /**
+     * The living ghosts moving, on even ticks.
+     */
+    GHOST_MOVE,
+    /**
+     * The hunter checking for collisions after the ghosts move.
+     */
+    GHOST_HIT,
+    /**
+     * Dead ghosts respawning, and the entities resetting if the hunter
+     * died.
+     */
+    RESPAWN,
+    /**
+     * Checking whether the board has been cleared.
+     */
+    EMPTY_CHECK,
+    /**
+     * Moving to the next level after the board was cleared.
+     */
+    LEVEL_RESET,
+    /**
+     * The whole tick, from start to end.
+     */
+    TICK
+}
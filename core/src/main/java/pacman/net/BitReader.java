@@ -0,0 +1,69 @@
+package pacman.net;
+
+import java.nio.ByteBuffer;
+
+/**
+ * BitReader reads values written by a {@link BitWriter} from a buffer.
+ */
+public class BitReader {
+
+    // buffer being read, from its position when reset
+    private ByteBuffer buffer;
+    // index of the first byte to read in buffer
+    private int start;
+    // number of bits read
+    private long bits;
+
+    /**
+     * Starts reading bits from the buffer's position. The buffer's
+     * position is not changed.
+     *
+     * @param buffer to read.
+     */
+    public void reset(ByteBuffer buffer) {
+        this.buffer = buffer;
+        this.start = buffer.position();
+        this.bits = 0;
+    }
+
+    /**
+     * Reads an unsigned value of count bits.
+     *
+     * @param count number of bits to read, between 0 and 32.
+     * @return the value read.
+     * @throws IndexOutOfBoundsException if the buffer ends first.
+     */
+    public int read(int count) throws IndexOutOfBoundsException {
+        int value = 0;
+        for (int i = 0; i < count; i++) {
+            int b = buffer.get(start + (int) (bits >>> 3));
+            value = value << 1 | (b >>> (7 - (bits & 7)) & 1);
+            bits++;
+        }
+        return value;
+    }
+
+    /**
+     * @return the next bit, true if it is 1.
+     * @throws IndexOutOfBoundsException if the buffer ends first.
+     */
+    public boolean readBoolean() throws IndexOutOfBoundsException {
+        return read(1) != 0;
+    }
+
+    /**
+     * Reads an int written by {@link BitWriter#writeVarInt(int)}.
+     *
+     * @return the value read.
+     * @throws IndexOutOfBoundsException if the buffer ends first.
+     */
+    public int readVarInt() throws IndexOutOfBoundsException {
+        int value = 0;
+        for (int shift = 0; ; shift += 7) {
+            value |= read(7) << shift;
+            if (!readBoolean()) {
+                return value;
+            }
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package pacman.net;
+
+import java.util.Arrays;
+
+/**
+ * BitWriter packs values of any number of bits into bytes, most
+ * significant bit first, for encoding frames sent to clients.
+ *
+ * The bytes are written to an array that grows as needed and is kept
+ * between uses, so writing does not allocate once it is big enough.
+ */
+public class BitWriter {
+
+    // bytes written so far, the last one possibly partly filled
+    private byte[] bytes = new byte[256];
+    // number of bits written
+    private long bits;
+
+    /**
+     * Discards everything written.
+     */
+    public void clear() {
+        Arrays.fill(bytes, 0, byteLength(), (byte) 0);
+        bits = 0;
+    }
+
+    /**
+     * Writes the lowest count bits of value, highest bit first.
+     *
+     * @param value to write.
+     * @param count number of bits to write, between 0 and 32.
+     */
+    public void write(int value, int count) {
+        ensure(bits + count);
+        for (int i = count - 1; i >= 0; i--) {
+            if ((value >>> i & 1) != 0) {
+                bytes[(int) (bits >>> 3)] |= 0x80 >>> (bits & 7);
+            }
+            bits++;
+        }
+    }
+
+    /**
+     * Writes a single bit.
+     *
+     * @param value true for 1, false for 0.
+     */
+    public void writeBoolean(boolean value) {
+        write(value ? 1 : 0, 1);
+    }
+
+    /**
+     * Writes an unsigned int in groups of 7 bits, each followed by a bit
+     * saying if another group follows, so small values take few bits.
+     *
+     * @param value to write, treated as unsigned.
+     */
+    public void writeVarInt(int value) {
+        while ((value & ~0x7F) != 0) {
+            write(value & 0x7F, 7);
+            writeBoolean(true);
+            value >>>= 7;
+        }
+        write(value, 7);
+        writeBoolean(false);
+    }
+
+    /**
+     * @return the number of bits written.
+     */
+    public long getBits() {
+        return bits;
+    }
+
+    /**
+     * @return the number of bytes holding the bits written, with the
+     * last byte padded with zeros.
+     */
+    public int byteLength() {
+        return (int) ((bits + 7) >>> 3);
+    }
+
+    /**
+     * Copies the bytes written into an array.
+     *
+     * @param target to copy into.
+     * @param offset of the first byte in target.
+     */
+    public void copyTo(byte[] target, int offset) {
+        System.arraycopy(bytes, 0, target, offset, byteLength());
+    }
+
+    /**
+     * Gives the number of bits needed to write every value from 0 to max.
+     *
+     * @param max largest value to write, at least 0.
+     * @return number of bits, at least 1.
+     */
+    public static int bitsFor(int max) {
+        return Math.max(1, 32 - Integer.numberOfLeadingZeros(max));
+    }
+
+    /*
+     * Grows the array to hold the given number of bits.
+     */
+    private void ensure(long total) {
+        int needed = (int) ((total + 7) >>> 3);
+        if (needed > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(needed, 2 * bytes.length));
+        }
+    }
+}
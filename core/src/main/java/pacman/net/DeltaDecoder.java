@@ -0,0 +1,299 @@
+package pacman.net;
+
+import pacman.board.BoardItem;
+import pacman.ghost.Phase;
+import pacman.util.Direction;
+import pacman.util.Position;
+
+import java.nio.ByteBuffer;
+
+/**
+ * DeltaDecoder keeps a copy of a game's state up to date from the frames
+ * of a {@link DeltaEncoder}, as a client of a {@link GameServer} would.
+ *
+ * Deltas received before the first keyframe are ignored, as there is no
+ * state for them to change.
+ */
+public class DeltaDecoder {
+
+    // values kept of each hunter and ghost, as in DeltaEncoder
+    private static final int FIELDS = 5;
+    private static final BoardItem[] ITEMS = BoardItem.values();
+    private static final Direction[] DIRECTIONS = Direction.values();
+    private static final Phase[] PHASES = Phase.values();
+
+    private final BitReader reader = new BitReader();
+
+    // whether a keyframe has been applied
+    private boolean synced;
+    private int tick;
+    private int width;
+    private int height;
+    private int xBits;
+    private int yBits;
+    // items of the board, indexed by y * width + x
+    private BoardItem[] cells = new BoardItem[0];
+    // fields of each hunter and ghost, as in DeltaEncoder
+    private int[] hunters = new int[0];
+    private int[] ghosts = new int[0];
+    private int score;
+    private int level;
+
+    /**
+     * Applies a frame to the state.
+     *
+     * @param frame the packed bits of a frame from its position, without
+     *              the length before them. The position is not changed.
+     * @return true if applied, false if it was a delta received before
+     * any keyframe.
+     * @throws IndexOutOfBoundsException if the frame is cut short.
+     */
+    public boolean apply(ByteBuffer frame) throws IndexOutOfBoundsException {
+        reader.reset(frame);
+        boolean keyframe = reader.readBoolean();
+        if (!keyframe && !synced) {
+            return false;
+        }
+        tick = reader.readVarInt();
+        if (keyframe) {
+            readKeyframe();
+        } else {
+            readDelta();
+        }
+        return true;
+    }
+
+    /**
+     * @return true once a keyframe has been applied.
+     */
+    public boolean isSynced() {
+        return synced;
+    }
+
+    /**
+     * @return the tick of the last frame applied.
+     */
+    public int getTick() {
+        return tick;
+    }
+
+    /**
+     * @return the width of the board.
+     */
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * @return the height of the board.
+     */
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * @param x of the cell.
+     * @param y of the cell.
+     * @return the item at (x, y) on the board.
+     * @throws IndexOutOfBoundsException if the cell is not on the board.
+     */
+    public BoardItem getEntry(int x, int y) throws IndexOutOfBoundsException {
+        if (x < 0 || y < 0 || x >= width || y >= height) {
+            throw new IndexOutOfBoundsException();
+        }
+        return cells[y * width + x];
+    }
+
+    /**
+     * @return the number of hunters in the game.
+     */
+    public int getHunterCount() {
+        return hunters.length / FIELDS;
+    }
+
+    /**
+     * @param hunter index of the hunter.
+     * @return its position, or null if it is not on the board.
+     */
+    public Position getHunterPosition(int hunter) {
+        return position(hunters, hunter);
+    }
+
+    /**
+     * @param hunter index of the hunter.
+     * @return the direction it faces.
+     */
+    public Direction getHunterDirection(int hunter) {
+        return DIRECTIONS[hunters[hunter * FIELDS + 2]];
+    }
+
+    /**
+     * @param hunter index of the hunter.
+     * @return true if its special is active.
+     */
+    public boolean isHunterSpecialActive(int hunter) {
+        return hunters[hunter * FIELDS + 3] != 0;
+    }
+
+    /**
+     * @param hunter index of the hunter.
+     * @return the lives it has left.
+     */
+    public int getLives(int hunter) {
+        return hunters[hunter * FIELDS + 4];
+    }
+
+    /**
+     * @return the number of ghosts in the game.
+     */
+    public int getGhostCount() {
+        return ghosts.length / FIELDS;
+    }
+
+    /**
+     * @param ghost index of the ghost.
+     * @return its position, or null if it is not on the board.
+     */
+    public Position getGhostPosition(int ghost) {
+        return position(ghosts, ghost);
+    }
+
+    /**
+     * @param ghost index of the ghost.
+     * @return the direction it faces.
+     */
+    public Direction getGhostDirection(int ghost) {
+        return DIRECTIONS[ghosts[ghost * FIELDS + 2]];
+    }
+
+    /**
+     * @param ghost index of the ghost.
+     * @return its phase.
+     */
+    public Phase getGhostPhase(int ghost) {
+        return PHASES[ghosts[ghost * FIELDS + 3]];
+    }
+
+    /**
+     * @param ghost index of the ghost.
+     * @return true if it is dead.
+     */
+    public boolean isGhostDead(int ghost) {
+        return ghosts[ghost * FIELDS + 4] != 0;
+    }
+
+    /**
+     * @return the score of the game.
+     */
+    public int getScore() {
+        return score;
+    }
+
+    /**
+     * @return the level of the game.
+     */
+    public int getLevel() {
+        return level;
+    }
+
+    /*
+     * Reads the rest of a keyframe, replacing the whole state.
+     */
+    private void readKeyframe() {
+        width = reader.readVarInt();
+        height = reader.readVarInt();
+        xBits = BitWriter.bitsFor(Math.max(0, width - 1));
+        yBits = BitWriter.bitsFor(Math.max(0, height - 1));
+        int hunterCount = reader.readVarInt();
+        int ghostCount = reader.readVarInt();
+
+        if (cells.length != width * height) {
+            cells = new BoardItem[width * height];
+        }
+        for (int i = 0; i < cells.length; i++) {
+            cells[i] = ITEMS[reader.read(DeltaEncoder.ITEM_BITS)];
+        }
+
+        if (hunters.length != hunterCount * FIELDS) {
+            hunters = new int[hunterCount * FIELDS];
+        }
+        if (ghosts.length != ghostCount * FIELDS) {
+            ghosts = new int[ghostCount * FIELDS];
+        }
+        for (int i = 0; i < hunterCount; i++) {
+            readHunter(i);
+        }
+        for (int i = 0; i < ghostCount; i++) {
+            readGhost(i);
+        }
+        score = reader.readVarInt();
+        level = reader.readVarInt();
+        synced = true;
+    }
+
+    /*
+     * Reads the rest of a delta, changing only what it holds.
+     */
+    private void readDelta() {
+        int count = reader.readVarInt();
+        int cell = -1;
+        for (int i = 0; i < count; i++) {
+            cell += reader.readVarInt() + 1;
+            cells[cell] = ITEMS[reader.read(DeltaEncoder.ITEM_BITS)];
+        }
+
+        for (int i = 0; i < getHunterCount(); i++) {
+            if (reader.readBoolean()) {
+                readHunter(i);
+            }
+        }
+        for (int i = 0; i < getGhostCount(); i++) {
+            if (reader.readBoolean()) {
+                readGhost(i);
+            }
+        }
+        if (reader.readBoolean()) {
+            score = reader.readVarInt();
+        }
+        if (reader.readBoolean()) {
+            level = reader.readVarInt();
+        }
+    }
+
+    /*
+     * Reads the fields of the index-th hunter.
+     */
+    private void readHunter(int index) {
+        readPosition(hunters, index);
+        hunters[index * FIELDS + 2] = reader.read(DeltaEncoder.DIRECTION_BITS);
+        hunters[index * FIELDS + 3] = reader.read(1);
+        hunters[index * FIELDS + 4] = reader.readVarInt();
+    }
+
+    /*
+     * Reads the fields of the index-th ghost.
+     */
+    private void readGhost(int index) {
+        readPosition(ghosts, index);
+        ghosts[index * FIELDS + 2] = reader.read(DeltaEncoder.DIRECTION_BITS);
+        ghosts[index * FIELDS + 3] = reader.read(DeltaEncoder.PHASE_BITS);
+        ghosts[index * FIELDS + 4] = reader.read(1);
+    }
+
+    /*
+     * Reads a position into the first two fields of an entity.
+     */
+    private void readPosition(int[] fields, int index) {
+        boolean onBoard = reader.readBoolean();
+        fields[index * FIELDS] = onBoard ? reader.read(xBits) : -1;
+        fields[index * FIELDS + 1] = onBoard ? reader.read(yBits) : -1;
+    }
+
+    /*
+     * Returns the position in the first two fields of an entity.
+     */
+    private static Position position(int[] fields, int index) {
+        int x = fields[index * FIELDS];
+        return x < 0 ? null : new Position(x, fields[index * FIELDS + 1]);
+    }
+}
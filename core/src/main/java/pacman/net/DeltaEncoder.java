@@ -0,0 +1,340 @@
+package pacman.net;
+
+import pacman.board.DirtyCells;
+import pacman.board.PacmanBoard;
+import pacman.game.PacmanGame;
+import pacman.ghost.Ghost;
+import pacman.hunter.Hunter;
+import pacman.util.Position;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * DeltaEncoder encodes the state of a game as frames to send to clients,
+ * which a {@link DeltaDecoder} turns back into the state.
+ *
+ * A keyframe holds the whole state. A delta holds only what changed since
+ * the previous delta: the cells set on the board, e.g. by eating dots,
+ * the hunters and ghosts that moved, turned or changed phase, and the
+ * score, level and lives if they changed. Frames are bit packed, with
+ * positions taking only as many bits as the board's size needs.
+ *
+ * Each frame starts with its length in bytes as an int, not counting the
+ * int itself, followed by the packed bits:
+ * <pre>
+ * keyframe  1 bit, then tick as a varint, then for a keyframe:
+ *   width, height, hunters, ghosts as varints
+ *   3 bits per cell, by BoardItem.ordinal(), in row order
+ *   each hunter, each ghost (see below)
+ *   score, level as varints
+ * or for a delta:
+ *   number of cells changed as a varint, then for each, in row order,
+ *   the gap from the previous changed cell as a varint and 3 bits of item
+ *   a changed bit for each hunter and ghost, followed by it if set
+ *   a changed bit followed by the score if set, the same for level
+ * </pre>
+ * A hunter is its position, 2 bits of direction, a special active bit and
+ * its lives as a varint. A ghost is its position, 2 bits each of direction
+ * and phase and a dead bit. A position is a bit saying it is on the board
+ * followed by x and y if it is. Varints are as in
+ * {@link BitWriter#writeVarInt(int)}.
+ *
+ * A delta that cannot describe the change, because the board was reset or
+ * a hunter was added, is encoded as a keyframe instead.
+ */
+public class DeltaEncoder {
+
+    // bits of a BoardItem, a Direction and a Phase
+    static final int ITEM_BITS = 3;
+    static final int DIRECTION_BITS = 2;
+    static final int PHASE_BITS = 2;
+    // values kept of each hunter and ghost
+    private static final int FIELDS = 5;
+
+    // game being encoded
+    private final PacmanGame game;
+    private final PacmanBoard board;
+    // cells set since the last delta
+    private final DirtyCells changed;
+    // bits of an x and y coordinate
+    private final int xBits;
+    private final int yBits;
+
+    // reused while encoding
+    private final BitWriter writer = new BitWriter();
+    private int[] changedCells = new int[64];
+    private int changedCount;
+    private final DirtyCells.CellVisitor collect = this::collect;
+    private final int[] state = new int[FIELDS];
+
+    // state as of the last delta, with -1 for positions off the board
+    private boolean primed;
+    private int hunterCount;
+    private int[] hunterState = new int[0];
+    private final int[] ghostState;
+    private int score;
+    private int level;
+
+    /**
+     * Creates an encoder for the given game, listening to changes of the
+     * game's board. The first delta encoded is a keyframe.
+     *
+     * @param game to encode.
+     */
+    public DeltaEncoder(PacmanGame game) {
+        this.game = game;
+        this.board = game.getBoard();
+        this.changed = new DirtyCells(board.getWidth(), board.getHeight());
+        this.xBits = BitWriter.bitsFor(Math.max(0, board.getWidth() - 1));
+        this.yBits = BitWriter.bitsFor(Math.max(0, board.getHeight() - 1));
+        this.ghostState = new int[game.getGhosts().size() * FIELDS];
+        board.addListener(changed);
+    }
+
+    /**
+     * Stops listening to the board, after which the encoder must not be
+     * used.
+     */
+    public void detach() {
+        board.removeListener(changed);
+    }
+
+    /**
+     * Encodes what changed since the previous delta, or a keyframe if it
+     * cannot be described as a delta.
+     *
+     * @return the frame, a read only buffer of its own bytes.
+     */
+    public ByteBuffer delta() {
+        if (!primed || changed.isAllDirty()
+                || hunterCount != game.getHunterCount()) {
+            var frame = keyframe();
+            remember();
+            return frame;
+        }
+
+        writer.clear();
+        writer.writeBoolean(false);
+        writer.writeVarInt(game.getTick());
+
+        changedCount = 0;
+        changed.forEach(collect);
+        writer.writeVarInt(changedCount);
+        int previous = -1;
+        for (int i = 0; i < changedCount; i++) {
+            int cell = changedCells[i];
+            writer.writeVarInt(cell - previous - 1);
+            int x = cell % board.getWidth();
+            int y = cell / board.getWidth();
+            writer.write(board.getEntry(x, y).ordinal(), ITEM_BITS);
+            previous = cell;
+        }
+
+        for (int i = 0; i < hunterCount; i++) {
+            hunterFields(i, state);
+            boolean moved = differs(state, hunterState, i);
+            writer.writeBoolean(moved);
+            if (moved) {
+                writeHunter(state);
+                System.arraycopy(state, 0, hunterState, i * FIELDS, FIELDS);
+            }
+        }
+        var ghosts = game.getGhosts();
+        for (int i = 0; i < ghosts.size(); i++) {
+            ghostFields(ghosts.get(i), state);
+            boolean moved = differs(state, ghostState, i);
+            writer.writeBoolean(moved);
+            if (moved) {
+                writeGhost(state);
+                System.arraycopy(state, 0, ghostState, i * FIELDS, FIELDS);
+            }
+        }
+
+        int newScore = game.getScores().getScore();
+        writer.writeBoolean(newScore != score);
+        if (newScore != score) {
+            writer.writeVarInt(newScore);
+            score = newScore;
+        }
+        writer.writeBoolean(game.getLevel() != level);
+        if (game.getLevel() != level) {
+            writer.writeVarInt(game.getLevel());
+            level = game.getLevel();
+        }
+
+        changed.clear();
+        return frame();
+    }
+
+    /**
+     * Encodes the whole state of the game, for clients joining or catching
+     * up. Does not change what the next delta holds.
+     *
+     * @return the frame, a read only buffer of its own bytes.
+     */
+    public ByteBuffer keyframe() {
+        writer.clear();
+        writer.writeBoolean(true);
+        writer.writeVarInt(game.getTick());
+        writer.writeVarInt(board.getWidth());
+        writer.writeVarInt(board.getHeight());
+        writer.writeVarInt(game.getHunterCount());
+        var ghosts = game.getGhosts();
+        writer.writeVarInt(ghosts.size());
+
+        for (int y = 0; y < board.getHeight(); y++) {
+            for (int x = 0; x < board.getWidth(); x++) {
+                writer.write(board.getEntry(x, y).ordinal(), ITEM_BITS);
+            }
+        }
+
+        for (int i = 0; i < game.getHunterCount(); i++) {
+            hunterFields(i, state);
+            writeHunter(state);
+        }
+        for (var ghost : ghosts) {
+            ghostFields(ghost, state);
+            writeGhost(state);
+        }
+        writer.writeVarInt(game.getScores().getScore());
+        writer.writeVarInt(game.getLevel());
+        return frame();
+    }
+
+    /**
+     * Checks if a frame is a keyframe.
+     *
+     * @param frame as returned by {@link #delta()} or {@link #keyframe()},
+     *              from its start.
+     * @return true if it is a keyframe.
+     */
+    public static boolean isKeyframe(ByteBuffer frame) {
+        return (frame.get(frame.position() + Integer.BYTES) & 0x80) != 0;
+    }
+
+    /*
+     * Remembers the state of the game as sent by a keyframe, so the next
+     * delta is relative to it.
+     */
+    private void remember() {
+        hunterCount = game.getHunterCount();
+        if (hunterState.length != hunterCount * FIELDS) {
+            hunterState = new int[hunterCount * FIELDS];
+        }
+        for (int i = 0; i < hunterCount; i++) {
+            hunterFields(i, state);
+            System.arraycopy(state, 0, hunterState, i * FIELDS, FIELDS);
+        }
+        var ghosts = game.getGhosts();
+        for (int i = 0; i < ghosts.size(); i++) {
+            ghostFields(ghosts.get(i), state);
+            System.arraycopy(state, 0, ghostState, i * FIELDS, FIELDS);
+        }
+        score = game.getScores().getScore();
+        level = game.getLevel();
+        changed.clear();
+        primed = true;
+    }
+
+    /*
+     * Copies what was written into a new length prefixed frame.
+     */
+    private ByteBuffer frame() {
+        int length = writer.byteLength();
+        byte[] bytes = new byte[Integer.BYTES + length];
+        ByteBuffer.wrap(bytes).putInt(length);
+        writer.copyTo(bytes, Integer.BYTES);
+        return ByteBuffer.wrap(bytes).asReadOnlyBuffer();
+    }
+
+    /*
+     * Adds a changed cell to changedCells, called in row order.
+     */
+    private void collect(int x, int y) {
+        if (changedCount == changedCells.length) {
+            changedCells = Arrays.copyOf(changedCells, 2 * changedCount);
+        }
+        changedCells[changedCount++] = y * board.getWidth() + x;
+    }
+
+    /*
+     * Fills state with the x, y, direction, special and lives of a hunter.
+     */
+    private void hunterFields(int index, int[] state) {
+        Hunter hunter = game.getHunter(index);
+        position(hunter.getPosition(), state);
+        state[2] = hunter.getDirection().ordinal();
+        state[3] = hunter.isSpecialActive() ? 1 : 0;
+        state[4] = game.getLives(index);
+    }
+
+    /*
+     * Fills state with the x, y, direction, phase and dead of a ghost.
+     */
+    private void ghostFields(Ghost ghost, int[] state) {
+        position(ghost.getPosition(), state);
+        state[2] = ghost.getDirection().ordinal();
+        state[3] = ghost.getPhase().ordinal();
+        state[4] = ghost.isDead() ? 1 : 0;
+    }
+
+    /*
+     * Fills the first two fields of state with a position, or -1 if it is
+     * not on the board.
+     */
+    private void position(Position position, int[] state) {
+        if (position == null || position.getX() < 0 || position.getY() < 0
+                || position.getX() >= board.getWidth()
+                || position.getY() >= board.getHeight()) {
+            state[0] = -1;
+            state[1] = -1;
+        } else {
+            state[0] = position.getX();
+            state[1] = position.getY();
+        }
+    }
+
+    /*
+     * Checks if state differs from the index-th entity's in previous.
+     */
+    private static boolean differs(int[] state, int[] previous, int index) {
+        for (int f = 0; f < FIELDS; f++) {
+            if (state[f] != previous[index * FIELDS + f]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /*
+     * Writes the fields of a hunter.
+     */
+    private void writeHunter(int[] state) {
+        writePosition(state);
+        writer.write(state[2], DIRECTION_BITS);
+        writer.writeBoolean(state[3] != 0);
+        writer.writeVarInt(state[4]);
+    }
+
+    /*
+     * Writes the fields of a ghost.
+     */
+    private void writeGhost(int[] state) {
+        writePosition(state);
+        writer.write(state[2], DIRECTION_BITS);
+        writer.write(state[3], PHASE_BITS);
+        writer.writeBoolean(state[4] != 0);
+    }
+
+    /*
+     * Writes the position in the first two fields of state.
+     */
+    private void writePosition(int[] state) {
+        writer.writeBoolean(state[0] >= 0);
+        if (state[0] >= 0) {
+            writer.write(state[0], xBits);
+            writer.write(state[1], yBits);
+        }
+    }
+}
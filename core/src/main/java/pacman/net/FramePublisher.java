@@ -0,0 +1,158 @@
+package pacman.net;
+
+import pacman.game.PacmanGame;
+import pacman.game.TickListener;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * FramePublisher encodes each tick of a game once, as it is ticked, and
+ * offers the frame to every {@link FrameSink} added to it, e.g. players'
+ * connections or spectators' {@link Subscription}s.
+ *
+ * Every sink is offered the same read only buffer, so the cost of
+ * encoding does not grow with the number of sinks. A sink that refuses a
+ * frame is offered a keyframe next, encoded at most once per tick however
+ * many sinks need it. Every sink is also sent a keyframe when it is added
+ * and every keyframeInterval ticks.
+ *
+ * Sinks may be added and removed from any thread.
+ */
+public class FramePublisher implements TickListener {
+
+    // game being published
+    private final PacmanGame game;
+    private final DeltaEncoder encoder;
+    // frames between keyframes sent to every sink
+    private final int keyframeInterval;
+    // sinks with whether each must be sent a keyframe next
+    private final List<Sink> sinks = new CopyOnWriteArrayList<>();
+
+    private final AtomicLong published = new AtomicLong();
+    private final AtomicLong refused = new AtomicLong();
+
+    /**
+     * Creates a publisher listening to the ticks of the given game.
+     *
+     * @param game to publish.
+     * @param keyframeInterval ticks between keyframes sent to every sink,
+     *                         at least 1.
+     * @throws IllegalArgumentException if keyframeInterval is less than 1.
+     */
+    public FramePublisher(PacmanGame game, int keyframeInterval)
+            throws IllegalArgumentException {
+        if (keyframeInterval < 1) {
+            throw new IllegalArgumentException("keyframeInterval < 1");
+        }
+        this.game = game;
+        this.encoder = new DeltaEncoder(game);
+        this.keyframeInterval = keyframeInterval;
+        game.addTickListener(this);
+    }
+
+    /**
+     * Stops listening to the game, after which nothing more is published.
+     */
+    public void detach() {
+        game.removeTickListener(this);
+        encoder.detach();
+    }
+
+    /**
+     * Adds a sink, which is offered a keyframe at the next tick.
+     *
+     * @param sink to add.
+     */
+    public void add(FrameSink sink) {
+        sinks.add(new Sink(sink));
+    }
+
+    /**
+     * Removes a sink added by {@link #add(FrameSink)}.
+     *
+     * @param sink to remove.
+     */
+    public void remove(FrameSink sink) {
+        sinks.removeIf(entry -> entry.sink == sink);
+    }
+
+    /**
+     * Adds a new subscription for a spectator.
+     *
+     * @param capacity least number of frames the subscription holds
+     *                 before frames are refused.
+     * @return the subscription.
+     */
+    public Subscription subscribe(int capacity) {
+        var subscription = new Subscription(capacity);
+        add(subscription);
+        return subscription;
+    }
+
+    /**
+     * @return the number of sinks.
+     */
+    public int getSinkCount() {
+        return sinks.size();
+    }
+
+    /**
+     * @return the number of ticks published.
+     */
+    public long getPublished() {
+        return published.get();
+    }
+
+    /**
+     * @return the number of frames refused by sinks.
+     */
+    public long getRefused() {
+        return refused.get();
+    }
+
+    /**
+     * Publishes the tick to every sink.
+     *
+     * @param game that was ticked.
+     */
+    @Override
+    public void ticked(PacmanGame game) {
+        // always take the delta so the next one is relative to this tick
+        ByteBuffer frame = encoder.delta();
+        if (published.incrementAndGet() % keyframeInterval == 0
+                && !DeltaEncoder.isKeyframe(frame)) {
+            frame = encoder.keyframe();
+        }
+        ByteBuffer keyframe = DeltaEncoder.isKeyframe(frame) ? frame : null;
+
+        for (var entry : sinks) {
+            ByteBuffer bytes = frame;
+            if (entry.needsKeyframe) {
+                if (keyframe == null) {
+                    keyframe = encoder.keyframe();
+                }
+                bytes = keyframe;
+            }
+            entry.needsKeyframe = !entry.sink.offer(bytes);
+            if (entry.needsKeyframe) {
+                refused.incrementAndGet();
+            }
+        }
+    }
+
+    /*
+     * A sink added to the publisher.
+     */
+    private static final class Sink {
+        private final FrameSink sink;
+        // only touched by the publishing thread once added
+        private boolean needsKeyframe = true;
+
+        private Sink(FrameSink sink) {
+            this.sink = sink;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package pacman.net;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Takes the frames published by a {@link FramePublisher}, e.g. to send
+ * them to a client or hand them to another thread.
+ */
+public interface FrameSink {
+
+    /**
+     * Offers the next frame, on the thread ticking the game. The same
+     * buffer is offered to every sink, so it must not be changed and
+     * should be read through {@link ByteBuffer#duplicate()}.
+     *
+     * If the sink is still busy with earlier frames it can refuse the
+     * frame, and the next frame it is offered is a keyframe so that it
+     * can catch up.
+     *
+     * @param frame as encoded by a {@link DeltaEncoder}.
+     * @return true if the frame was taken, false if it was refused.
+     */
+    boolean offer(ByteBuffer frame);
+}
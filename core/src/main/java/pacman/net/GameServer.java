@@ -0,0 +1,484 @@
+package pacman.net;
+
+import pacman.game.Command;
+import pacman.game.PacmanGame;
+import pacman.metrics.Histogram;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.CancelledKeyException;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * GameServer hosts one game for many clients over TCP. The server is the
+ * only one to tick the game, at a fixed rate, and after each tick sends
+ * every client a frame of what changed, see {@link DeltaEncoder}.
+ *
+ * Frames are sent by a {@link FramePublisher}, so each is encoded once
+ * per tick and the same bytes are written to every client. A client that
+ * cannot take a frame as fast as it is sent misses the frames sent while
+ * the one before is still being written, and gets a keyframe once it has
+ * caught up. Every client also gets a keyframe when it joins and every
+ * keyframeInterval ticks.
+ *
+ * On connecting the server sends a hello of three ints in big endian
+ * order: {@link #MAGIC}, the index of the hunter the client controls and
+ * the ticks per second. Clients take turns controlling each hunter in
+ * order. Each byte a client sends is the ordinal of a {@link Command}
+ * from LEFT to SPECIAL, which is applied to its hunter before the next
+ * tick. The server closes the connection of a client that sends anything
+ * else.
+ *
+ * Spectators connect to the address given to
+ * {@link #startSpectators(InetSocketAddress)} and are sent the same hello
+ * and frames, with a hunter index of -1. They must not send anything.
+ * Spectators in this process can read the frames through
+ * {@link #subscribe(int)} instead.
+ *
+ * All clients are served by one thread with non-blocking channels.
+ */
+public class GameServer implements Closeable {
+
+    /**
+     * First int of the hello, "PACN".
+     */
+    public static final int MAGIC = 0x5041434E;
+
+    // size of the hello in bytes
+    private static final int HELLO_BYTES = 3 * Integer.BYTES;
+    // largest command clients may send
+    private static final int LAST_COMMAND = Command.SPECIAL.ordinal();
+    private static final Command[] COMMANDS = Command.values();
+    // connections waiting to be accepted
+    private static final int BACKLOG = 1 << 14;
+
+    // game being served, only touched by the server thread once started
+    private final PacmanGame game;
+    private final FramePublisher publisher;
+    // nanoseconds between ticks
+    private final long period;
+    private final int ticksPerSecond;
+    // start of the current tick
+    private long tickStart;
+
+    // clients connected, only touched by the server thread
+    private final List<Client> clients = new ArrayList<>();
+    // reused for reading commands
+    private final ByteBuffer input = ByteBuffer.allocate(256);
+    // number of clients that have connected, for taking turns at hunters
+    private int joined;
+
+    // time from the start of a tick to a client being sent its frame
+    private final Histogram latencies = new Histogram();
+    private final AtomicLong ticks = new AtomicLong();
+    private final AtomicLong framesSent = new AtomicLong();
+    private final AtomicLong bytesSent = new AtomicLong();
+    private volatile int clientCount;
+
+    private ServerSocketChannel server;
+    // listens for spectators, or null
+    private ServerSocketChannel spectators;
+    private Selector selector;
+    private Thread thread;
+
+    /**
+     * Creates a server for the given game, which must not be used
+     * elsewhere once the server is started.
+     *
+     * @param game to serve.
+     * @param ticksPerSecond rate to tick the game at, at least 1.
+     * @param keyframeInterval ticks between keyframes sent to everyone,
+     *                         at least 1.
+     * @throws IllegalArgumentException if ticksPerSecond or
+     *                                  keyframeInterval is less than 1.
+     */
+    public GameServer(PacmanGame game, int ticksPerSecond,
+            int keyframeInterval) throws IllegalArgumentException {
+        if (ticksPerSecond < 1 || keyframeInterval < 1) {
+            throw new IllegalArgumentException();
+        }
+        this.game = game;
+        this.publisher = new FramePublisher(game, keyframeInterval);
+        this.ticksPerSecond = ticksPerSecond;
+        this.period = TimeUnit.SECONDS.toNanos(1) / ticksPerSecond;
+    }
+
+    /**
+     * Binds the server to the given address and starts ticking the game
+     * and serving clients on a daemon thread.
+     *
+     * @param address to listen on, e.g. port 0 to have any free port
+     *                chosen.
+     * @return the address listened on.
+     * @throws IOException if unable to bind to the address.
+     * @throws IllegalStateException if the server was already started.
+     */
+    public synchronized InetSocketAddress start(InetSocketAddress address)
+            throws IOException {
+        if (server != null) {
+            throw new IllegalStateException("already started");
+        }
+        selector = Selector.open();
+        server = ServerSocketChannel.open();
+        server.bind(address, BACKLOG);
+        server.configureBlocking(false);
+        server.register(selector, SelectionKey.OP_ACCEPT);
+
+        thread = new Thread(this::run, "pacman-game-server");
+        thread.setDaemon(true);
+        thread.start();
+        return (InetSocketAddress) server.getLocalAddress();
+    }
+
+    /**
+     * Binds a second address that spectators connect to.
+     *
+     * @param address to listen on, e.g. port 0 to have any free port
+     *                chosen.
+     * @return the address listened on.
+     * @throws IOException if unable to bind to the address.
+     * @throws IllegalStateException if the server has not been started or
+     *                               is already listening for spectators.
+     */
+    public synchronized InetSocketAddress startSpectators(
+            InetSocketAddress address) throws IOException {
+        if (server == null || spectators != null) {
+            throw new IllegalStateException();
+        }
+        spectators = ServerSocketChannel.open();
+        spectators.bind(address, BACKLOG);
+        spectators.configureBlocking(false);
+        spectators.register(selector, SelectionKey.OP_ACCEPT);
+        selector.wakeup();
+        return (InetSocketAddress) spectators.getLocalAddress();
+    }
+
+    /**
+     * Subscribes a spectator in this process to the frames sent to
+     * clients. See {@link FramePublisher#subscribe(int)}
+     *
+     * @param capacity least number of frames the subscription holds.
+     * @return the subscription, which is never removed.
+     */
+    public Subscription subscribe(int capacity) {
+        return publisher.subscribe(capacity);
+    }
+
+    /**
+     * Stops the server, closing every client's connection, and waits for
+     * it to finish.
+     *
+     * @throws IOException if unable to close the server socket.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (server == null) {
+            return;
+        }
+        server.close();
+        if (spectators != null) {
+            spectators.close();
+        }
+        selector.close();
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * @return the number of clients connected.
+     */
+    public int getClientCount() {
+        return clientCount;
+    }
+
+    /**
+     * @return the number of ticks made.
+     */
+    public long getTicks() {
+        return ticks.get();
+    }
+
+    /**
+     * @return the number of frames fully written to clients.
+     */
+    public long getFramesSent() {
+        return framesSent.get();
+    }
+
+    /**
+     * @return the number of frames clients and subscriptions missed by
+     * falling behind.
+     */
+    public long getFramesSkipped() {
+        return publisher.getRefused();
+    }
+
+    /**
+     * @return the number of frame bytes written to clients.
+     */
+    public long getBytesSent() {
+        return bytesSent.get();
+    }
+
+    /**
+     * @return the time from the start of each tick to each client having
+     * been written its frame, one value per frame sent.
+     */
+    public Histogram getLatencies() {
+        return latencies;
+    }
+
+    /*
+     * A connected player or spectator.
+     */
+    private final class Client implements FrameSink {
+        private final SocketChannel channel;
+        private final SelectionKey key;
+        // hunter controlled, or -1 for a spectator
+        private final int player;
+        // commands received since the last tick, or null
+        private Command direction;
+        private boolean special;
+        // frame being written, or null when up to date
+        private ByteBuffer sending;
+        // start of the tick the frame being written is for
+        private long tickStart;
+        // whether the key is waiting for the channel to take more
+        private boolean waiting;
+
+        private Client(SocketChannel channel, SelectionKey key, int player) {
+            this.channel = channel;
+            this.key = key;
+            this.player = player;
+        }
+
+        /*
+         * Starts writing the frame unless the previous one is still being
+         * written.
+         */
+        @Override
+        public boolean offer(ByteBuffer frame) {
+            if (sending != null) {
+                return false;
+            }
+            tickStart = GameServer.this.tickStart;
+            try {
+                send(this, frame.duplicate());
+            } catch (IOException e) {
+                drop(this);
+            }
+            return true;
+        }
+    }
+
+    /*
+     * Ticks the game and serves clients until the server is closed.
+     */
+    private void run() {
+        long next = System.nanoTime() + period;
+        try {
+            while (server.isOpen()) {
+                long wait = next - System.nanoTime();
+                if (wait > 0) {
+                    selector.select(Math.max(1,
+                            TimeUnit.NANOSECONDS.toMillis(wait)));
+                } else {
+                    selector.selectNow();
+                }
+
+                for (var key : selector.selectedKeys()) {
+                    handle(key);
+                }
+                selector.selectedKeys().clear();
+
+                long now = System.nanoTime();
+                if (now - next >= 0) {
+                    tick(now);
+                    // skip ticks rather than hurry to catch up on them
+                    next = Math.max(next + period, now);
+                }
+            }
+        } catch (ClosedSelectorException | CancelledKeyException e) {
+            // closed by close()
+        } catch (IOException e) {
+            // the selector failed, nothing more can be served
+        } finally {
+            for (var client : clients) {
+                publisher.remove(client);
+                closeQuietly(client);
+            }
+            clients.clear();
+            clientCount = 0;
+        }
+    }
+
+    /*
+     * Handles a channel that is ready.
+     */
+    private void handle(SelectionKey key) {
+        if (!key.isValid()) {
+            return;
+        }
+        if (key.isAcceptable()) {
+            accept((ServerSocketChannel) key.channel());
+            return;
+        }
+        var client = (Client) key.attachment();
+        try {
+            if (key.isReadable()) {
+                read(client);
+            }
+            if (key.isValid() && key.isWritable()) {
+                write(client);
+            }
+        } catch (IOException e) {
+            drop(client);
+        }
+    }
+
+    /*
+     * Accepts every waiting player or spectator and sends them a hello.
+     */
+    private void accept(ServerSocketChannel listener) {
+        try {
+            SocketChannel channel;
+            while ((channel = listener.accept()) != null) {
+                channel.configureBlocking(false);
+                channel.socket().setTcpNoDelay(true);
+                var key = channel.register(selector, SelectionKey.OP_READ);
+                int player = listener == spectators ? -1
+                        : joined++ % game.getHunterCount();
+                var client = new Client(channel, key, player);
+                key.attach(client);
+                clients.add(client);
+                clientCount = clients.size();
+
+                var hello = ByteBuffer.allocate(HELLO_BYTES);
+                hello.putInt(MAGIC).putInt(player)
+                        .putInt(ticksPerSecond).flip();
+                client.tickStart = -1;
+                send(client, hello);
+                publisher.add(client);
+            }
+        } catch (IOException e) {
+            // the connection went away before it was set up
+        }
+    }
+
+    /*
+     * Reads the commands a client sent, dropping it if they are invalid.
+     */
+    private void read(Client client) throws IOException {
+        input.clear();
+        int read = client.channel.read(input);
+        if (read < 0) {
+            drop(client);
+            return;
+        }
+        input.flip();
+        while (input.hasRemaining()) {
+            int command = input.get();
+            if (command < 0 || command > LAST_COMMAND || client.player < 0) {
+                drop(client);
+                return;
+            }
+            if (COMMANDS[command] == Command.SPECIAL) {
+                client.special = true;
+            } else {
+                client.direction = COMMANDS[command];
+            }
+        }
+    }
+
+    /*
+     * Applies the clients' commands and ticks the game, which publishes
+     * its frame to every client.
+     */
+    private void tick(long start) {
+        for (var client : clients) {
+            if (client.direction != null) {
+                client.direction.apply(game, client.player);
+                client.direction = null;
+            }
+            if (client.special) {
+                Command.SPECIAL.apply(game, client.player);
+                client.special = false;
+            }
+        }
+        tickStart = start;
+        game.tick();
+        ticks.incrementAndGet();
+    }
+
+    /*
+     * Writes as much of a buffer as the client takes now and waits to
+     * write the rest when it can take more.
+     */
+    private void send(Client client, ByteBuffer bytes) throws IOException {
+        client.sending = bytes;
+        write(client);
+    }
+
+    /*
+     * Writes the rest of the frame being sent to the client.
+     */
+    private void write(Client client) throws IOException {
+        var bytes = client.sending;
+        if (bytes != null) {
+            client.channel.write(bytes);
+        }
+        // only change the interest when needed, as it costs a system call
+        boolean waiting = bytes != null && bytes.hasRemaining();
+        if (waiting != client.waiting) {
+            client.key.interestOps(waiting
+                    ? SelectionKey.OP_READ | SelectionKey.OP_WRITE
+                    : SelectionKey.OP_READ);
+            client.waiting = waiting;
+        }
+        if (bytes == null || waiting) {
+            return;
+        }
+
+        client.sending = null;
+        if (client.tickStart >= 0) {
+            latencies.record(System.nanoTime() - client.tickStart);
+            framesSent.incrementAndGet();
+            bytesSent.addAndGet(bytes.limit());
+        }
+    }
+
+    /*
+     * Closes a client's connection and forgets it.
+     */
+    private void drop(Client client) {
+        publisher.remove(client);
+        closeQuietly(client);
+        clients.remove(client);
+        clientCount = clients.size();
+    }
+
+    /*
+     * Closes a client's connection, ignoring errors.
+     */
+    private static void closeQuietly(Client client) {
+        try {
+            client.key.cancel();
+            client.channel.close();
+        } catch (IOException e) {
+            // nothing more can be done
+        }
+    }
+}
@@ -0,0 +1,230 @@
+package pacman.net;
+
+import pacman.game.Command;
+import pacman.game.PacmanGame;
+
+import java.util.Arrays;
+
+/**
+ * Rollback plays a game whose players' commands may arrive late, as in
+ * remote play, without waiting for them. Each frame the game is ticked
+ * with the commands known so far. When a command arrives for a frame
+ * that has already been played, the game is rolled back to a snapshot
+ * taken before that frame and every frame since is played again with
+ * the command, all before the next frame is played.
+ *
+ * A snapshot is kept for each of the last window frames, so commands up
+ * to window frames late are played and older ones are refused. The
+ * replay is also kept within a budget of ticks per frame, see
+ * {@link #setBudget(int)}, which can be lowered below the window while
+ * the host is busy so that a late command never makes a frame overrun. Snapshots
+ * are forks of the game, see {@link PacmanGame#fork()}, so taking one
+ * copies little. The frames are replayed on a fork with no listeners,
+ * and the result is restored into the game with
+ * {@link PacmanGame#restore(PacmanGame)}, so listeners of the game see
+ * only the net change rather than every replayed tick.
+ *
+ * Replaying relies on {@link PacmanGame#tick()} being deterministic,
+ * anything random in a tick must be drawn with
+ * {@link PacmanGame#nextRandom(int)}. A Rollback must only be used by the
+ * thread ticking the game.
+ */
+public class Rollback {
+
+    // game being played
+    private final PacmanGame game;
+    // frames that can be rolled back
+    private final int window;
+    // most ticks replayed by one advance, at most window
+    private int budget;
+    // snapshots[f % window] is the game before frame f was played
+    private final PacmanGame[] snapshots;
+    // commands[f % (2 * window)][player] given for frame f, or null
+    private final Command[][] commands;
+    // frame each row of commands holds
+    private final long[] commandFrames;
+
+    // next frame to play
+    private long frame;
+    // earliest played frame given a command since, or MAX_VALUE
+    private long rollbackTo = Long.MAX_VALUE;
+
+    private long rollbacks;
+    private long replayed;
+    private long overBudget;
+
+    /**
+     * Creates a rollback for the given game, from frame 0.
+     *
+     * @param game to play, which must not be given more hunters.
+     * @param window number of frames late a command may be, at least 1.
+     * @throws IllegalArgumentException if window is less than 1.
+     */
+    public Rollback(PacmanGame game, int window)
+            throws IllegalArgumentException {
+        if (window < 1) {
+            throw new IllegalArgumentException("window < 1");
+        }
+        this.game = game;
+        this.window = window;
+        this.budget = window;
+        this.snapshots = new PacmanGame[window];
+        this.commands = new Command[2 * window][game.getHunterCount()];
+        this.commandFrames = new long[2 * window];
+        Arrays.fill(commandFrames, -1);
+    }
+
+    /**
+     * Gives the command of one player for a frame. A player has at most
+     * one command per frame, so a later command for the same frame
+     * replaces an earlier one. A command for a frame already played rolls
+     * the game back when the next frame is played.
+     *
+     * @param frame to apply the command at, see {@link #getFrame()}.
+     * @param player index of the hunter giving the command.
+     * @param command to apply, as by {@link Command#apply(PacmanGame, int)}.
+     * @return true if the command was taken, false if the frame is more
+     * than window frames before or after the next frame to play, replaying
+     * from it would exceed the budget, or the player is not in the game.
+     */
+    public boolean input(long frame, int player, Command command) {
+        if (frame < this.frame - window || frame >= this.frame + window
+                || frame < 0 || player < 0
+                || player >= commands[0].length) {
+            return false;
+        }
+        if (frame < this.frame - budget) {
+            overBudget++;
+            return false;
+        }
+        var row = row(frame);
+        if (row[player] == command) {
+            return true;
+        }
+        row[player] = command;
+        if (frame < this.frame) {
+            rollbackTo = Long.min(rollbackTo, frame);
+        }
+        return true;
+    }
+
+    /**
+     * Plays the next frame, first replaying every frame since the earliest
+     * command that arrived late.
+     */
+    public void advance() {
+        if (rollbackTo < frame) {
+            replayFrom(rollbackTo);
+        }
+        rollbackTo = Long.MAX_VALUE;
+
+        snapshots[(int) (frame % window)] = game.fork();
+        play(game, frame);
+        frame++;
+    }
+
+    /*
+     * Plays the frames from the given one up to the next frame again on a
+     * fork of its snapshot, then restores the game to the result.
+     */
+    private void replayFrom(long from) {
+        var replay = snapshots[(int) (from % window)].fork();
+        for (long f = from; f < frame; f++) {
+            if (f > from) {
+                snapshots[(int) (f % window)] = replay.fork();
+            }
+            play(replay, f);
+            replayed++;
+        }
+        game.restore(replay);
+        rollbacks++;
+    }
+
+    /*
+     * Applies the commands given for a frame and ticks the game.
+     */
+    private void play(PacmanGame target, long f) {
+        if (commandFrames[(int) (f % commands.length)] == f) {
+            var row = commands[(int) (f % commands.length)];
+            for (int player = 0; player < row.length; player++) {
+                if (row[player] != null) {
+                    row[player].apply(target, player);
+                }
+            }
+        }
+        target.tick();
+    }
+
+    /*
+     * Returns the commands for a frame, clearing the row first if it held
+     * an older frame.
+     */
+    private Command[] row(long f) {
+        int index = (int) (f % commands.length);
+        if (commandFrames[index] != f) {
+            Arrays.fill(commands[index], null);
+            commandFrames[index] = f;
+        }
+        return commands[index];
+    }
+
+    /**
+     * Sets the most ticks that the next frame may replay. Commands later
+     * than this are refused by {@link #input(long, int, Command)}, so a
+     * frame never plays more than budget + 1 ticks.
+     *
+     * @param budget ticks, from 0 to the window. 0 refuses every late
+     *               command.
+     * @throws IllegalArgumentException if budget is negative or larger
+     * than the window.
+     */
+    public void setBudget(int budget) throws IllegalArgumentException {
+        if (budget < 0 || budget > window) {
+            throw new IllegalArgumentException("budget not in 0.." + window);
+        }
+        this.budget = budget;
+    }
+
+    /**
+     * @return the most ticks that the next frame may replay.
+     */
+    public int getBudget() {
+        return budget;
+    }
+
+    /**
+     * @return the game being played.
+     */
+    public PacmanGame getGame() {
+        return game;
+    }
+
+    /**
+     * @return the next frame to play, the number of frames played so far.
+     */
+    public long getFrame() {
+        return frame;
+    }
+
+    /**
+     * @return the number of times the game was rolled back.
+     */
+    public long getRollbacks() {
+        return rollbacks;
+    }
+
+    /**
+     * @return the number of frames played again after rolling back.
+     */
+    public long getReplayed() {
+        return replayed;
+    }
+
+    /**
+     * @return the number of late commands refused as replaying them would
+     * have exceeded the budget.
+     */
+    public long getOverBudget() {
+        return overBudget;
+    }
+}
@@ -0,0 +1,113 @@
+package pacman.net;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Subscription is a fixed size queue of the frames of a
+ * {@link FramePublisher}, read by a spectator on its own thread.
+ *
+ * Only the publishing thread may offer frames and only a single
+ * (possibly different) thread may poll them. A spectator that falls
+ * behind does not hold up the game: frames published while the queue is
+ * full are refused, after which the publisher sends a keyframe, and
+ * {@link #poll()} skips anything queued before the newest keyframe.
+ */
+public class Subscription implements FrameSink {
+
+    // slots for queued frames, the length is a power of two
+    private final ByteBuffer[] slots;
+    // slots.length - 1, masks a sequence number to a slot index
+    private final int mask;
+    // sequence number of the next frame to poll
+    private final AtomicLong head = new AtomicLong();
+    // sequence number of the next frame to offer
+    private final AtomicLong tail = new AtomicLong();
+    // sequence number of the newest keyframe queued, or -1
+    private final AtomicLong keyframe = new AtomicLong(-1);
+    // frames skipped by poll to reach a newer keyframe
+    private final AtomicLong skipped = new AtomicLong();
+
+    /**
+     * Creates an empty subscription holding at least the given number of
+     * frames.
+     *
+     * @param capacity least number of frames held, at least 1.
+     */
+    public Subscription(int capacity) {
+        int size = Integer.highestOneBit(Integer.max(1, capacity));
+        if (size < capacity) {
+            size <<= 1;
+        }
+        this.slots = new ByteBuffer[size];
+        this.mask = size - 1;
+    }
+
+    /**
+     * Queues a frame unless the queue is full. Must only be called by the
+     * publishing thread.
+     *
+     * @param frame to queue.
+     * @return true if queued, false if the queue was full.
+     */
+    @Override
+    public boolean offer(ByteBuffer frame) {
+        long t = tail.get();
+        if (t - head.get() == slots.length) {
+            return false;
+        }
+
+        slots[(int) t & mask] = frame;
+        if (DeltaEncoder.isKeyframe(frame)) {
+            keyframe.lazySet(t);
+        }
+        // publishes the slot to the consumer
+        tail.lazySet(t + 1);
+        return true;
+    }
+
+    /**
+     * Removes the oldest frame, first skipping every frame queued before
+     * the newest keyframe. Must only be called by the consuming thread.
+     *
+     * @return a buffer over the frame, from its length, or null if none
+     * are queued.
+     */
+    public ByteBuffer poll() {
+        long h = head.get();
+        long t = tail.get();
+        long k = keyframe.get();
+        if (k > h && k < t) {
+            for (long s = h; s < k; s++) {
+                slots[(int) s & mask] = null;
+            }
+            skipped.addAndGet(k - h);
+            h = k;
+        }
+        if (h == t) {
+            return null;
+        }
+
+        int index = (int) h & mask;
+        var frame = slots[index];
+        slots[index] = null;
+        // frees the slot for the producer
+        head.lazySet(h + 1);
+        return frame.duplicate();
+    }
+
+    /**
+     * @return the number of frames queued.
+     */
+    public int size() {
+        return (int) (tail.get() - head.get());
+    }
+
+    /**
+     * @return the number of frames skipped by {@link #poll()} to reach a
+     * newer keyframe.
+     */
+    public long getSkipped() {
+        return skipped.get();
+    }
+}
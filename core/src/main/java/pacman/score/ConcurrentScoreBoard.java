@@ -0,0 +1,270 @@
+package pacman.score;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * ConcurrentScoreBoard is a leaderboard that can be shared between many
+ * PacmanGame sessions running on different threads.
+ *
+ * Names follow the same rules as {@link ScoreBoard}. Unlike
+ * {@link ScoreBoard#setScore(String, int)} a name only ever keeps its
+ * best score, so sessions reporting in any order end up with the same
+ * leaderboard.
+ *
+ * Each name is guarded by one of STRIPES locks chosen by its hash, so
+ * updates to names in different stripes do not block each other and
+ * share no lock state. Reads of a single name take no lock. Reads that
+ * return more than one entry see a consistent snapshot of the board, that
+ * is no update is ever half visible in the result. They take no lock
+ * either: each stripe counts its updates, and a read is retried if any
+ * count moved while it ran. Only a read that keeps losing to writers
+ * takes every stripe in order, so updates rarely wait for a read.
+ */
+public class ConcurrentScoreBoard {
+
+    /**
+     * Number of locks that updates are spread over, a power of two.
+     */
+    public static final int STRIPES = 64;
+
+    // lock free reads tried before a read takes every stripe
+    private static final int OPTIMISTIC_READS = 8;
+    // longs between the update counts, so that each has a cache line
+    private static final int PAD = 8;
+
+    // mapping of names to best score values
+    private final ConcurrentHashMap<String, Integer> scores =
+            new ConcurrentHashMap<>();
+    // updates take the stripe of their name, snapshots take them all
+    private final ReentrantLock[] stripes = new ReentrantLock[STRIPES];
+    // count of each stripe, odd while an update of the stripe is running
+    private final AtomicLongArray versions =
+            new AtomicLongArray(STRIPES * PAD);
+
+    /**
+     * Creates an empty leaderboard.
+     */
+    public ConcurrentScoreBoard() {
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+    /*
+     * Returns the stripe guarding a name, spreading the high bits of its
+     * hash as ConcurrentHashMap does.
+     */
+    private static int stripe(String name) {
+        int hash = name.hashCode();
+        return (hash ^ (hash >>> 16)) & (STRIPES - 1);
+    }
+
+    /**
+     * Records a score for the given name if:
+     *
+     * <ul>
+     *     <li>name is not null</li>
+     *     <li>name is a valid score name</li>
+     *     <li>score is equal to or greater than zero.</li>
+     * </ul>
+     *
+     * The stored score for the name is only replaced if the given score
+     * is greater than it.
+     *
+     * @param name  of scorer.
+     * @param score to record for the given name.
+     */
+    public void setScore(String name, int score) {
+        if (name == null || !ScoreBoard.validName(name) || score < 0) {
+            return;
+        }
+
+        int stripe = stripe(name);
+        int version = stripe * PAD;
+        stripes[stripe].lock();
+        try {
+            versions.incrementAndGet(version);
+            scores.merge(name, score, Math::max);
+        } finally {
+            versions.incrementAndGet(version);
+            stripes[stripe].unlock();
+        }
+    }
+
+    /**
+     * Records a collection of scores if "scores" is not null. Each entry
+     * is recorded as described in {@link #setScore(String, int)}.
+     *
+     * @param scores to add.
+     */
+    public void setScores(Map<String, Integer> scores) {
+        if (scores != null) {
+            for (var score : scores.entrySet()) {
+                setScore(score.getKey(), score.getValue());
+            }
+        }
+    }
+
+    /**
+     * Gets the best score recorded for the given name.
+     *
+     * @param name of scorer.
+     * @return the best score for name, or -1 if no score is recorded.
+     */
+    public int getScore(String name) {
+        if (name == null) {
+            return -1;
+        }
+
+        return scores.getOrDefault(name, -1);
+    }
+
+    /**
+     * @return the number of names on the leaderboard.
+     */
+    public int size() {
+        return scores.size();
+    }
+
+    /**
+     * Gets a consistent copy of every entry on the leaderboard.
+     *
+     * @return mapping of names to best scores at a single point in time.
+     */
+    public Map<String, Integer> snapshot() {
+        return read(() -> new HashMap<>(scores));
+    }
+
+    /*
+     * Returns the result of reading the board while no update ran. Reads
+     * without locks until the update counts are even and unchanged across
+     * a read, falling back to taking every stripe.
+     */
+    private <T> T read(Supplier<T> reader) {
+        var seen = new long[STRIPES];
+        for (int attempt = 0; attempt < OPTIMISTIC_READS; attempt++) {
+            if (!readVersions(seen)) {
+                Thread.onSpinWait();
+                continue;
+            }
+            var result = reader.get();
+            if (versionsUnchanged(seen)) {
+                return result;
+            }
+        }
+
+        // always in the same order, so reads cannot deadlock
+        for (var lock : stripes) {
+            lock.lock();
+        }
+        try {
+            return reader.get();
+        } finally {
+            for (int i = STRIPES - 1; i >= 0; i--) {
+                stripes[i].unlock();
+            }
+        }
+    }
+
+    /*
+     * Copies every update count into seen, returning false if an update
+     * is running.
+     */
+    private boolean readVersions(long[] seen) {
+        for (int i = 0; i < STRIPES; i++) {
+            seen[i] = versions.get(i * PAD);
+            if ((seen[i] & 1) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /*
+     * Returns whether no update started since seen was read.
+     */
+    private boolean versionsUnchanged(long[] seen) {
+        for (int i = 0; i < STRIPES; i++) {
+            if (versions.get(i * PAD) != seen[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Gets the best k entries ordered the same way as
+     * {@link ScoreBoard#getEntriesByScore()}, by score in descending
+     * order then by name in lexicographic order.
+     *
+     * @param k maximum number of entries to return.
+     * @return at most k scores formatted as "NAME : VALUE", or an empty
+     * list if k is less than 1 or no entries are stored.
+     */
+    public List<String> getTopScores(int k) {
+        if (k < 1) {
+            return new ArrayList<>();
+        }
+
+        var items = read(() -> best(k));
+        items.sort(ConcurrentScoreBoard::compareByScore);
+
+        var result = new ArrayList<String>(items.size());
+        for (var entry : items) {
+            result.add(entry.getKey() + " : " + entry.getValue());
+        }
+
+        return result;
+    }
+
+    /*
+     * Returns the k best entries of the board in no particular order,
+     * without copying the rest of it.
+     */
+    private List<Map.Entry<String, Integer>> best(int k) {
+        // keep the k best entries with the worst of them on top
+        var best = new PriorityQueue<Map.Entry<String, Integer>>(
+                (o1, o2) -> compareByScore(o2, o1));
+        for (var entry : scores.entrySet()) {
+            best.add(entry);
+            if (best.size() > k) {
+                best.poll();
+            }
+        }
+        return new ArrayList<>(best);
+    }
+
+    /**
+     * Gets every entry ordered the same way as
+     * {@link ScoreBoard#getEntriesByScore()}.
+     *
+     * @return List of scores formatted as "NAME : VALUE" or an empty list
+     * if no entries are stored.
+     */
+    public List<String> getEntriesByScore() {
+        return getTopScores(Integer.MAX_VALUE);
+    }
+
+    /*
+     * Orders entries by score descending then by name ascending.
+     */
+    private static int compareByScore(Map.Entry<String, Integer> o1,
+            Map.Entry<String, Integer> o2) {
+        var valCompare = o2.getValue().compareTo(o1.getValue());
+
+        // Compare by name is score is the same
+        if (valCompare == 0) {
+            return o1.getKey().compareTo(o2.getKey());
+        }
+
+        return valCompare;
+    }
+}
@@ -0,0 +1,588 @@
+package pacman.score;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ScoreBoard contains previous scores and the current score of the
+ * PacmanGame.
+ *
+ * A score is a name and value that a valid name only contains the
+ * following characters:
+ *
+ * <ul>
+ *     <li>A to Z</li>
+ *     <li>a to z</li>
+ *     <li>0 to 9</li>
+ * </ul>
+ *
+ * and must have a length greater than 0.
+ *
+ * The value is a integer that is equal to or greater than 0.
+ *
+ * @ass1
+ */
+public class ScoreBoard {
+
+    // initial number of chars read at a time by importScores
+    private static final int IMPORT_BUFFER_SIZE = 8192;
+    // most digits an int score value can have
+    private static final int MAX_SCORE_DIGITS = 10;
+
+    // mapping of names to score values
+    private HashMap<String, Integer> scores;
+    // current overall score
+    private int currentScore;
+    // share of the current score each player of the game made
+    private int[] playerScores = new int[0];
+    // number of times an entry has been set
+    private long modCount;
+    // whether scores is shared with a fork, and copied before being changed
+    private boolean shared;
+    // listeners notified of changes, not copied with forks
+    private List<ScoreListener> listeners = new ArrayList<>();
+
+    /**
+     * Creates a score board that has no entries and a current score
+     * of 0.
+     *
+     * @ass1
+     */
+    public ScoreBoard() {
+        this.scores = new HashMap<>();
+        this.currentScore = 0;
+    }
+
+    /**
+     * Creates a copy of this score board that shares its entries with
+     * this one until either of them sets an entry, so forking does not
+     * copy the entries. The copy has the same current score.
+     *
+     * A score board must not be forked by several threads at once unless
+     * it is itself a fork that has not been changed since it was made.
+     * The copy has no listeners.
+     *
+     * @return a copy of this score board.
+     */
+    public ScoreBoard fork() {
+        if (!shared) {
+            shared = true;
+        }
+        var copy = new ScoreBoard();
+        copy.scores = scores;
+        copy.shared = true;
+        copy.currentScore = currentScore;
+        copy.playerScores = playerScores.clone();
+        copy.modCount = modCount;
+        return copy;
+    }
+
+    /**
+     * Sets the entries and scores of this score board to those of a fork,
+     * sharing the entries until either of them sets one, e.g. to roll a
+     * game back to a snapshot. Listeners are told if the current score or
+     * the entries changed, and the modification count only ever grows.
+     *
+     * @param snapshot score board to copy.
+     */
+    public void restore(ScoreBoard snapshot) {
+        int previous = currentScore;
+        currentScore = snapshot.currentScore;
+        playerScores = snapshot.playerScores.clone();
+        if (scores != snapshot.scores) {
+            scores = snapshot.scores;
+            shared = true;
+            snapshot.shared = true;
+            modCount = Long.max(modCount, snapshot.modCount) + 1;
+            entriesChanged();
+        }
+        if (currentScore != previous) {
+            for (int i = 0; i < listeners.size(); i++) {
+                listeners.get(i).scoreChanged(currentScore);
+            }
+        }
+    }
+
+    /*
+     * Returns the entries for writing, copying them first if they are
+     * shared with a fork.
+     */
+    private HashMap<String, Integer> entries() {
+        if (shared) {
+            scores = new HashMap<>(scores);
+            shared = false;
+        }
+        return scores;
+    }
+
+    /**
+     * Gets the stored entries ordered by Name in lexicographic order.
+     *
+     * The format of the list should be:
+     *
+     * <ol>
+     *     <li>Score name with a single space afterwards</li>
+     *     <li>A single colon</li>
+     *     <li>A space then the value of the score with no leading
+     *     zeros.</li>
+     * </ol>
+     *
+     * Example:
+     *
+     * <pre>{@code
+     *     ScoreBoard board = new ScoreBoard();
+     *     board.setScore("Fred", 100);
+     *     board.setScore("fred", 20);
+     *     board.setScore("Fred", 24);
+     *
+     *     List<String> scores = board.getEntriesByName();
+     *     System.out.println(scores);
+     *
+     *     // this outputs:
+     *     // [Fred : 24, fred : 20]
+     *
+     * }</pre>
+     *
+     * @return List of scores formatted as "NAME : VALUE" in the order
+     * described above or an empty list if no entries are stored.
+     * @ass1
+     */
+    public List<String> getEntriesByName() {
+        var items = new ArrayList<>(scores.entrySet());
+        items.sort((o1, o2) -> {
+            return o1.getKey().compareTo(o2.getKey());
+        });
+
+        var scores = new ArrayList<String>();
+        for (var entry : items) {
+            scores.add(String.format("%s : %d", entry.getKey(),
+                    entry.getValue()));
+        }
+        
+        return scores;
+    }
+
+    /**
+     * Gets the stored entries ordered by the score in descending order
+     * ( 9999 first then 9998 and so on ...) then in lexicographic order
+     * of the name if the scores match.
+     *
+     * The format of the list should be:
+     *
+     * <ol>
+     *     <li>Score name with a single space afterwards</li>
+     *     <li>A single colon</li>
+     *     <li>A space then the value of the score with no leading
+     *     zeros.</li>
+     * </ol>
+     *
+     * Example:
+     *
+     * <pre>{@code
+     *     ScoreBoard board = new ScoreBoard();
+     *     board.setScore("Alfie", 100);
+     *     board.setScore("richard", 20);
+     *     board.setScore("Alfie", 24);
+     *     board.setScore("ben", 20);
+     *
+     *     List<String> scores = board.getEntriesByScore();
+     *     System.out.println(scores);
+     *
+     *     // this outputs
+     *     // [Alfie : 24, ben : 20, richard : 20]
+     * }</pre>
+     *
+     * @return List of scores formatted as "NAME : VALUE" in the order
+     * described above or an empty list if no entries are stored.
+     * @ass1
+     */
+    public List<String> getEntriesByScore() {
+        var items = new ArrayList<>(scores.entrySet());
+        items.sort((o1, o2) -> {
+            var valCompare = o2.getValue().compareTo(o1.getValue());
+            
+            // Compare by name is score is the same
+            if (valCompare == 0) {
+                return o1.getKey().compareTo(o2.getKey());
+            }
+            
+            return valCompare;
+        });
+
+        var scores = new ArrayList<String>();
+        for (var entry : items) {
+            scores.add(String.format("%s : %s", entry.getKey(),
+                    entry.getValue()));
+        }
+        
+        return scores;
+    }
+
+    /**
+     * Sets the score for the given name if:
+     *
+     * <ul>
+     *     <li>name is not null</li>
+     *     <li>name is a valid score name</li>
+     *     <li>score is equal to or greater than zero.</li>
+     * </ul>
+     *
+     * This should override any score stored for the given name if
+     * name and score are valid.
+     *
+     * @param name  of scorer.
+     * @param score to set to the given name.
+     * @ass1
+     */
+    public void setScore(String name, int score) {
+        if (name != null && !name.isBlank() && validName(name) && score > -1) {
+            entries().put(name, score);
+            modCount++;
+            entriesChanged();
+        }
+    }
+
+    /**
+     * Sets a collection of scores if "scores" is not null, otherwise
+     * no scores are modified.
+     *
+     * For each score contained in the scores if:
+     *
+     * <ul>
+     *     <li>name is not null</li>
+     *     <li>name is a valid score name</li>
+     *     <li>score is equal to or greater than zero.</li>
+     * </ul>
+     *
+     * the score will be set and override any stored score for the given
+     * name, otherwise it will be skipped.
+     *
+     * @param scores to add.
+     * @ass1
+     */
+    public void setScores(Map<String, Integer> scores) {
+        if (scores != null) {
+            for (var score : scores.entrySet()) {
+                this.setScore(score.getKey(), score.getValue());
+            }
+        }
+    }
+
+    /**
+     * Increases the score if the given additional is greater than 0.
+     * No change to the current score if additional is less than or
+     * equal to 0.
+     *
+     * @param additional score to add.
+     * @ass1
+     */
+    public void increaseScore(int additional) {
+        int previous = currentScore;
+        currentScore = Integer.max(currentScore, currentScore + additional);
+        if (currentScore != previous) {
+            for (int i = 0; i < listeners.size(); i++) {
+                listeners.get(i).scoreChanged(currentScore);
+            }
+        }
+    }
+
+    /*
+     * Tells every listener that entries have been set.
+     */
+    private void entriesChanged() {
+        for (int i = 0; i < listeners.size(); i++) {
+            listeners.get(i).entriesChanged();
+        }
+    }
+
+    /**
+     * Adds a listener that is told about every change to the current score
+     * and the entries.
+     *
+     * @param listener to add, ignored if null.
+     */
+    public void addListener(ScoreListener listener) {
+        if (listener != null) {
+            listeners.add(listener);
+        }
+    }
+
+    /**
+     * Removes a listener added by {@link #addListener(ScoreListener)}.
+     *
+     * @param listener to remove.
+     */
+    public void removeListener(ScoreListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Get the current score.
+     *
+     * @return the current score.
+     * @ass1
+     */
+    public int getScore() {
+        return currentScore;
+    }
+
+    /**
+     * Adds to the score of one player, for games with several hunters.
+     * The current score is not changed, it is expected to be increased by
+     * the same amount with {@link #increaseScore(int)}.
+     *
+     * If additional is less than 0 then the player's score is unchanged.
+     *
+     * @param player index of the player, at least 0.
+     * @param additional score to add.
+     */
+    public void increasePlayerScore(int player, int additional) {
+        if (player >= playerScores.length) {
+            playerScores = Arrays.copyOf(playerScores,
+                    Integer.max(player + 1, 2 * playerScores.length));
+        }
+        playerScores[player] = Integer.max(playerScores[player],
+                playerScores[player] + additional);
+    }
+
+    /**
+     * Gets the share of the current score made by one player.
+     *
+     * @param player index of the player, at least 0.
+     * @return the player's score, 0 if they have not scored.
+     */
+    public int getPlayerScore(int player) {
+        return player < playerScores.length ? playerScores[player] : 0;
+    }
+
+    /**
+     * Gets the number of times an entry has been set. The entries
+     * returned by {@link #getEntriesByName()} and
+     * {@link #getEntriesByScore()} can only have changed if this count
+     * has changed.
+     *
+     * @return the modification count of the entries.
+     */
+    public long getModCount() {
+        return modCount;
+    }
+
+    /**
+     * Set the current score, and the score of every player, to 0.
+     *
+     * @ass1
+     */
+    public void reset() {
+        int previous = currentScore;
+        currentScore = 0;
+        Arrays.fill(playerScores, 0);
+        if (previous != 0) {
+            for (int i = 0; i < listeners.size(); i++) {
+                listeners.get(i).scoreChanged(0);
+            }
+        }
+    }
+
+    /**
+     * Sets every score read from the given reader, one score per line in
+     * the form "NAME : VALUE" as written by {@link #getEntriesByName()}.
+     *
+     * Blank lines and lines starting with ';' are skipped. Lines are
+     * parsed straight from the read buffer so only the names of valid
+     * scores are copied into new strings. Each valid line is set as
+     * described in {@link #setScore(String, int)}, invalid lines are
+     * skipped.
+     *
+     * @param reader to read the scores from.
+     * @return the number of scores that were set.
+     * @throws IOException when unable to read from the reader.
+     */
+    public int importScores(Reader reader) throws IOException {
+        char[] buffer = new char[IMPORT_BUFFER_SIZE];
+        int start = 0;
+        int end = 0;
+        int imported = 0;
+
+        while (true) {
+            // parse every complete line held in the buffer
+            int newline = indexOf(buffer, '\n', start, end);
+            while (newline != -1) {
+                imported += importLine(buffer, start, newline);
+                start = newline + 1;
+                newline = indexOf(buffer, '\n', start, end);
+            }
+
+            // keep the partial line and make room for more input
+            if (start > 0) {
+                System.arraycopy(buffer, start, buffer, 0, end - start);
+                end -= start;
+                start = 0;
+            } else if (end == buffer.length) {
+                buffer = Arrays.copyOf(buffer, buffer.length * 2);
+            }
+
+            int read = reader.read(buffer, end, buffer.length - end);
+            if (read == -1) {
+                imported += importLine(buffer, start, end);
+                if (imported > 0) {
+                    entriesChanged();
+                }
+                return imported;
+            }
+            end += read;
+        }
+    }
+
+    /*
+     * Sets the score held in buffer[from, to) returning 1 if the line
+     * was a valid score and 0 otherwise.
+     */
+    private int importLine(char[] buffer, int from, int to) {
+        from = skipSpaces(buffer, from, to);
+        to = trimSpaces(buffer, from, to);
+        if (from == to || buffer[from] == ';') {
+            return 0;
+        }
+
+        int colon = indexOf(buffer, ':', from, to);
+        if (colon == -1 || indexOf(buffer, ':', colon + 1, to) != -1) {
+            return 0;
+        }
+
+        int nameEnd = trimSpaces(buffer, from, colon);
+        int valueStart = skipSpaces(buffer, colon + 1, to);
+        if (from == nameEnd || valueStart == to) {
+            return 0;
+        }
+
+        for (int i = from; i < nameEnd; i++) {
+            if (!isNameChar(buffer[i])) {
+                return 0;
+            }
+        }
+
+        // parse a non-negative int, rejecting overflow
+        if (to - valueStart > MAX_SCORE_DIGITS) {
+            return 0;
+        }
+        long value = 0;
+        for (int i = valueStart; i < to; i++) {
+            char c = buffer[i];
+            if (c < '0' || c > '9') {
+                return 0;
+            }
+            value = value * 10 + (c - '0');
+        }
+        if (value > Integer.MAX_VALUE) {
+            return 0;
+        }
+
+        entries().put(new String(buffer, from, nameEnd - from), (int) value);
+        modCount++;
+        return 1;
+    }
+
+    /*
+     * Returns the index of c in buffer[from, to) or -1 if not found.
+     */
+    private static int indexOf(char[] buffer, char c, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (buffer[i] == c) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /*
+     * Returns the first index in buffer[from, to) that is not whitespace.
+     */
+    private static int skipSpaces(char[] buffer, int from, int to) {
+        while (from < to && Character.isWhitespace(buffer[from])) {
+            from++;
+        }
+
+        return from;
+    }
+
+    /*
+     * Returns the end of buffer[from, to) with trailing whitespace removed.
+     */
+    private static int trimSpaces(char[] buffer, int from, int to) {
+        while (to > from && Character.isWhitespace(buffer[to - 1])) {
+            to--;
+        }
+
+        return to;
+    }
+
+    /**
+     * Checks if a given name is valid.
+     * A valid name consists of only one or more alphanumeric characters.
+     * Shared with {@link ConcurrentScoreBoard} so both boards accept the
+     * same names.
+     */
+    static boolean validName(String name) {
+        if (name.isEmpty()) {
+            return false;
+        }
+
+        // scan instead of String.matches which compiles a regex every call
+        for (int i = 0; i < name.length(); i++) {
+            if (!isNameChar(name.charAt(i))) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /*
+     * Checks if c is one of a-z, A-Z or 0-9.
+     */
+    private static boolean isNameChar(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z')
+                || (c >= '0' && c <= '9');
+    }
+
+    /**
+     * Checks if another object instance is equal to this ScoreBoard. 
+     * ScoreBoards are equal if the current scores are equal and all score 
+     * entries are equal (both names and score values). 
+     * @return true if same, false otherwise.
+     * @ass2
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        
+        if (!(o instanceof ScoreBoard)) {
+            return false;
+        }
+        
+        ScoreBoard otherBoard = (ScoreBoard) o;
+
+        return otherBoard.getScore() == currentScore
+                && scores.equals(otherBoard.scores);
+    }
+
+    /**
+     * For two objects that are equal the hash should also
+     * be equal. For two objects that are not equal the hash
+     * does not have to be different.
+     * @return hash of the ScoreBoard.
+     * @ass2
+     */
+    @Override
+    public int hashCode() {
+        return 31 * scores.hashCode() + 33 * currentScore;
+    }
+}
@@ -0,0 +1,23 @@
+package pacman.score;
+
+/**
+ * Listens for changes made to a {@link ScoreBoard}.
+ *
+ * See {@link ScoreBoard#addListener(ScoreListener)}
+ */
+public interface ScoreListener {
+
+    /**
+     * Called after the current score has changed.
+     * See {@link ScoreBoard#increaseScore(int)}
+     *
+     * @param score the new current score.
+     */
+    void scoreChanged(int score);
+
+    /**
+     * Called after one or more entries have been set.
+     * See {@link ScoreBoard#setScore(String, int)}
+     */
+    void entriesChanged();
+}
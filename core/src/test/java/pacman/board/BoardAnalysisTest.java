@@ -0,0 +1,149 @@
+package pacman.board;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import pacman.game.GameReader;
+import pacman.util.Position;
+import pacman.util.UnpackableException;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.Assert.*;
+
+public class BoardAnalysisTest {
+    // the dot at (5,1) and the empty cell at (5,3) are walled off
+    private static final String MAP = String.join("\n",
+            "[Board]",
+            "7,5",
+            "XXXXXXX",
+            "X111X1X",
+            "XP1$XXX",
+            "X111X0X",
+            "XXXXXXX",
+            "",
+            "[Game]",
+            "title = walled",
+            "author = tester",
+            "lives = 3",
+            "level = 0",
+            "score = 0",
+            "hunter = 1,2,LEFT,0,PHIL",
+            "blinky = 3,2,UP,SCATTER:7",
+            "clyde = 3,2,UP,SCATTER:7",
+            "inky = 3,2,UP,SCATTER:7",
+            "pinky = 3,2,UP,SCATTER:7",
+            "",
+            "[Scores]",
+            "");
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private static PacmanBoard board() throws IOException,
+            UnpackableException {
+        return GameReader.read(new StringReader(MAP)).getBoard();
+    }
+
+    @Test
+    public void findsUnreachableDots() throws IOException,
+            UnpackableException {
+        var analysis = BoardAnalysis.analyse(board());
+        assertTrue(analysis.hasPacmanSpawn());
+        assertTrue(analysis.isGhostSpawnReachable());
+        assertEquals(11, analysis.getPathable());
+        assertEquals(9, analysis.getReachable());
+        assertEquals(2, analysis.getUnreachableDots());
+        assertArrayEquals(new Position[] {
+            new Position(5, 1), new Position(5, 3)
+        }, analysis.getUnreachableDotPositions());
+        assertFalse(analysis.isPlayable());
+    }
+
+    @Test
+    public void pruningLetsTheBoardBeCleared() throws IOException,
+            UnpackableException {
+        var board = board();
+        var analysis = BoardAnalysis.analyse(board);
+        assertEquals(2, analysis.prune(board));
+        assertEquals(BoardItem.WALL, board.getEntry(new Position(5, 1)));
+
+        // eat every reachable dot, then reset as at the next level
+        for (int x = 1; x < 4; x++) {
+            for (int y = 1; y < 4; y++) {
+                board.eatDot(new Position(x, y));
+            }
+        }
+        assertTrue(board.isEmpty());
+        assertTrue(BoardAnalysis.analyse(board).isPlayable());
+    }
+
+    @Test
+    public void writtenAnalysesAreReadBack() throws IOException,
+            UnpackableException {
+        var analysis = BoardAnalysis.analyse(board());
+        var writer = new StringWriter();
+        analysis.write(writer, "key");
+
+        var read = BoardAnalysis.read(
+                new StringReader(writer.toString()), "key");
+        assertEquals(analysis.toString(), read.toString());
+        assertArrayEquals(analysis.getUnreachableDotPositions(),
+                read.getUnreachableDotPositions());
+        assertNull(BoardAnalysis.read(
+                new StringReader(writer.toString()), "other"));
+    }
+
+    @Test
+    public void damagedAnalysesAreRefused() throws IOException,
+            UnpackableException {
+        var writer = new StringWriter();
+        BoardAnalysis.analyse(board()).write(writer, "key");
+        String written = writer.toString();
+        String newline = System.lineSeparator();
+
+        // the list cut mid-number, then without its end marker
+        String cut = written.substring(0,
+                written.indexOf("[End]") - newline.length() - 1);
+        assertNull(BoardAnalysis.read(new StringReader(cut), "key"));
+        String unended = written.substring(0, written.indexOf("[End]"));
+        assertNull(BoardAnalysis.read(new StringReader(unended), "key"));
+
+        // a cell past the end of the 7x5 board
+        String offBoard = written.replaceAll("unreachableDots = \\d+",
+                "unreachableDots = 35");
+        assertNull(BoardAnalysis.read(new StringReader(offBoard), "key"));
+    }
+
+    @Test
+    public void mapsArePrunedOrRefused() throws IOException,
+            UnpackableException {
+        Path map = folder.getRoot().toPath().resolve("walled.map");
+        Files.writeString(map, MAP);
+
+        try {
+            GameReader.read(map, false);
+            fail("map with unreachable dots was read");
+        } catch (UnpackableException expected) {
+            // expected
+        }
+        Path cache = map.resolveSibling("walled.map.analysis");
+        assertTrue(Files.exists(cache));
+
+        var game = GameReader.read(map, true);
+        assertEquals(BoardItem.WALL,
+                game.getBoard().getEntry(new Position(5, 3)));
+    }
+
+    @Test
+    public void generatedMazesCanBeCleared() {
+        var maze = new MazeGenerator(63, 41, 11);
+        var analysis = BoardAnalysis.analyse(maze.toBoard());
+        assertTrue(analysis.isPlayable());
+        assertTrue(analysis.getDeadEndDensity() > 0);
+    }
+}
@@ -0,0 +1,111 @@
+package pacman.board;
+
+import org.junit.Test;
+import pacman.game.GameReader;
+import pacman.util.Position;
+import pacman.util.UnpackableException;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.ArrayDeque;
+
+import static org.junit.Assert.*;
+
+public class MazeGeneratorTest {
+
+    /*
+     * Counts the pathable cells reachable from the pacman spawn.
+     */
+    private static int reachable(PacmanBoard board, Position from) {
+        var seen = new boolean[board.getWidth()][board.getHeight()];
+        var queue = new ArrayDeque<Position>();
+        queue.add(from);
+        seen[from.getX()][from.getY()] = true;
+        int count = 0;
+        while (!queue.isEmpty()) {
+            var position = queue.remove();
+            count++;
+            int[][] offsets = {{1, 0}, {-1, 0}, {0, 1}, {0, -1}};
+            for (var offset : offsets) {
+                int x = position.getX() + offset[0];
+                int y = position.getY() + offset[1];
+                var next = new Position(x, y);
+                if (!seen[x][y] && board.getEntry(next).getPathable()) {
+                    seen[x][y] = true;
+                    queue.add(next);
+                }
+            }
+        }
+        return count;
+    }
+
+    private static int pathable(PacmanBoard board) {
+        int count = 0;
+        for (int x = 0; x < board.getWidth(); x++) {
+            for (int y = 0; y < board.getHeight(); y++) {
+                if (board.getEntry(new Position(x, y)).getPathable()) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    @Test
+    public void mazesAreConnected() {
+        for (int width = 5; width < 40; width += 3) {
+            for (int height = 5; height < 40; height += 4) {
+                for (long seed = 0; seed < 3; seed++) {
+                    var maze = new MazeGenerator(width, height, seed);
+                    var board = maze.toBoard();
+                    assertEquals(width + "x" + height + " seed " + seed,
+                            pathable(board),
+                            reachable(board, maze.getPacmanSpawn()));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void mazesAreMirrored() {
+        for (int width : new int[] {17, 18, 19, 20}) {
+            var maze = new MazeGenerator(width, 21, 7);
+            var board = maze.toBoard();
+            assertEquals(BoardItem.PACMAN_SPAWN,
+                    board.getEntry(maze.getPacmanSpawn()));
+            assertEquals(BoardItem.GHOST_SPAWN,
+                    board.getEntry(maze.getGhostSpawn()));
+            for (int x = 0; x < width; x++) {
+                for (int y = 0; y < 21; y++) {
+                    var mirror = new Position(width - 1 - x, y);
+                    assertEquals(board.getEntry(new Position(x, y))
+                            .getPathable(),
+                            board.getEntry(mirror).getPathable());
+                }
+            }
+        }
+    }
+
+    @Test
+    public void writtenMapsAreReadBack() throws IOException,
+            UnpackableException {
+        var maze = new MazeGenerator(31, 24, 42);
+        var first = new StringWriter();
+        maze.write(first);
+        var second = new StringWriter();
+        maze.write(second);
+        assertEquals(first.toString(), second.toString());
+
+        var game = GameReader.read(new StringReader(first.toString()));
+        assertEquals(maze.toBoard(), game.getBoard());
+        assertEquals(maze.getPacmanSpawn(), game.getHunter().getPosition());
+        assertFalse(game.getBoard().isEmpty());
+    }
+
+    @Test
+    public void seedsGiveDifferentMazes() {
+        assertNotEquals(new MazeGenerator(41, 41, 1).toBoard(),
+                new MazeGenerator(41, 41, 2).toBoard());
+    }
+}
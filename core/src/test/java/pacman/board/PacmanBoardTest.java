@@ -0,0 +1,163 @@
+package pacman.board;
+
+import org.junit.Test;
+import pacman.util.Position;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class PacmanBoardTest {
+    // larger than one tile in both directions, with partial tiles
+    private static final int WIDTH = 2 * PacmanBoard.TILE_SIZE + 5;
+    private static final int HEIGHT = PacmanBoard.TILE_SIZE + 3;
+
+    @Test
+    public void newBoardIsWalledAcrossTiles() {
+        var board = new PacmanBoard(WIDTH, HEIGHT);
+        for (int x = 0; x < WIDTH; x++) {
+            assertEquals(BoardItem.WALL, board.getEntry(x, 0));
+            assertEquals(BoardItem.WALL, board.getEntry(x, HEIGHT - 1));
+        }
+        for (int y = 0; y < HEIGHT; y++) {
+            assertEquals(BoardItem.WALL, board.getEntry(0, y));
+            assertEquals(BoardItem.WALL, board.getEntry(WIDTH - 1, y));
+        }
+        assertEquals(BoardItem.NONE, board.getEntry(70, 30));
+        assertTrue(board.isEmpty());
+    }
+
+    @Test
+    public void setAndEatAcrossTileEdges() {
+        var board = new PacmanBoard(WIDTH, HEIGHT);
+        int edge = PacmanBoard.TILE_SIZE;
+        var before = new Position(edge - 1, edge - 1);
+        var after = new Position(edge, edge);
+        board.setEntry(before, BoardItem.DOT);
+        board.setEntry(after, BoardItem.BIG_DOT);
+
+        assertEquals(BoardItem.DOT, board.getEntry(before));
+        assertEquals(BoardItem.BIG_DOT, board.getEntry(after));
+        assertEquals(BoardItem.NONE, board.getEntry(edge, edge - 1));
+        assertFalse(board.isEmpty());
+
+        assertEquals(BoardItem.DOT, board.eatDot(before));
+        assertEquals(BoardItem.BIG_DOT, board.eatDot(after));
+        assertEquals(BoardItem.NONE, board.getEntry(before));
+        assertEquals(BoardItem.BIG_DOT_SPAWN, board.getEntry(after));
+        assertTrue(board.isEmpty());
+    }
+
+    @Test
+    public void outOfBoundsThrows() {
+        var board = new PacmanBoard(WIDTH, HEIGHT);
+        // cells past the edge of the board but inside its last tile
+        int[][] cells = {{-1, 1}, {1, -1}, {WIDTH, 1}, {1, HEIGHT}};
+        for (int[] cell : cells) {
+            try {
+                board.getEntry(cell[0], cell[1]);
+                fail("read " + cell[0] + "," + cell[1]);
+            } catch (IndexOutOfBoundsException expected) {
+            }
+            try {
+                board.setEntry(new Position(cell[0], cell[1]),
+                        BoardItem.DOT);
+                fail("wrote " + cell[0] + "," + cell[1]);
+            } catch (IndexOutOfBoundsException expected) {
+            }
+        }
+    }
+
+    @Test
+    public void spawnsStayUnique() {
+        var board = new PacmanBoard(WIDTH, HEIGHT);
+        board.setEntry(new Position(1, 1), BoardItem.PACMAN_SPAWN);
+        board.setEntry(new Position(100, 60), BoardItem.PACMAN_SPAWN);
+        assertEquals(new Position(100, 60), board.getPacmanSpawn());
+        assertEquals(BoardItem.NONE, board.getEntry(1, 1));
+
+        board.setEntry(new Position(100, 60), BoardItem.WALL);
+        assertNull(board.getPacmanSpawn());
+        assertNull(board.getGhostSpawn());
+    }
+
+    @Test
+    public void forkIsCopiedOnWrite() {
+        var board = new PacmanBoard(WIDTH, HEIGHT);
+        board.setEntry(new Position(2, 2), BoardItem.DOT);
+        var fork = board.fork();
+        var copy = new PacmanBoard(board);
+
+        fork.setEntry(new Position(2, 2), BoardItem.NONE);
+        fork.setEntry(new Position(90, 40), BoardItem.DOT);
+        board.setEntry(new Position(3, 3), BoardItem.BIG_DOT);
+
+        assertEquals(BoardItem.DOT, board.getEntry(2, 2));
+        assertEquals(BoardItem.NONE, board.getEntry(90, 40));
+        assertEquals(BoardItem.NONE, fork.getEntry(2, 2));
+        assertEquals(BoardItem.NONE, fork.getEntry(3, 3));
+        assertEquals(BoardItem.DOT, fork.getEntry(90, 40));
+        assertEquals(BoardItem.NONE, copy.getEntry(3, 3));
+        assertEquals(BoardItem.DOT, copy.getEntry(2, 2));
+    }
+
+    @Test
+    public void restoreTellsChangedCells() {
+        var board = new PacmanBoard(WIDTH, HEIGHT);
+        var snapshot = board.fork();
+        board.setEntry(new Position(2, 2), BoardItem.DOT);
+        board.setEntry(new Position(90, 40), BoardItem.WALL);
+
+        List<Position> changed = new ArrayList<>();
+        board.addListener(new BoardListener() {
+            @Override
+            public void entryChanged(Position position, BoardItem item) {
+                changed.add(position);
+            }
+
+            @Override
+            public void boardReset() {
+            }
+        });
+        board.restore(snapshot);
+
+        assertEquals(snapshot, board);
+        assertTrue(board.isEmpty());
+        assertEquals(2, changed.size());
+        assertTrue(changed.contains(new Position(90, 40)));
+    }
+
+    @Test
+    public void resetFillsUniformTiles() {
+        var board = new PacmanBoard(WIDTH, HEIGHT);
+        board.setEntry(new Position(5, 5), BoardItem.BIG_DOT_SPAWN);
+        board.setEntry(new Position(6, 5), BoardItem.PACMAN_SPAWN);
+        board.reset();
+
+        assertEquals(BoardItem.BIG_DOT, board.getEntry(5, 5));
+        assertEquals(BoardItem.PACMAN_SPAWN, board.getEntry(6, 5));
+        assertEquals(BoardItem.DOT, board.getEntry(70, 30));
+        assertEquals(BoardItem.WALL, board.getEntry(0, 30));
+
+        for (int x = 1; x < WIDTH - 1; x++) {
+            for (int y = 1; y < HEIGHT - 1; y++) {
+                board.eatDot(new Position(x, y));
+            }
+        }
+        assertTrue(board.isEmpty());
+    }
+
+    @Test
+    public void equalBoardsHashEqually() {
+        var board = new PacmanBoard(WIDTH, HEIGHT);
+        var other = new PacmanBoard(WIDTH, HEIGHT);
+        board.setEntry(new Position(70, 30), BoardItem.DOT);
+        assertNotEquals(board, other);
+
+        other.setEntry(new Position(70, 30), BoardItem.DOT);
+        assertEquals(board, other);
+        assertEquals(board.hashCode(), other.hashCode());
+        assertEquals(board.toString(), other.toString());
+    }
+}
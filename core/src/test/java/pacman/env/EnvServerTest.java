@@ -0,0 +1,145 @@
+package pacman.env;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.SocketChannel;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class EnvServerTest {
+    private VectorEnv env;
+    private EnvServer server;
+    private SocketChannel client;
+    private ByteOrder order;
+
+    /*
+     * Reads exactly the given number of bytes from the server.
+     */
+    private ByteBuffer read(int bytes) throws IOException {
+        var buffer = ByteBuffer.allocate(bytes).order(order);
+        while (buffer.hasRemaining()) {
+            if (client.read(buffer) < 0) {
+                throw new EOFException();
+            }
+        }
+        return buffer.flip();
+    }
+
+    /*
+     * Sends the bytes of the buffer to the server.
+     */
+    private void send(ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            client.write(buffer);
+        }
+    }
+
+    /*
+     * Reads an observation from the server.
+     */
+    private float[] readObservation() throws IOException {
+        var observation = new float[env.getObservations().capacity()];
+        read(observation.length * Float.BYTES).asFloatBuffer()
+                .get(observation);
+        return observation;
+    }
+
+    /*
+     * Copies the observation held by the environment.
+     */
+    private float[] envObservation() {
+        var observation = new float[env.getObservations().capacity()];
+        env.getObservations().duplicate().get(observation);
+        return observation;
+    }
+
+    @Before
+    public void setUp() throws IOException {
+        env = new VectorEnv(
+                List.of(VectorEnvTest.game(), VectorEnvTest.game()));
+        server = new EnvServer(env, 4);
+        var address = server.start(
+                new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+        client = SocketChannel.open(address);
+
+        // the order byte is a single byte, so any order reads it
+        order = ByteOrder.BIG_ENDIAN;
+        order = read(1).get() == 1 ? ByteOrder.LITTLE_ENDIAN
+                : ByteOrder.BIG_ENDIAN;
+        var hello = read(7 * Integer.BYTES);
+        assertEquals(EnvServer.MAGIC, hello.getInt());
+        assertEquals(2, hello.getInt());
+        assertEquals(env.getChannels(), hello.getInt());
+        assertEquals(5, hello.getInt());
+        assertEquals(7, hello.getInt());
+        assertEquals(VectorEnv.getActions().length, hello.getInt());
+        assertEquals(4, hello.getInt());
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        client.close();
+        server.close();
+    }
+
+    @Test
+    public void resetSendsObservation() throws IOException {
+        send(ByteBuffer.allocate(1).put(EnvServer.RESET));
+        assertArrayEquals(envObservation(), readObservation(), 0);
+    }
+
+    @Test
+    public void batchedSteps() throws IOException {
+        var step = ByteBuffer.allocate(1 + Integer.BYTES + 4).order(order);
+        step.put(EnvServer.STEP).putInt(2);
+        // the first game moves right twice, the second stays put
+        step.put((byte) 2).put((byte) 0).put((byte) 2).put((byte) 0);
+        send(step);
+
+        var reply = read(4 * Float.BYTES + 4);
+        assertEquals(10f, reply.getFloat(), 0);
+        assertEquals(0f, reply.getFloat(), 0);
+        assertEquals(10f, reply.getFloat(), 0);
+        assertEquals(0f, reply.getFloat(), 0);
+        for (int i = 0; i < 4; i++) {
+            assertEquals(0, reply.get());
+        }
+        assertArrayEquals(envObservation(), readObservation(), 0);
+        assertEquals(20, env.getGame(0).getScores().getScore());
+
+        send(ByteBuffer.allocate(1).put(EnvServer.OBSERVE));
+        assertArrayEquals(envObservation(), readObservation(), 0);
+    }
+
+    @Test
+    public void invalidRequestClosesConnection() throws IOException {
+        var step = ByteBuffer.allocate(1 + Integer.BYTES).order(order);
+        step.put(EnvServer.STEP).putInt(5);
+        send(step);
+        assertEquals(-1, client.read(ByteBuffer.allocate(1)));
+    }
+
+    @Test
+    public void invalidBatchIsNotStepped() throws IOException {
+        var step = ByteBuffer.allocate(1 + Integer.BYTES + 6).order(order);
+        step.put(EnvServer.STEP).putInt(3);
+        // the third step has an action that does not exist
+        step.put((byte) 2).put((byte) 0).put((byte) 2).put((byte) 0);
+        step.put((byte) 2).put((byte) 100);
+        send(step);
+
+        assertEquals(-1, client.read(ByteBuffer.allocate(1)));
+        assertEquals(0, env.getGame(0).getTick());
+        assertEquals(0, env.getGame(0).getScores().getScore());
+    }
+}
@@ -0,0 +1,98 @@
+package pacman.env;
+
+import org.junit.Before;
+import org.junit.Test;
+import pacman.board.BoardItem;
+import pacman.board.PacmanBoard;
+import pacman.game.PacmanGame;
+import pacman.hunter.Phil;
+import pacman.util.Position;
+
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class VectorEnvTest {
+    private PacmanGame first;
+    private PacmanGame second;
+    private VectorEnv env;
+
+    /*
+     * Creates a game with a row of dots to the right of the hunter, also used
+     * by EnvServerTest.
+     */
+    static PacmanGame game() {
+        var board = new PacmanBoard(7, 5);
+        for (int x = 1; x < 6; x++) {
+            for (int y = 1; y < 4; y++) {
+                board.setEntry(new Position(x, y), BoardItem.NONE);
+            }
+            board.setEntry(new Position(x, 1), BoardItem.DOT);
+        }
+        board.setEntry(new Position(1, 1), BoardItem.PACMAN_SPAWN);
+        board.setEntry(new Position(5, 3), BoardItem.GHOST_SPAWN);
+        return new PacmanGame("title", "author", new Phil(), board);
+    }
+
+    /*
+     * Reads one cell of an observation.
+     */
+    private float cell(int game, int channel, int x, int y) {
+        int index = ((game * env.getChannels() + channel) * env.getHeight()
+                + y) * env.getWidth() + x;
+        return env.getObservations().get(index);
+    }
+
+    @Before
+    public void setUp() {
+        first = game();
+        second = game();
+        env = new VectorEnv(List.of(first, second));
+    }
+
+    @Test
+    public void observationShape() {
+        assertEquals(VectorEnv.GHOST + 4, env.getChannels());
+        assertEquals(2 * 8 * 5 * 7, env.getObservations().capacity());
+        assertTrue(env.getObservationBuffer().isDirect());
+        assertEquals(1f, cell(1, VectorEnv.WALL, 0, 0), 0);
+        assertEquals(0f, cell(1, VectorEnv.WALL, 1, 1), 0);
+        assertEquals(1f, cell(1, VectorEnv.DOT, 2, 1), 0);
+        assertEquals(1f, cell(1, VectorEnv.HUNTER, 1, 1), 0);
+        assertEquals(1f, cell(1, VectorEnv.GHOST + 3, 5, 3), 0);
+    }
+
+    @Test
+    public void stepRewardsScore() {
+        env.step(new int[] {2, 0});
+
+        assertEquals(10f, env.getRewards()[0], 0);
+        assertFalse(env.getDones()[0]);
+        assertEquals(0f, cell(0, VectorEnv.HUNTER, 1, 1), 0);
+        assertEquals(1f, cell(0, VectorEnv.HUNTER, 2, 1), 0);
+        assertEquals(0f, cell(0, VectorEnv.DOT, 2, 1), 0);
+        // the other game is unaffected by the first's action
+        assertEquals(1f, cell(1, VectorEnv.DOT, 2, 1), 0);
+    }
+
+    @Test
+    public void resetsWhenOutOfLives() {
+        env.step(new int[] {2, 2});
+        second.setLives(0);
+        env.step(new int[] {0, 0});
+
+        assertFalse(env.getDones()[0]);
+        assertTrue(env.getDones()[1]);
+        assertEquals(4, second.getLives());
+        assertEquals(0, second.getScores().getScore());
+        assertEquals(1f, cell(1, VectorEnv.DOT, 2, 1), 0);
+        assertEquals(1f, cell(1, VectorEnv.HUNTER, 1, 1), 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void differentSizes() {
+        new VectorEnv(List.of(first,
+                new PacmanGame("title", "author", new Phil(),
+                        new PacmanBoard(9, 5))));
+    }
+}
@@ -0,0 +1,76 @@
+package pacman.game;
+
+import org.junit.Before;
+import org.junit.Test;
+import pacman.board.BoardItem;
+import pacman.board.PacmanBoard;
+import pacman.ghost.Phase;
+import pacman.hunter.Speedy;
+import pacman.util.Direction;
+import pacman.util.Position;
+
+import static org.junit.Assert.*;
+
+public class ForkTest {
+    private PacmanGame game;
+
+    @Before
+    public void setUp() {
+        var board = new PacmanBoard(7, 5);
+        board.setEntry(new Position(1, 1), BoardItem.PACMAN_SPAWN);
+        board.setEntry(new Position(5, 3), BoardItem.GHOST_SPAWN);
+        board.setEntry(new Position(4, 3), BoardItem.BIG_DOT);
+        game = new PacmanGame("title", "author", new Speedy(), board);
+        game.reset();
+        game.getScores().setScore("alice", 10);
+        game.getScores().increaseScore(30);
+    }
+
+    @Test
+    public void forkCopiesState() {
+        game.getHunter().setDirection(Direction.RIGHT);
+        game.getGhosts().get(2).setPhase(Phase.FRIGHTENED, 7);
+        game.setLives(2);
+        game.tick();
+
+        var fork = game.fork();
+        assertTrue(fork.getHunter() instanceof Speedy);
+        assertEquals(game.getHunter(), fork.getHunter());
+        assertEquals(game.getGhosts(), fork.getGhosts());
+        assertEquals(game.getBoard(), fork.getBoard());
+        assertEquals(game.getScores(), fork.getScores());
+        assertEquals(2, fork.getLives());
+        assertEquals(1, fork.getTick());
+    }
+
+    @Test
+    public void forksAreIndependent() {
+        var fork = game.fork();
+        var other = game.fork();
+
+        fork.getBoard().setEntry(new Position(2, 2), BoardItem.WALL);
+        fork.getScores().setScore("bob", 20);
+        fork.getScores().increaseScore(5);
+        fork.getHunter().setPosition(new Position(3, 3));
+        game.getBoard().setEntry(new Position(3, 2), BoardItem.WALL);
+        game.getBoard().reset();
+
+        assertEquals(BoardItem.DOT,
+                game.getBoard().getEntry(new Position(2, 2)));
+        assertEquals(BoardItem.WALL,
+                game.getBoard().getEntry(new Position(3, 2)));
+        assertEquals(BoardItem.DOT,
+                other.getBoard().getEntry(new Position(2, 2)));
+        assertEquals(BoardItem.DOT,
+                other.getBoard().getEntry(new Position(3, 2)));
+        assertEquals(BoardItem.DOT,
+                fork.getBoard().getEntry(new Position(3, 2)));
+        assertEquals(BoardItem.WALL,
+                fork.getBoard().getEntry(new Position(2, 2)));
+        assertEquals(1, game.getScores().getEntriesByName().size());
+        assertEquals(2, fork.getScores().getEntriesByName().size());
+        assertEquals(30, game.getScores().getScore());
+        assertEquals(35, fork.getScores().getScore());
+        assertEquals(new Position(1, 1), game.getHunter().getPosition());
+    }
+}
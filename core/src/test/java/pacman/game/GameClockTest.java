@@ -0,0 +1,75 @@
+package pacman.game;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class GameClockTest {
+    private static final long LEVEL_0 = GameClock.tickInterval(0);
+    private GameClock clock;
+
+    @Before
+    public void setUp() {
+        clock = new GameClock(3);
+    }
+
+    /*
+     * Counts the ticks due after advancing to now.
+     */
+    private int ticksAt(long now, int level) {
+        clock.advance(now);
+        int ticks = 0;
+        while (clock.nextTick(level)) {
+            ticks++;
+        }
+        return ticks;
+    }
+
+    @Test
+    public void tickInterval() {
+        long frame = 1_000_000_000L / 60;
+        assertEquals(50 * frame, GameClock.tickInterval(1));
+        assertEquals(40 * frame, GameClock.tickInterval(3));
+        assertEquals(30 * frame, GameClock.tickInterval(4));
+        assertEquals(20 * frame, GameClock.tickInterval(8));
+        assertEquals(10 * frame, GameClock.tickInterval(9));
+        assertEquals(10 * frame, GameClock.tickInterval(100));
+    }
+
+    @Test
+    public void firstAdvanceTicksOnce() {
+        assertEquals(1, ticksAt(1000, 0));
+        assertEquals(0, ticksAt(1000 + LEVEL_0 - 1, 0));
+        assertEquals(1, ticksAt(1000 + LEVEL_0, 0));
+    }
+
+    @Test
+    public void independentOfFrameRate() {
+        ticksAt(0, 0);
+
+        // 144Hz frames for 10 intervals
+        int ticks = 0;
+        long frame = 1_000_000_000L / 144;
+        for (long now = frame; now < 10 * LEVEL_0 + frame; now += frame) {
+            ticks += ticksAt(now, 0);
+        }
+        assertEquals(10, ticks);
+    }
+
+    @Test
+    public void catchUpIsCapped() {
+        ticksAt(0, 0);
+        assertEquals(3, ticksAt(100 * LEVEL_0, 0));
+        // the rest of the backlog is dropped
+        assertEquals(0, ticksAt(100 * LEVEL_0 + 1, 0));
+    }
+
+    @Test
+    public void skipDoesNotAccumulate() {
+        ticksAt(0, 0);
+        clock.skip(50 * LEVEL_0);
+        assertEquals(0, ticksAt(50 * LEVEL_0 + 1, 0));
+        assertEquals(1, ticksAt(51 * LEVEL_0, 0));
+    }
+}
@@ -0,0 +1,125 @@
+package pacman.game;
+
+import org.junit.Before;
+import org.junit.Test;
+import pacman.board.BoardItem;
+import pacman.util.Position;
+import pacman.util.UnpackableException;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class GameEventsTest {
+    private static final String MAP = String.join("\n",
+            "[Board]",
+            "7,5",
+            "XXXXXXX",
+            "X11111X",
+            "X1P1$1X",
+            "X11111X",
+            "XXXXXXX",
+            "",
+            "[Game]",
+            "title = events",
+            "author = tester",
+            "lives = 3",
+            "level = 0",
+            "score = 0",
+            "hunter = 2,2,LEFT,0,PHIL",
+            "blinky = 5,3,UP,SCATTER:7",
+            "clyde = 5,3,UP,SCATTER:7",
+            "inky = 5,3,UP,SCATTER:7",
+            "pinky = 5,3,UP,SCATTER:7",
+            "",
+            "[Scores]",
+            "");
+
+    private PacmanGame game;
+    private List<String> events;
+
+    @Before
+    public void setUp() throws IOException, UnpackableException {
+        game = GameReader.read(new StringReader(MAP));
+        events = new ArrayList<>();
+    }
+
+    /*
+     * A listener recording the events it is sent.
+     */
+    private GameListener recorder() {
+        return new GameListener() {
+            @Override
+            public void entityMoved(Entity entity, Position from) {
+                if (entity == game.getHunter()) {
+                    events.add("hunter " + from + " -> "
+                            + entity.getPosition());
+                }
+            }
+
+            @Override
+            public void entryChanged(Position position, BoardItem item) {
+                events.add("cell " + position + " " + item);
+            }
+
+            @Override
+            public void scoreChanged(int score) {
+                events.add("score " + score);
+            }
+
+            @Override
+            public void levelChanged(int level) {
+                events.add("level " + level);
+            }
+
+            @Override
+            public void ticked(PacmanGame ticked) {
+                events.add("tick");
+            }
+        };
+    }
+
+    @Test
+    public void tickSendsChanges() {
+        game.addListener(recorder());
+        game.tick();
+
+        assertEquals(List.of(
+                "cell " + new Position(1, 2) + " " + BoardItem.NONE,
+                "hunter " + new Position(2, 2) + " -> " + new Position(1, 2),
+                "score 10",
+                "tick"), events);
+    }
+
+    @Test
+    public void onlyChangesAreSent() {
+        game.addListener(recorder());
+        game.setLevel(0);
+        game.getScores().increaseScore(0);
+        assertTrue(events.isEmpty());
+
+        game.setLevel(2);
+        assertEquals(List.of("level 2"), events);
+    }
+
+    @Test
+    public void removedListenersAreNotSent() {
+        var listener = recorder();
+        game.addListener(listener);
+        game.removeListener(listener);
+        game.tick();
+        assertTrue(events.isEmpty());
+    }
+
+    @Test
+    public void forksHaveNoListeners() {
+        game.addListener(recorder());
+        var fork = game.fork();
+        fork.tick();
+        assertTrue(events.isEmpty());
+        assertFalse(fork.getEvents().hasListeners());
+    }
+}
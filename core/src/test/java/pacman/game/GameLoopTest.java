@@ -0,0 +1,134 @@
+package pacman.game;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import pacman.board.BoardItem;
+import pacman.board.DirtyCells;
+import pacman.util.Direction;
+import pacman.util.Position;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class GameLoopTest {
+    private static final long TIMEOUT_MILLIS = 5000;
+    private PacmanGame game;
+    private GameLoop loop;
+
+    @Before
+    public void setUp() {
+        game = TestGames.dotted(7, 5);
+        loop = new GameLoop(game, 5);
+    }
+
+    @After
+    public void tearDown() {
+        loop.stop();
+    }
+
+    /*
+     * Polls the loop until a snapshot with the given lives is published.
+     */
+    private GameSnapshot awaitLives(int lives) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (System.currentTimeMillis() < deadline) {
+            var snapshot = loop.poll();
+            if (snapshot != null && snapshot.getLives() == lives) {
+                return snapshot;
+            }
+            Thread.sleep(1);
+        }
+        fail("no snapshot with " + lives + " lives");
+        return null;
+    }
+
+    @Test
+    public void publishesOnStart() throws InterruptedException {
+        loop.start();
+        var snapshot = awaitLives(4);
+        assertTrue(snapshot.getChangedCells().isAllDirty());
+        assertEquals(game.getHunter().getPosition(),
+                snapshot.getHunterPosition());
+        assertEquals(4, snapshot.getGhostCount());
+    }
+
+    @Test
+    public void commandsRunOnLoopThread() throws InterruptedException {
+        List<String> threads = new ArrayList<>();
+        loop.start();
+        loop.submit(g -> {
+            threads.add(Thread.currentThread().getName());
+            g.setLives(2);
+            g.getScores().setScore("alice", 10);
+        });
+
+        var snapshot = awaitLives(2);
+        assertEquals(List.of("pacman-game-loop"), threads);
+        assertEquals(List.of("alice : 10"), snapshot.getEntriesByName());
+    }
+
+    @Test
+    public void directionsCoalescedPerTick() throws InterruptedException {
+        loop.offer(Command.LEFT);
+        loop.offer(Command.SPECIAL);
+        loop.offer(Command.DOWN);
+        loop.setPaused(false);
+        loop.start();
+
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        GameSnapshot snapshot = null;
+        while (snapshot == null || snapshot.getTick() == 0) {
+            assertTrue(System.currentTimeMillis() < deadline);
+            var next = loop.poll();
+            snapshot = next == null ? snapshot : next;
+            Thread.sleep(1);
+        }
+        assertEquals(Direction.DOWN, snapshot.getHunterDirection());
+        loop.stop();
+        // Phil's special is never shown as active, but it is used
+        assertTrue(game.getHunter().getSpecialDurationRemaining() > 0);
+        assertEquals(0, loop.getDroppedInputs());
+    }
+
+    @Test
+    public void snapshotIsACopy() {
+        var snapshot = new GameSnapshot(game,
+                new DirtyCells(7, 5), List.of(), List.of(), 0);
+        game.getBoard().setEntry(new Position(2, 2), BoardItem.NONE);
+        game.setLives(1);
+
+        assertEquals(BoardItem.DOT,
+                snapshot.getBoard().getEntry(new Position(2, 2)));
+        assertEquals(4, snapshot.getLives());
+    }
+
+    @Test
+    public void mergedWithKeepsEarlierChanges() {
+        var earlierCells = new DirtyCells(7, 5);
+        earlierCells.clear();
+        earlierCells.mark(2, 2);
+        var earlier = new GameSnapshot(game, earlierCells,
+                List.of(), List.of(), 0);
+
+        var laterCells = new DirtyCells(7, 5);
+        laterCells.clear();
+        laterCells.mark(3, 1);
+        var later = new GameSnapshot(game, laterCells,
+                List.of(), List.of(), 0);
+
+        List<Position> cells = new ArrayList<>();
+        later.mergedWith(earlier).getChangedCells()
+                .forEach((x, y) -> cells.add(new Position(x, y)));
+        assertEquals(List.of(new Position(3, 1), new Position(2, 2)), cells);
+
+        // neither original is changed
+        assertFalse(later.getChangedCells().isAllDirty());
+        cells.clear();
+        later.getChangedCells()
+                .forEach((x, y) -> cells.add(new Position(x, y)));
+        assertEquals(List.of(new Position(3, 1)), cells);
+    }
+}
@@ -0,0 +1,58 @@
+package pacman.game;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class InputRingTest {
+
+    @Test
+    public void capacityRoundsUpToPowerOfTwo() {
+        assertEquals(1, new InputRing(0).capacity());
+        assertEquals(8, new InputRing(8).capacity());
+        assertEquals(16, new InputRing(9).capacity());
+    }
+
+    @Test
+    public void firstInFirstOut() {
+        var ring = new InputRing(4);
+        assertTrue(ring.isEmpty());
+        assertNull(ring.poll());
+
+        ring.offer(Command.LEFT);
+        ring.offer(Command.SPECIAL);
+        ring.offer(Command.UP);
+        assertEquals(Command.LEFT, ring.poll());
+        assertEquals(Command.SPECIAL, ring.poll());
+        assertEquals(Command.UP, ring.poll());
+        assertNull(ring.poll());
+    }
+
+    @Test
+    public void dropsWhenFull() {
+        var ring = new InputRing(2);
+        assertTrue(ring.offer(Command.LEFT));
+        assertTrue(ring.offer(Command.RIGHT));
+        assertFalse(ring.offer(Command.UP));
+        assertFalse(ring.offer(Command.DOWN));
+        assertEquals(2, ring.getDropped());
+
+        assertEquals(Command.LEFT, ring.poll());
+        assertTrue(ring.offer(Command.UP));
+        assertEquals(Command.RIGHT, ring.poll());
+        assertEquals(Command.UP, ring.poll());
+        assertEquals(2, ring.getDropped());
+    }
+
+    @Test
+    public void wrapsAround() {
+        var ring = new InputRing(4);
+        for (int i = 0; i < 100; i++) {
+            var command = Command.values()[i % Command.values().length];
+            assertTrue(ring.offer(command));
+            assertEquals(command, ring.poll());
+        }
+        assertTrue(ring.isEmpty());
+        assertEquals(0, ring.getDropped());
+    }
+}
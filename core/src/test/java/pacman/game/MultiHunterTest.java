@@ -0,0 +1,158 @@
+package pacman.game;
+
+import org.junit.Before;
+import org.junit.Test;
+import pacman.board.BoardItem;
+import pacman.board.PacmanBoard;
+import pacman.hunter.Hunter;
+import pacman.hunter.Phil;
+import pacman.hunter.Speedy;
+import pacman.util.Direction;
+import pacman.util.Position;
+import pacman.util.UnpackableException;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class MultiHunterTest {
+    private static final String MAP = String.join("\n",
+            "[Board]",
+            "7,5",
+            "XXXXXXX",
+            "X11111X",
+            "X1P1$1X",
+            "X11111X",
+            "XXXXXXX",
+            "",
+            "[Game]",
+            "title = arena",
+            "author = tester",
+            "lives = 3",
+            "level = 0",
+            "score = 0",
+            "hunter = 2,2,LEFT,0,PHIL",
+            "hunter1 = 1,1,RIGHT,0,SPEEDY",
+            "hunter2 = 5,3,UP,0,PHIL",
+            "blinky = 4,2,UP,SCATTER:7",
+            "clyde = 4,2,UP,SCATTER:7",
+            "inky = 4,2,UP,SCATTER:7",
+            "pinky = 4,2,UP,SCATTER:7",
+            "",
+            "[Scores]",
+            "");
+
+    private PacmanGame game;
+
+    @Before
+    public void setUp() throws IOException, UnpackableException {
+        game = GameReader.read(new StringReader(MAP));
+    }
+
+    @Test
+    public void readsAndWritesHunters() throws IOException,
+            UnpackableException {
+        assertEquals(3, game.getHunterCount());
+        assertTrue(game.getHunter(1) instanceof Speedy);
+        assertEquals(new Position(5, 3), game.getHunter(2).getPosition());
+        assertEquals(3, game.getLives(2));
+
+        // one hunter is out and the others have scored
+        game.setLives(1, 0);
+        game.setLives(2, 1);
+        game.getScores().increasePlayerScore(0, 30);
+        game.getScores().increasePlayerScore(2, 50);
+
+        var out = new StringWriter();
+        GameWriter.write(out, game);
+        assertTrue(out.toString().contains("hunter2 = 5,3,UP,0,PHIL,1,50"));
+        var copy = GameReader.read(new StringReader(out.toString()));
+        assertEquals(game.getHunters(), copy.getHunters());
+        for (int i = 0; i < 3; i++) {
+            assertEquals(game.getLives(i), copy.getLives(i));
+            assertEquals(game.getScores().getPlayerScore(i),
+                    copy.getScores().getPlayerScore(i));
+        }
+    }
+
+    @Test(expected = UnpackableException.class)
+    public void huntersMustBeNumberedInOrder() throws IOException,
+            UnpackableException {
+        GameReader.read(new StringReader(MAP.replace("hunter2", "hunter3")));
+    }
+
+    @Test
+    public void eachHunterScores() {
+        game.tick();
+        // every hunter ate one dot
+        assertEquals(30, game.getScores().getScore());
+        for (int i = 0; i < 3; i++) {
+            assertEquals(10, game.getScores().getPlayerScore(i));
+        }
+    }
+
+    @Test
+    public void deadHunterRespawnsAlone() {
+        var ghost = game.getGhosts().get(0);
+        game.getHunter(2).setPosition(ghost.getPosition());
+        game.getHunter(2).setDirection(Direction.UP);
+        var other = game.getHunter(1).getPosition();
+        game.getHunter(1).setDirection(Direction.DOWN);
+        game.tick();
+
+        assertEquals(2, game.getLives(2));
+        assertEquals(3, game.getLives(0));
+        assertEquals(3, game.getLives());
+        assertEquals(game.getBoard().getPacmanSpawn(),
+                game.getHunter(2).getPosition());
+        assertEquals(other.add(Direction.DOWN.offset()),
+                game.getHunter(1).getPosition());
+    }
+
+    @Test
+    public void outOfLivesStopsPlaying() {
+        game.setLives(1, 0);
+        var position = game.getHunter(1).getPosition();
+        game.tick();
+        assertEquals(position, game.getHunter(1).getPosition());
+        assertEquals(0, game.getScores().getPlayerScore(1));
+
+        game.setLives(0);
+        game.tick();
+        assertEquals(1, game.getTick());
+    }
+
+    @Test
+    public void nearestHunterMatchesLinearScan() {
+        var board = new PacmanBoard(60, 40);
+        board.setEntry(new Position(1, 1), BoardItem.PACMAN_SPAWN);
+        board.setEntry(new Position(2, 1), BoardItem.GHOST_SPAWN);
+        var arena = new PacmanGame("arena", "tester", new Phil(), board);
+        var random = new Random(7);
+        for (int i = 0; i < 300; i++) {
+            Hunter hunter = new Phil();
+            hunter.setPosition(new Position(1 + random.nextInt(58),
+                    1 + random.nextInt(38)));
+            arena.addHunter(hunter);
+        }
+        arena.setLives(5, 0);
+
+        for (int q = 0; q < 500; q++) {
+            var from = new Position(random.nextInt(70) - 5,
+                    random.nextInt(50) - 5);
+            Hunter expected = null;
+            for (int i = 0; i < arena.getHunterCount(); i++) {
+                var hunter = arena.getHunter(i);
+                if (arena.getLives(i) > 0 && (expected == null
+                        || hunter.getPosition().distance(from)
+                        < expected.getPosition().distance(from))) {
+                    expected = hunter;
+                }
+            }
+            assertSame(expected, arena.getNearestHunter(from));
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package pacman.game;
+
+import pacman.board.BoardItem;
+import pacman.board.PacmanBoard;
+import pacman.hunter.Phil;
+import pacman.util.Position;
+
+/**
+ * Small games shared by the tests of several packages.
+ */
+public final class TestGames {
+
+    private TestGames() {
+    }
+
+    /**
+     * Creates a game on a walled in board filled with dots, with the
+     * pacman spawn in the top left corner and the ghost spawn in the
+     * bottom right, and resets it so everyone starts at their spawn.
+     * Tests may change the board before they start ticking.
+     *
+     * @param width of the board, at least 4.
+     * @param height of the board, at least 4.
+     * @return the game.
+     */
+    public static PacmanGame dotted(int width, int height) {
+        var board = new PacmanBoard(width, height);
+        for (int x = 1; x < width - 1; x++) {
+            for (int y = 1; y < height - 1; y++) {
+                board.setEntry(new Position(x, y), BoardItem.DOT);
+            }
+        }
+        board.setEntry(new Position(1, 1), BoardItem.PACMAN_SPAWN);
+        board.setEntry(new Position(width - 2, height - 2),
+                BoardItem.GHOST_SPAWN);
+        var game = new PacmanGame("title", "author", new Phil(), board);
+        game.reset();
+        return game;
+    }
+}
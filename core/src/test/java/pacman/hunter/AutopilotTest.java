@@ -0,0 +1,77 @@
+package pacman.hunter;
+
+import org.junit.Before;
+import org.junit.Test;
+import pacman.board.BoardItem;
+import pacman.board.PacmanBoard;
+import pacman.game.PacmanGame;
+import pacman.util.Direction;
+import pacman.util.Position;
+
+import static org.junit.Assert.*;
+
+public class AutopilotTest {
+    private PacmanGame game;
+    private Autopilot autopilot;
+
+    @Before
+    public void setUp() {
+        // a ring of dots around a block of walls, the ghosts are walled in
+        // on the right
+        var board = new PacmanBoard(9, 5);
+        for (int x = 1; x < 6; x++) {
+            board.setEntry(new Position(x, 1), BoardItem.DOT);
+            board.setEntry(new Position(x, 3), BoardItem.DOT);
+        }
+        for (int y = 1; y < 4; y++) {
+            board.setEntry(new Position(6, y), BoardItem.WALL);
+            board.setEntry(new Position(7, y), BoardItem.WALL);
+        }
+        for (int x = 2; x < 5; x++) {
+            board.setEntry(new Position(x, 2), BoardItem.WALL);
+        }
+        board.setEntry(new Position(1, 2), BoardItem.DOT);
+        board.setEntry(new Position(5, 2), BoardItem.BIG_DOT);
+        board.setEntry(new Position(1, 1), BoardItem.PACMAN_SPAWN);
+        board.setEntry(new Position(7, 2), BoardItem.GHOST_SPAWN);
+        game = new PacmanGame("title", "author", new Phil(), board);
+        game.reset();
+        autopilot = new Autopilot(game);
+    }
+
+    @Test
+    public void clearsBoardReusingPaths() {
+        int dots = 12;
+        for (int i = 0; i < 100 && game.getLevel() == 0; i++) {
+            autopilot.steer();
+            game.tick();
+        }
+        assertEquals(1, game.getLevel());
+        // roughly one search per dot rather than one per tick
+        assertTrue(autopilot.getSearches() <= 2 * dots);
+    }
+
+    @Test
+    public void avoidsGhosts() {
+        // a chasing ghost next to the dot to the right of the hunter
+        var ghost = game.getGhosts().get(0);
+        ghost.setPosition(new Position(3, 1));
+        autopilot.steer();
+        assertEquals(Direction.DOWN, game.getHunter().getDirection());
+    }
+
+    @Test
+    public void pathInvalidatedWhenBlocked() {
+        autopilot.steer();
+        assertEquals(Direction.RIGHT, game.getHunter().getDirection());
+        long searches = autopilot.getSearches();
+
+        autopilot.steer();
+        assertEquals(searches, autopilot.getSearches());
+
+        game.getBoard().setEntry(new Position(2, 1), BoardItem.WALL);
+        autopilot.steer();
+        assertEquals(searches + 1, autopilot.getSearches());
+        assertEquals(Direction.DOWN, game.getHunter().getDirection());
+    }
+}
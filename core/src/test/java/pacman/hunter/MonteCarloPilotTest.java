@@ -0,0 +1,65 @@
+package pacman.hunter;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import pacman.board.BoardItem;
+import pacman.board.PacmanBoard;
+import pacman.game.PacmanGame;
+import pacman.util.Direction;
+import pacman.util.Position;
+
+import static org.junit.Assert.*;
+
+public class MonteCarloPilotTest {
+    private PacmanGame game;
+    private MonteCarloPilot pilot;
+
+    @Before
+    public void setUp() {
+        // a corridor with dots to the left of the hunter and none to the
+        // right, the ghosts are walled in below
+        var board = new PacmanBoard(11, 5);
+        for (int x = 1; x < 10; x++) {
+            board.setEntry(new Position(x, 2), BoardItem.WALL);
+        }
+        board.setEntry(new Position(5, 1), BoardItem.PACMAN_SPAWN);
+        board.setEntry(new Position(5, 3), BoardItem.GHOST_SPAWN);
+        game = new PacmanGame("title", "author", new Phil(), board);
+        game.reset();
+        for (int x = 1; x < 10; x++) {
+            if (x > 5) {
+                game.getBoard().setEntry(new Position(x, 1), BoardItem.NONE);
+            }
+            if (x != 5) {
+                game.getBoard().setEntry(new Position(x, 3), BoardItem.NONE);
+            }
+        }
+        pilot = new MonteCarloPilot(400, 10, 2, 1);
+    }
+
+    @After
+    public void tearDown() {
+        pilot.close();
+    }
+
+    @Test
+    public void headsForDots() {
+        var before = game.getHunter().getPosition();
+        assertEquals(Direction.LEFT, pilot.choose(game));
+        // choosing does not change the game
+        assertEquals(before, game.getHunter().getPosition());
+        assertEquals(0, game.getTick());
+        assertEquals(400, pilot.getRollouts());
+        assertTrue(pilot.getRolloutsPerSecondPerThread() > 0);
+    }
+
+    @Test
+    public void clearsCorridor() {
+        for (int i = 0; i < 6 && game.getLevel() == 0; i++) {
+            pilot.steer(game);
+            game.tick();
+        }
+        assertEquals(1, game.getLevel());
+    }
+}
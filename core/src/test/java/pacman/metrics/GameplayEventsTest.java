@@ -0,0 +1,143 @@
+package pacman.metrics;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.Test;
+import pacman.board.BoardItem;
+import pacman.board.PacmanBoard;
+import pacman.game.GameReader;
+import pacman.game.GameWriter;
+import pacman.game.PacmanGame;
+import pacman.hunter.Phil;
+import pacman.util.Direction;
+import pacman.util.Position;
+import pacman.util.UnpackableException;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class GameplayEventsTest {
+
+    /*
+     * Runs the action while recording, returning the pacman events.
+     */
+    private List<RecordedEvent> record(Action action) throws Exception {
+        var file = Files.createTempFile("gameplay", ".jfr");
+        try (var recording = new Recording()) {
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(file);
+
+            List<RecordedEvent> events = new ArrayList<>();
+            for (var event : RecordingFile.readAllEvents(file)) {
+                String name = event.getEventType().getName();
+                if (name.startsWith("pacman.") && !name.equals("pacman.Tick")) {
+                    events.add(event);
+                }
+            }
+            return events;
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    /*
+     * Gets the names of the given events.
+     */
+    private List<String> names(List<RecordedEvent> events) {
+        List<String> names = new ArrayList<>();
+        for (var event : events) {
+            names.add(event.getEventType().getName());
+        }
+        return names;
+    }
+
+    @Test
+    public void bigDotAndLevelAdvance() throws Exception {
+        // a corridor with the only dot, a big one, next to the hunter
+        var board = new PacmanBoard(6, 3);
+        board.setEntry(new Position(1, 1), BoardItem.PACMAN_SPAWN);
+        board.setEntry(new Position(2, 1), BoardItem.BIG_DOT);
+        board.setEntry(new Position(4, 1), BoardItem.GHOST_SPAWN);
+        var game = new PacmanGame("title", "author", new Phil(), board);
+        game.getHunter().setPosition(new Position(1, 1));
+        game.getHunter().setDirection(Direction.RIGHT);
+
+        var events = record(game::tick);
+        assertEquals(List.of("pacman.BigDotEaten", "pacman.GhostsFrightened",
+                "pacman.LevelAdvance"), names(events));
+        assertEquals(2, events.get(0).getInt("x"));
+        assertEquals(4, events.get(1).getInt("ghosts"));
+        assertEquals(1, events.get(2).getInt("level"));
+    }
+
+    @Test
+    public void saveAndLoad() throws Exception {
+        var board = new PacmanBoard(6, 3);
+        board.setEntry(new Position(1, 1), BoardItem.PACMAN_SPAWN);
+        board.setEntry(new Position(4, 1), BoardItem.GHOST_SPAWN);
+        var game = new PacmanGame("saved", "author", new Phil(), board);
+        game.reset();
+        var saved = new StringWriter();
+
+        var events = record(() -> {
+            GameWriter.write(saved, game);
+            GameReader.read(new StringReader(saved.toString()));
+            try {
+                GameReader.read(new StringReader("[Nonsense]"));
+                fail();
+            } catch (UnpackableException expected) {
+            }
+            try {
+                GameWriter.write(new FailingWriter(), game);
+                fail();
+            } catch (IOException expected) {
+            }
+        });
+
+        assertEquals(List.of("pacman.GameSave", "pacman.GameLoad",
+                "pacman.GameLoad", "pacman.GameSave"), names(events));
+        assertEquals("saved", events.get(0).getString("title"));
+        assertTrue(events.get(0).getBoolean("succeeded"));
+        assertTrue(events.get(1).getBoolean("succeeded"));
+        assertEquals("saved", events.get(1).getString("title"));
+        assertFalse(events.get(2).getBoolean("succeeded"));
+        assertEquals("saved", events.get(3).getString("title"));
+        assertFalse(events.get(3).getBoolean("succeeded"));
+    }
+
+    /*
+     * A writer that fails every write, like a full disk.
+     */
+    private static final class FailingWriter extends Writer {
+        @Override
+        public void write(char[] buffer, int offset, int length)
+                throws IOException {
+            throw new IOException("disk full");
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    /*
+     * Something to run while recording.
+     */
+    private interface Action {
+        void run() throws IOException, UnpackableException;
+    }
+}
@@ -0,0 +1,91 @@
+package pacman.metrics;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.Before;
+import org.junit.Test;
+import pacman.game.PacmanGame;
+import pacman.game.TestGames;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class PhaseMetricsTest {
+    private PacmanGame game;
+
+    @Before
+    public void setUp() {
+        game = TestGames.dotted(7, 5);
+    }
+
+    @Test
+    public void histogramBuckets() {
+        var histogram = new Histogram();
+        histogram.record(0);
+        histogram.record(1);
+        histogram.record(5);
+        histogram.record(7);
+        histogram.record(1000);
+
+        assertEquals(5, histogram.getTotal());
+        assertEquals(1, histogram.getCount(0));
+        assertEquals(1, histogram.getCount(1));
+        assertEquals(2, histogram.getCount(3));
+        assertEquals(7, Histogram.getUpperBound(3));
+        assertEquals(7, histogram.getPercentile(0.8));
+        assertEquals(1023, histogram.getPercentile(1));
+        assertEquals(0, new Histogram().getPercentile(0.5));
+    }
+
+    @Test
+    public void disabledByDefault() {
+        assertSame(MetricsRegistry.NONE, game.getMetrics());
+        game.tick();
+        assertEquals(0, game.getMetrics().getCount(TickPhase.TICK));
+    }
+
+    @Test
+    public void recordsEachPhase() {
+        var metrics = new PhaseMetrics();
+        game.setMetrics(metrics);
+        game.tick();
+        game.tick();
+
+        assertEquals(2, metrics.getCount(TickPhase.TICK));
+        assertEquals(2, metrics.getCount(TickPhase.HUNTER_MOVE));
+        assertEquals(2, metrics.getCount(TickPhase.EMPTY_CHECK));
+        // ghosts only move on even ticks and the level was not cleared
+        assertEquals(1, metrics.getCount(TickPhase.GHOST_MOVE));
+        assertEquals(0, metrics.getCount(TickPhase.LEVEL_RESET));
+        assertEquals(2, metrics.getHistogram(TickPhase.TICK).getTotal());
+        assertTrue(metrics.getTotalNanos(TickPhase.TICK)
+                >= metrics.getTotalNanos(TickPhase.HUNTER_MOVE));
+    }
+
+    @Test
+    public void flightRecorderEvents() throws IOException {
+        var file = Files.createTempFile("ticks", ".jfr");
+        try (var recording = new Recording()) {
+            recording.enable(TickEvent.class).withThreshold(
+                    java.time.Duration.ZERO);
+            recording.start();
+            game.tick();
+            game.tick();
+            recording.stop();
+            recording.dump(file);
+
+            List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+            events.removeIf(event ->
+                    !event.getEventType().getName().equals("pacman.Tick"));
+            assertEquals(2, events.size());
+            assertEquals(0, events.get(0).getInt("tick"));
+            assertEquals(1, events.get(1).getInt("tick"));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package pacman.net;
+
+import org.junit.Before;
+import org.junit.Test;
+import pacman.game.PacmanGame;
+import pacman.game.TestGames;
+import pacman.util.Direction;
+
+import java.nio.ByteBuffer;
+
+import static org.junit.Assert.*;
+
+public class FramePublisherTest {
+    private PacmanGame game;
+    private FramePublisher publisher;
+
+    @Before
+    public void setUp() {
+        game = TestGames.dotted(9, 7);
+        publisher = new FramePublisher(game, 1000);
+    }
+
+    /*
+     * Applies a frame polled from a subscription, skipping its length.
+     */
+    private static boolean apply(DeltaDecoder decoder, ByteBuffer frame) {
+        assertEquals(frame.remaining() - Integer.BYTES,
+                frame.getInt(frame.position()));
+        return decoder.apply(frame.position(frame.position() + Integer.BYTES)
+                .slice());
+    }
+
+    /*
+     * Checks the decoded hunter, score and tick match the game.
+     */
+    private void assertFollows(DeltaDecoder decoder) {
+        assertEquals(game.getTick(), decoder.getTick());
+        assertEquals(game.getHunter().getPosition(),
+                decoder.getHunterPosition(0));
+        assertEquals(game.getScores().getScore(), decoder.getScore());
+    }
+
+    @Test
+    public void subscribersShareEachFrame() {
+        var first = publisher.subscribe(8);
+        var second = publisher.subscribe(8);
+        var decoder = new DeltaDecoder();
+
+        game.getHunter().setDirection(Direction.RIGHT);
+        for (int i = 0; i < 5; i++) {
+            game.tick();
+            var frame = first.poll();
+            // one encoding, fanned out as views of the same bytes
+            var other = second.poll();
+            assertEquals(frame, other);
+            assertEquals(i == 0, DeltaEncoder.isKeyframe(frame));
+            assertTrue(apply(decoder, frame));
+            assertFollows(decoder);
+        }
+        assertNull(first.poll());
+        assertEquals(5, publisher.getPublished());
+        assertEquals(0, publisher.getRefused());
+    }
+
+    @Test
+    public void slowSubscriberSkipsToKeyframe() {
+        var slow = publisher.subscribe(4);
+        game.getHunter().setDirection(Direction.RIGHT);
+        for (int i = 0; i < 10; i++) {
+            game.tick();
+        }
+        // four frames fit, the other six were refused
+        assertEquals(4, slow.size());
+        assertEquals(6, publisher.getRefused());
+
+        // a keyframe is queued as soon as there is room, and polling
+        // skips straight to it
+        assertNotNull(slow.poll());
+        game.tick();
+        var decoder = new DeltaDecoder();
+        var frame = slow.poll();
+        assertTrue(DeltaEncoder.isKeyframe(frame));
+        assertEquals(3, slow.getSkipped());
+        assertTrue(apply(decoder, frame));
+        assertFollows(decoder);
+        assertNull(slow.poll());
+
+        game.tick();
+        assertTrue(apply(decoder, slow.poll()));
+        assertFollows(decoder);
+    }
+
+    @Test
+    public void detachStopsPublishing() {
+        var subscription = publisher.subscribe(8);
+        publisher.detach();
+        game.tick();
+        assertNull(subscription.poll());
+        assertEquals(0, publisher.getPublished());
+    }
+}
@@ -0,0 +1,211 @@
+package pacman.net;
+
+import org.junit.After;
+import org.junit.Test;
+import pacman.board.BoardItem;
+import pacman.game.Command;
+import pacman.game.PacmanGame;
+import pacman.game.TestGames;
+import pacman.util.Direction;
+import pacman.util.Position;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+
+import static org.junit.Assert.*;
+
+public class GameServerTest {
+    private GameServer server;
+    private SocketChannel client;
+
+    /*
+     * Creates a game on a board of dots walled in around the edge.
+     */
+    private static PacmanGame game() {
+        var game = TestGames.dotted(9, 7);
+        game.getBoard().setEntry(new Position(4, 3), BoardItem.WALL);
+        game.getBoard().setEntry(new Position(1, 5), BoardItem.BIG_DOT);
+        return game;
+    }
+
+    /*
+     * Checks the decoded state matches the game.
+     */
+    private static void assertDecoded(PacmanGame game, DeltaDecoder state) {
+        var board = game.getBoard();
+        for (int y = 0; y < board.getHeight(); y++) {
+            for (int x = 0; x < board.getWidth(); x++) {
+                assertEquals(board.getEntry(x, y), state.getEntry(x, y));
+            }
+        }
+        var hunter = game.getHunter();
+        assertEquals(hunter.getPosition(), state.getHunterPosition(0));
+        assertEquals(hunter.getDirection(), state.getHunterDirection(0));
+        assertEquals(hunter.isSpecialActive(),
+                state.isHunterSpecialActive(0));
+        assertEquals(game.getLives(0), state.getLives(0));
+        var ghosts = game.getGhosts();
+        for (int i = 0; i < ghosts.size(); i++) {
+            assertEquals(ghosts.get(i).getPosition(),
+                    state.getGhostPosition(i));
+            assertEquals(ghosts.get(i).getPhase(), state.getGhostPhase(i));
+            assertEquals(ghosts.get(i).isDead(), state.isGhostDead(i));
+        }
+        assertEquals(game.getScores().getScore(), state.getScore());
+        assertEquals(game.getLevel(), state.getLevel());
+        assertEquals(game.getTick(), state.getTick());
+    }
+
+    /*
+     * Returns the bits of a frame after its length.
+     */
+    private static ByteBuffer payload(ByteBuffer frame) {
+        return frame.duplicate().position(Integer.BYTES).slice();
+    }
+
+    /*
+     * Reads exactly the given number of bytes from the server.
+     */
+    private ByteBuffer read(int bytes) throws IOException {
+        var buffer = ByteBuffer.allocate(bytes);
+        while (buffer.hasRemaining()) {
+            if (client.read(buffer) < 0) {
+                throw new EOFException();
+            }
+        }
+        return buffer.flip();
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        if (client != null) {
+            client.close();
+        }
+        if (server != null) {
+            server.close();
+        }
+    }
+
+    @Test
+    public void deltasFollowGame() {
+        var game = game();
+        var encoder = new DeltaEncoder(game);
+        var decoder = new DeltaDecoder();
+
+        // deltas before a keyframe cannot be applied
+        assertTrue(DeltaEncoder.isKeyframe(encoder.keyframe()));
+        assertFalse(decoder.apply(ByteBuffer.wrap(new byte[4])));
+
+        var first = encoder.delta();
+        assertTrue(DeltaEncoder.isKeyframe(first));
+        assertTrue(decoder.apply(payload(first)));
+        assertDecoded(game, decoder);
+
+        Direction[] turns = {Direction.RIGHT, Direction.DOWN, Direction.LEFT,
+            Direction.UP};
+        for (int i = 0; i < 120; i++) {
+            game.getHunter().setDirection(turns[i / 6 % turns.length]);
+            if (i == 40) {
+                game.setGhostsFrightened();
+            }
+            game.tick();
+            var frame = encoder.delta();
+            assertEquals(frame.getInt(0), frame.remaining() - Integer.BYTES);
+            decoder.apply(payload(frame));
+            assertDecoded(game, decoder);
+        }
+
+        // a reset respawns every dot, which only a keyframe can describe
+        game.reset();
+        var frame = encoder.delta();
+        assertTrue(DeltaEncoder.isKeyframe(frame));
+        decoder.apply(payload(frame));
+        assertDecoded(game, decoder);
+
+        game.tick();
+        frame = encoder.delta();
+        assertFalse(DeltaEncoder.isKeyframe(frame));
+        assertTrue(frame.remaining() < encoder.keyframe().remaining() / 2);
+    }
+
+    @Test
+    public void clientFollowsAndSteersGame() throws IOException {
+        server = new GameServer(game(), 100, 1000);
+        var address = server.start(
+                new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+        client = SocketChannel.open(address);
+
+        var hello = read(3 * Integer.BYTES);
+        assertEquals(GameServer.MAGIC, hello.getInt());
+        assertEquals(0, hello.getInt());
+        assertEquals(100, hello.getInt());
+
+        // joining clients are sent a keyframe first
+        var decoder = new DeltaDecoder();
+        int length = read(Integer.BYTES).getInt();
+        assertTrue(decoder.apply(read(length)));
+        assertTrue(decoder.isSynced());
+        assertEquals(4, decoder.getGhostCount());
+
+        client.write(ByteBuffer.wrap(
+                new byte[] {(byte) Command.DOWN.ordinal()}));
+
+        for (int frames = 0; frames < 100; frames++) {
+            length = read(Integer.BYTES).getInt();
+            decoder.apply(read(length));
+            if (decoder.isSynced()
+                    && decoder.getHunterDirection(0) == Direction.DOWN) {
+                return;
+            }
+        }
+        fail("hunter never turned down");
+    }
+
+    @Test(timeout = 10000)
+    public void spectatorsFollowGame() throws IOException {
+        server = new GameServer(game(), 100, 1000);
+        server.start(
+                new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+        var address = server.startSpectators(
+                new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+        client = SocketChannel.open(address);
+
+        var hello = read(3 * Integer.BYTES);
+        assertEquals(GameServer.MAGIC, hello.getInt());
+        assertEquals(-1, hello.getInt());
+
+        var decoder = new DeltaDecoder();
+        for (int frames = 0; frames < 3; frames++) {
+            int length = read(Integer.BYTES).getInt();
+            assertTrue(decoder.apply(read(length)));
+        }
+
+        // spectators cannot steer
+        client.write(ByteBuffer.wrap(
+                new byte[] {(byte) Command.DOWN.ordinal()}));
+        var sink = ByteBuffer.allocate(1 << 16);
+        while (client.read(sink.clear()) >= 0) {
+            // frames sent before the command was read
+        }
+    }
+
+    @Test(timeout = 10000)
+    public void invalidCommandClosesConnection() throws IOException {
+        server = new GameServer(game(), 100, 1000);
+        var address = server.start(
+                new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+        client = SocketChannel.open(address);
+        read(3 * Integer.BYTES);
+
+        client.write(ByteBuffer.wrap(
+                new byte[] {(byte) Command.RESET.ordinal()}));
+        var sink = ByteBuffer.allocate(1 << 16);
+        while (client.read(sink.clear()) >= 0) {
+            // frames sent before the command was read
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package pacman.net;
+
+import org.junit.Test;
+import pacman.board.BoardItem;
+import pacman.game.Command;
+import pacman.game.GameListener;
+import pacman.game.GameWriter;
+import pacman.game.PacmanGame;
+import pacman.game.TestGames;
+import pacman.util.Position;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.SplittableRandom;
+
+import static org.junit.Assert.*;
+
+public class RollbackTest {
+
+    /*
+     * Creates a small game with the hunter and ghosts at their spawns.
+     */
+    private static PacmanGame game() {
+        var game = TestGames.dotted(9, 7);
+        game.getBoard().setEntry(new Position(4, 3), BoardItem.BIG_DOT);
+        return game;
+    }
+
+    private static String save(PacmanGame game) throws IOException {
+        var writer = new StringWriter();
+        GameWriter.write(writer, game);
+        return writer.toString();
+    }
+
+    @Test
+    public void lateCommandsPlayOutAsIfOnTime() throws IOException {
+        var onTime = new Rollback(game(), 8);
+        var late = new Rollback(game(), 8);
+        var random = new SplittableRandom(3);
+        var directions = new Command[] {
+            Command.LEFT, Command.RIGHT, Command.UP, Command.DOWN
+        };
+
+        for (int frame = 0; frame < 200; frame++) {
+            var command = directions[random.nextInt(directions.length)];
+            int delay = random.nextInt(8);
+            assertTrue(onTime.input(frame, 0, command));
+            onTime.advance();
+
+            // the same command only arrives delay frames later
+            for (int i = 0; i < delay; i++) {
+                late.advance();
+            }
+            assertTrue(late.input(frame, 0, command));
+            for (int i = 0; i < delay; i++) {
+                onTime.advance();
+            }
+            late.advance();
+            frame += delay;
+        }
+
+        assertEquals(onTime.getFrame(), late.getFrame());
+        assertEquals(save(onTime.getGame()), save(late.getGame()));
+        assertTrue(late.getRollbacks() > 0);
+        assertEquals(0, onTime.getRollbacks());
+    }
+
+    @Test
+    public void tooLateCommandsAreRefused() {
+        var rollback = new Rollback(game(), 4);
+        for (int i = 0; i < 10; i++) {
+            rollback.advance();
+        }
+        assertFalse(rollback.input(5, 0, Command.UP));
+        assertTrue(rollback.input(6, 0, Command.UP));
+        assertFalse(rollback.input(14, 0, Command.UP));
+        assertFalse(rollback.input(6, 1, Command.UP));
+    }
+
+    @Test
+    public void replayStaysWithinBudget() {
+        var rollback = new Rollback(game(), 8);
+        for (int i = 0; i < 10; i++) {
+            rollback.advance();
+        }
+        rollback.setBudget(2);
+        assertFalse(rollback.input(7, 0, Command.UP));
+        assertTrue(rollback.input(8, 0, Command.UP));
+        rollback.advance();
+        assertEquals(1, rollback.getOverBudget());
+        assertEquals(2, rollback.getReplayed());
+
+        rollback.setBudget(0);
+        assertFalse(rollback.input(10, 0, Command.DOWN));
+        assertTrue(rollback.input(11, 0, Command.DOWN));
+        rollback.advance();
+        assertEquals(2, rollback.getReplayed());
+        assertEquals(1, rollback.getRollbacks());
+    }
+
+    @Test
+    public void listenersSeeOnlyTheNetChange() {
+        var game = game();
+        var rollback = new Rollback(game, 8);
+        int[] ticks = {0};
+        game.addListener(new GameListener() {
+            @Override
+            public void ticked(PacmanGame ticked) {
+                ticks[0]++;
+            }
+        });
+
+        for (int i = 0; i < 5; i++) {
+            rollback.advance();
+        }
+        rollback.input(1, 0, Command.DOWN);
+        rollback.advance();
+
+        assertEquals(6, ticks[0]);
+        assertEquals(4, rollback.getReplayed());
+    }
+
+    @Test
+    public void randomNumbersAreForked() {
+        var game = game();
+        game.setSeed(42);
+        var fork = game.fork();
+        for (int i = 0; i < 10; i++) {
+            assertEquals(game.nextRandom(100), fork.nextRandom(100));
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package pacman.score;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+public class ConcurrentScoreBoardTest {
+    private ConcurrentScoreBoard board;
+
+    @Before
+    public void setUp() {
+        board = new ConcurrentScoreBoard();
+    }
+
+    @Test
+    public void keepsBestScore() {
+        board.setScore("Fred", 100);
+        board.setScore("Fred", 24);
+        assertEquals(100, board.getScore("Fred"));
+
+        board.setScore("Fred", 240);
+        assertEquals(240, board.getScore("Fred"));
+        assertEquals(-1, board.getScore("fred"));
+    }
+
+    @Test
+    public void ignoresInvalidScores() {
+        board.setScore("@@@@", 7);
+        board.setScore("ValidName", -1);
+        board.setScore(null, 111);
+        board.setScore("", 5);
+        assertEquals(0, board.size());
+    }
+
+    @Test
+    public void getTopScores() {
+        board.setScores(Map.of("Alfie", 24, "richard", 20, "ben", 20,
+                "zed", 5));
+
+        assertEquals(List.of("Alfie : 24", "ben : 20", "richard : 20",
+                "zed : 5"), board.getEntriesByScore());
+        assertEquals(List.of("Alfie : 24", "ben : 20"),
+                board.getTopScores(2));
+        assertTrue(board.getTopScores(0).isEmpty());
+    }
+
+    @Test
+    public void concurrentWriters() throws InterruptedException {
+        int threads = 8;
+        int names = 100;
+        var workers = new ArrayList<Thread>();
+        for (int t = 0; t < threads; t++) {
+            int offset = t;
+            workers.add(new Thread(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    board.setScore("p" + (i % names), i + offset);
+                }
+            }));
+        }
+
+        for (var worker : workers) {
+            worker.start();
+        }
+        for (var worker : workers) {
+            worker.join();
+        }
+
+        assertEquals(names, board.size());
+        for (int i = 0; i < names; i++) {
+            // best write to each name came from the last thread
+            assertEquals(10_000 - names + i + threads - 1,
+                    board.getScore("p" + i));
+        }
+    }
+
+    @Test
+    public void readersSeeWholeUpdates() throws InterruptedException {
+        int names = 50;
+        // scores only ever rise, so a snapshot may never go back on an
+        // earlier one
+        var writer = new Thread(() -> {
+            for (int round = 0; round < 2_000; round++) {
+                for (int i = 0; i < names; i++) {
+                    board.setScore("p" + i, round);
+                }
+            }
+        });
+        writer.start();
+
+        Map<String, Integer> last = Map.of();
+        while (writer.isAlive()) {
+            var snapshot = board.snapshot();
+            for (var entry : last.entrySet()) {
+                assertTrue(snapshot.get(entry.getKey()) >= entry.getValue());
+            }
+            var top = board.getTopScores(3);
+            assertTrue(top.size() <= 3);
+            last = snapshot;
+        }
+        writer.join();
+
+        assertEquals(List.of("p0 : 1999", "p1 : 1999", "p10 : 1999"),
+                board.getTopScores(3));
+    }
+}
@@ -0,0 +1,64 @@
+package pacman.score;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class ScoreBoardTest {
+    private ScoreBoard board;
+
+    @Before
+    public void setUp() {
+        board = new ScoreBoard();
+    }
+
+    @Test
+    public void setScoreValidatesName() {
+        board.setScore("Fred", 100);
+        board.setScore("fred2", 20);
+        board.setScore("@@@@", 7);
+        board.setScore("with space", 7);
+        board.setScore("", 7);
+        assertEquals(List.of("Fred : 100", "fred2 : 20"),
+                board.getEntriesByName());
+    }
+
+    @Test
+    public void importScores() throws IOException {
+        var input = "; comment\n"
+                + "A : 0\n"
+                + "  B:5  \r\n"
+                + "\n"
+                + "C : 100\n"
+                + "bad name : 4\n"
+                + "D : -3\n"
+                + "E : 1:2\n"
+                + "F : 99999999999\n"
+                + "G :\n"
+                + "A : 7";
+
+        assertEquals(4, board.importScores(new StringReader(input)));
+        assertEquals(List.of("A : 7", "B : 5", "C : 100"),
+                board.getEntriesByName());
+    }
+
+    @Test
+    public void importScoresLongerThanBuffer() throws IOException {
+        var input = new StringBuilder();
+        for (int i = 0; i < 5000; i++) {
+            input.append("player").append(i).append(" : ").append(i)
+                    .append('\n');
+        }
+        input.append("x".repeat(20000)).append(" : 1");
+
+        assertEquals(5001, board.importScores(
+                new StringReader(input.toString())));
+        assertEquals("x".repeat(20000) + " : 1",
+                board.getEntriesByName().get(5000));
+    }
+}
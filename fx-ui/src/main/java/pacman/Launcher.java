@@ -0,0 +1,96 @@
+package pacman;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import javafx.application.Application;
+import javafx.application.Platform;
+import javafx.scene.control.Alert;
+import javafx.scene.control.ButtonType;
+import javafx.stage.Stage;
+import pacman.display.MainView;
+import pacman.display.MainViewModel;
+import pacman.game.GameReader;
+import pacman.game.PacmanGame;
+import pacman.util.UnpackableException;
+
+/**
+ * Main entry point for the CSSE2002/7023 PacMan Game.
+ * @given
+ */
+public class Launcher extends Application {
+
+    /**
+     * CSSE2002/7023 Pacman
+     *
+     * Arguments: [FILENAME]
+     * @param args from the command line.
+     * @given
+     */
+    public static void main(final String... args) {
+        if (args.length != 2) {
+            System.out.println("Usage: [MAP FILENAME] [SAVE FILENAME]");
+            System.exit(1);
+        }
+        Application.launch(Launcher.class, args);
+    }
+
+    /**
+     * Runs the main gui with the parameters passed via the commandline
+     * @param theStage to render to.
+     * @throws UnpackableException when file is invalid.
+     * @throws IOException when unable to read from file.
+     * @given
+     */
+    @Override
+    public void start(Stage theStage) throws UnpackableException, IOException {
+        theStage.setResizable(false);
+        var params = getParameters().getRaw();
+
+        var map = Path.of(params.get(0));
+        PacmanGame model;
+        try {
+            model = GameReader.read(map, false);
+        } catch (UnpackableException e) {
+            model = askToPrune(map, e);
+        } catch (IOException e) {
+            System.err.println(e.toString());
+            model = null;
+        }
+        if (model == null) {
+            Platform.exit();
+            return;
+        }
+
+        var view = new MainView(theStage,
+                new MainViewModel(model, params.get(1)));
+        view.run();
+    }
+
+    /*
+     * Tells the player why the map was refused. If walling in the dots
+     * the hunter cannot reach would make it playable, asks whether to do
+     * so, as the walls are kept when the game is saved. Returns the
+     * pruned game, or null if the map is not played.
+     */
+    private static PacmanGame askToPrune(Path map, UnpackableException e)
+            throws IOException {
+        PacmanGame pruned;
+        try {
+            pruned = GameReader.read(map, true);
+        } catch (UnpackableException notDots) {
+            new Alert(Alert.AlertType.ERROR, e.getMessage()).showAndWait();
+            return null;
+        }
+
+        var ask = new Alert(Alert.AlertType.CONFIRMATION, e.getMessage()
+                + ". Wall them in and play? The walls are kept if the "
+                + "game is saved.", ButtonType.YES, ButtonType.NO);
+        ask.setHeaderText(map.getFileName() + " cannot be cleared");
+        if (ask.showAndWait().orElse(ButtonType.NO) != ButtonType.YES) {
+            return null;
+        }
+        System.err.println(map + ": " + e.getMessage()
+                + ", walled in at the player's request");
+        return pruned;
+    }
+}
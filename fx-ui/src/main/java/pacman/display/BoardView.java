@@ -0,0 +1,300 @@
+package pacman.display;
+
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.layout.Pane;
+import javafx.scene.layout.StackPane;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.ArcType;
+import javafx.scene.text.Font;
+import pacman.board.PacmanBoard;
+import pacman.util.Direction;
+import pacman.util.Position;
+
+/**
+ * View representation of the Games playable area.
+ * 
+ * @given
+ */
+public class BoardView {
+
+    // canvas
+    private static final int CANVAS_WIDTH = 840;
+    private static final int CANVAS_HEIGHT = 640;
+    private static final int BLOCK_SIZE = 24;
+
+    // dots
+    private static final int DOT_SIZE = 4;
+    private static final int BIG_DOT_SIZE = DOT_SIZE * 3;
+
+    // Lives
+    private static final int LIVES_SIZE = 24;
+    private static final int LIVES_X_LOC = 30;
+    private static final int LIVES_Y_LOC = CANVAS_HEIGHT - 20 - LIVES_SIZE;
+    private static final int LIVES_GAP = 10;
+
+    // Level
+    private static final int LEVEL_X_LOC = 650;
+
+    // Pacman
+    private static final int PACMAN_ARC_START = 30;
+    private static final int PACMAN_ARC_STOP = 360 - PACMAN_ARC_START * 2;
+
+
+    // colours
+    private static final Color BACKGROUND_COLOUR = Color.web("#00033D");
+    private static final Color WALL_COLOUR = Color.web("#3A3770");
+    private static final Color GHOST_SPAWN_COLOUR = Color.web("#AA3770");
+
+
+    private BoardViewModel viewModel;
+    private Pane mainPane;
+    // background, walls and ghost spawn, drawn once per level
+    private Canvas staticLayer;
+    // dots and big dots, redrawn a cell at a time as they are eaten
+    private Canvas dotLayer;
+    // lives, level and entities, redrawn every frame
+    private Canvas entityLayer;
+    // pre-rendered pacman and ghost images
+    private SpriteAtlas sprites;
+    // cells that pacman then each ghost were drawn on in the last frame
+    private Position[] entityCells;
+    // lives and level shown in the last frame
+    private int drawnLives = -1;
+    private int drawnLevel = -1;
+    // number of draw calls made by the last redraw
+    private int drawCalls;
+
+    /**
+     * Construct a View that displays the graphical board stored in
+     * the given viewModel.
+     * @param viewModel the mode to display in the view.
+     * @given
+     */
+    public BoardView(BoardViewModel viewModel) {
+        this.viewModel = viewModel;
+
+        mainPane = new StackPane();
+        staticLayer = new Canvas(CANVAS_WIDTH, CANVAS_HEIGHT);
+        dotLayer = new Canvas(CANVAS_WIDTH, CANVAS_HEIGHT);
+        entityLayer = new Canvas(CANVAS_WIDTH, CANVAS_HEIGHT);
+
+        mainPane.getChildren().addAll(staticLayer, dotLayer, entityLayer);
+
+        entityCells = new Position[viewModel.getGhostCount() + 1];
+        sprites = new SpriteAtlas(BLOCK_SIZE, PACMAN_ARC_START);
+        for (var colour : viewModel.getGhostColours()) {
+            sprites.getGhost(colour);
+        }
+        for (var direction : Direction.values()) {
+            int arcStart = BoardViewModel.mouthAngle(direction);
+            sprites.getPacman(BoardViewModel.PACMAN_COLOUR, arcStart);
+            sprites.getPacman(BoardViewModel.PACMAN_SPECIAL_COLOUR, arcStart);
+        }
+    }
+
+    /**
+     * Gets the main entry point for this View.
+     * @return the root pane for the view.
+     * @given
+     */
+    public Pane getPane() {
+        return this.mainPane;
+    }
+
+    /**
+     * Gets the number of fill, clear and image draw calls made on the
+     * canvases by the last call to {@link #redraw()}.
+     * @return draw calls made by the last redraw.
+     */
+    public int getDrawCalls() {
+        return drawCalls;
+    }
+
+    /**
+     * Redraws the the board play area.
+     *
+     * The play area is drawn on three stacked layers. The walls and ghost
+     * spawn are only drawn on the first redraw and after the board is
+     * reset, as they do not change during a level. Dots are only redrawn
+     * in the cells that changed since the last redraw. Entities are
+     * cleared from the cells they were drawn on and drawn again when the
+     * view model reports them changed, each with a single pre-rendered
+     * image.
+     * @given
+     */
+    public void redraw() {
+        var event = new FrameRenderEvent();
+        event.begin();
+        drawCalls = 0;
+
+        var offset = new Position(
+                (CANVAS_WIDTH - (viewModel.getBoard().getWidth() * BLOCK_SIZE))
+                        / 2,
+                ((CANVAS_HEIGHT - 30) - (viewModel.getBoard().getHeight()
+                        * BLOCK_SIZE)) / 2);
+        var dirty = viewModel.getDirtyCells();
+        var board = viewModel.getBoard();
+
+        var dots = dotLayer.getGraphicsContext2D();
+        boolean fullRepaint = dirty.isAllDirty();
+        if (fullRepaint) {
+            drawStatic(staticLayer.getGraphicsContext2D(), offset);
+            dots.clearRect(0, 0, CANVAS_WIDTH, CANVAS_HEIGHT);
+            drawCalls++;
+            for (int x = 0; x < board.getWidth(); x++) {
+                for (int y = 0; y < board.getHeight(); y++) {
+                    drawDot(dots, board, offset, x, y);
+                }
+            }
+        } else {
+            dirty.forEach((x, y) -> {
+                clearCell(dots, offset, x, y);
+                drawDot(dots, board, offset, x, y);
+            });
+        }
+        dirty.clear();
+
+        var context = entityLayer.getGraphicsContext2D();
+        if (!viewModel.takeEntitiesChanged()) {
+            event.finish(fullRepaint, drawCalls);
+            return;
+        }
+        if (drawnLives != viewModel.getLives()
+                || drawnLevel != viewModel.getLevel()) {
+            context.clearRect(0, 0, CANVAS_WIDTH, CANVAS_HEIGHT);
+            drawCalls++;
+            drawLives(context);
+            drawLevel(context);
+            drawnLives = viewModel.getLives();
+            drawnLevel = viewModel.getLevel();
+        } else {
+            for (var cell : entityCells) {
+                if (cell != null) {
+                    clearCell(context, offset, cell.getX(), cell.getY());
+                }
+            }
+        }
+
+        var pacman = viewModel.getPacmanPosition();
+        drawSprite(context, offset, pacman,
+                sprites.getPacman(viewModel.getPacmanColour(),
+                        viewModel.getPacmanMouthAngle()));
+        entityCells[0] = pacman;
+        for (int i = 0; i < viewModel.getGhostCount(); i++) {
+            var ghost = viewModel.getGhostPosition(i);
+            drawSprite(context, offset, ghost,
+                    sprites.getGhost(viewModel.getGhostColour(i)));
+            entityCells[i + 1] = ghost;
+        }
+
+        event.finish(fullRepaint, drawCalls);
+    }
+
+    /*
+     * Draws the background, walls and ghost spawn of the board on the
+     * given context applying the offset given to each point.
+     */
+    private void drawStatic(GraphicsContext gc, Position offset) {
+        gc.setFill(BACKGROUND_COLOUR);
+        gc.fillRect(0, 0, CANVAS_WIDTH, CANVAS_HEIGHT);
+        drawCalls++;
+
+        var board = viewModel.getBoard();
+        for (int x = 0; x < board.getWidth(); x++) {
+            for (int y = 0; y < board.getHeight(); y++) {
+                var point = new Position(x, y).multiply(BLOCK_SIZE)
+                        .add(offset);
+
+                switch (board.getEntry(new Position(x, y))) {
+                    case WALL:
+                        gc.setFill(WALL_COLOUR);
+                        gc.fillRect(point.getX(), point.getY(), BLOCK_SIZE,
+                                BLOCK_SIZE);
+                        drawCalls++;
+                        break;
+                    case GHOST_SPAWN:
+                        gc.setFill(GHOST_SPAWN_COLOUR);
+                        gc.fillRect(point.getX(), point.getY(), BLOCK_SIZE,
+                                BLOCK_SIZE);
+                        drawCalls++;
+                        break;
+                }
+            }
+        }
+    }
+
+    /*
+     * Draws the lives remaining of the player using the given context.
+     */
+    private void drawLives(GraphicsContext gc) {
+        gc.setFill(Color.YELLOW);
+        for (int i = 0; i < viewModel.getLives(); i++) {
+            gc.fillArc(LIVES_X_LOC + i * (LIVES_SIZE + LIVES_GAP), LIVES_Y_LOC,
+                    LIVES_SIZE, LIVES_SIZE, PACMAN_ARC_START, PACMAN_ARC_STOP,
+                    ArcType.ROUND);
+            drawCalls++;
+        }
+    }
+
+    /*
+     * Draws the level splash on the screen using the given context.
+     */
+    private void drawLevel(GraphicsContext gc) {
+        gc.setFill(Color.WHITE);
+        gc.setFont(new Font(32));
+        gc.fillText(String.format("Level %d", viewModel.getLevel()),
+                LEVEL_X_LOC, LIVES_Y_LOC + 20);
+        drawCalls++;
+    }
+
+    /*
+     * Clears the cell at (x, y) of the given transparent layer.
+     */
+    private void clearCell(GraphicsContext gc, Position offset, int x,
+            int y) {
+        gc.clearRect(offset.getX() + x * BLOCK_SIZE,
+                offset.getY() + y * BLOCK_SIZE, BLOCK_SIZE, BLOCK_SIZE);
+        drawCalls++;
+    }
+
+    /*
+     * Draws the dot or big dot at (x, y) of the board, if there is one, on
+     * the given context applying the offset given to the point.
+     */
+    private void drawDot(GraphicsContext gc, PacmanBoard board,
+            Position offset, int x, int y) {
+        int pointX = offset.getX() + x * BLOCK_SIZE;
+        int pointY = offset.getY() + y * BLOCK_SIZE;
+
+        switch (board.getEntry(new Position(x, y))) {
+            case DOT:
+                gc.setFill(Color.YELLOW);
+                gc.fillRect(pointX + (BLOCK_SIZE - DOT_SIZE) / 2,
+                        pointY + (BLOCK_SIZE - DOT_SIZE) / 2,
+                        DOT_SIZE, DOT_SIZE);
+                drawCalls++;
+                break;
+            case BIG_DOT:
+                gc.setFill(Color.YELLOW);
+                gc.fillRoundRect(
+                        pointX + (BLOCK_SIZE - BIG_DOT_SIZE) / 2,
+                        pointY + (BLOCK_SIZE - BIG_DOT_SIZE) / 2,
+                        BIG_DOT_SIZE, BIG_DOT_SIZE, 16, 16);
+                drawCalls++;
+                break;
+        }
+    }
+
+    /*
+     * Draws a pre-rendered entity image in the cell at the given board
+     * position applying the given offset.
+     */
+    private void drawSprite(GraphicsContext gc, Position offset,
+            Position cell, Image sprite) {
+        gc.drawImage(sprite, offset.getX() + cell.getX() * BLOCK_SIZE,
+                offset.getY() + cell.getY() * BLOCK_SIZE);
+        drawCalls++;
+    }
+}
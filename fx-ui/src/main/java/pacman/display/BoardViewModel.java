@@ -0,0 +1,329 @@
+package pacman.display;
+
+import javafx.util.Pair;
+import pacman.board.BoardItem;
+import pacman.board.DirtyCells;
+import pacman.board.PacmanBoard;
+import pacman.game.Entity;
+import pacman.game.GameListener;
+import pacman.game.GameSnapshot;
+import pacman.game.PacmanGame;
+import pacman.ghost.*;
+import pacman.util.Direction;
+import pacman.util.Position;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * BoardViewModel is the intermediary between BoardView and the PacmanGame.
+ *
+ * While it reads the game directly it listens to the game's events, which
+ * mark the changed cells dirty and the hunter and ghosts as changed. Once
+ * frames are presented it learns of both from the frames instead.
+ */
+public class BoardViewModel {
+    // colours of the hunter and of frightened ghosts
+    static final String PACMAN_COLOUR = "#FFE709";
+    static final String PACMAN_SPECIAL_COLOUR = "#CDC3FF";
+    static final String FRIGHTENED_COLOUR = "#0000FF";
+
+    private PacmanGame model;
+    private DirtyCells dirtyCells;
+    // the game's ghosts, which never change for the life of a game
+    private List<Ghost> ghosts;
+    // latest frame from the game loop, or null to read the game directly
+    private GameSnapshot frame;
+    // whether the hunter, ghosts, lives or level changed since the view
+    // last took the flag
+    private boolean entitiesChanged = true;
+    // hunter direction and special when the flag was last taken, as
+    // turning and activating the special send no event
+    private Direction takenDirection;
+    private boolean takenSpecial;
+    // marks what changed, registered with the game until it is followed
+    private final GameListener listener = new GameListener() {
+        @Override
+        public void entryChanged(Position position, BoardItem item) {
+            dirtyCells.entryChanged(position, item);
+        }
+
+        @Override
+        public void boardReset() {
+            dirtyCells.boardReset();
+        }
+
+        @Override
+        public void entityMoved(Entity entity, Position from) {
+            entitiesChanged = true;
+        }
+
+        @Override
+        public void phaseChanged(Ghost ghost) {
+            entitiesChanged = true;
+        }
+
+        @Override
+        public void levelChanged(int level) {
+            entitiesChanged = true;
+        }
+
+        @Override
+        public void livesChanged(int hunter, int lives) {
+            entitiesChanged = true;
+        }
+    };
+
+    /**
+     * Constructs a new BoardViewModel to model the given PacmanGame.
+     * @param model - the game to be played.
+     */
+    public BoardViewModel(PacmanGame model) {
+        this.model = model;
+        this.dirtyCells = new DirtyCells(model.getBoard().getWidth(),
+                model.getBoard().getHeight());
+        this.ghosts = model.getGhosts();
+        model.addListener(listener);
+    }
+
+    /**
+     * Stops listening to the game, as it is now changed on the game
+     * loop's thread. Called before the first frame is presented.
+     */
+    void follow() {
+        model.removeListener(listener);
+    }
+
+    /**
+     * Shows the given frame instead of the live game. Once a frame has
+     * been presented every getter reads from the latest frame, which lets
+     * the game tick on another thread. The frame's changed cells are added
+     * to the dirty cells, and the entities are marked as changed if they
+     * differ from the previous frame.
+     *
+     * @param frame the latest snapshot of the game.
+     */
+    void present(GameSnapshot frame) {
+        if (this.frame == null || !sameEntities(this.frame, frame)) {
+            entitiesChanged = true;
+        }
+        this.frame = frame;
+        dirtyCells.merge(frame.getChangedCells());
+    }
+
+    /*
+     * Returns whether the hunter, ghosts, lives and level of the two
+     * frames are the same.
+     */
+    private static boolean sameEntities(GameSnapshot a, GameSnapshot b) {
+        if (a.getLives() != b.getLives() || a.getLevel() != b.getLevel()
+                || !a.getHunterPosition().equals(b.getHunterPosition())
+                || a.getHunterDirection() != b.getHunterDirection()
+                || a.isHunterSpecialActive() != b.isHunterSpecialActive()) {
+            return false;
+        }
+        for (int i = 0; i < a.getGhostCount(); i++) {
+            if (!a.getGhostPosition(i).equals(b.getGhostPosition(i))
+                    || a.getGhostPhase(i) != b.getGhostPhase(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns whether the hunter, ghosts, lives or level have changed
+     * since this was last called, so the view can skip redrawing them.
+     * True on the first call.
+     * @return true if the entities must be redrawn.
+     */
+    public boolean takeEntitiesChanged() {
+        if (frame == null) {
+            var hunter = model.getHunter();
+            if (hunter.getDirection() != takenDirection
+                    || hunter.isSpecialActive() != takenSpecial) {
+                entitiesChanged = true;
+            }
+            takenDirection = hunter.getDirection();
+            takenSpecial = hunter.isSpecialActive();
+        }
+        boolean changed = entitiesChanged;
+        entitiesChanged = false;
+        return changed;
+    }
+
+    /**
+     * Returns the number of lives left for the player in the game.
+     * @return the number of lives.
+     */
+    public int getLives() {
+        if (frame != null) {
+            return frame.getLives();
+        }
+        return model.getLives();
+    }
+
+    /**
+     * Returns the current level that the player is on.
+     * @return the current level of the game.
+     */
+    public int getLevel() {
+        if (frame != null) {
+            return frame.getLevel();
+        }
+        return model.getLevel();
+    }
+
+    /**
+     * Returns a colour string to represent how the hunter should be displayed.
+     * If game's hunter special is active it should return "#CDC3FF",
+     * otherwise return "#FFE709".
+     * @return the colour associated with the game's hunter.
+     */
+    public String getPacmanColour() {
+        boolean special = frame != null ? frame.isHunterSpecialActive()
+                : model.getHunter().isSpecialActive();
+        if (special) {
+            return PACMAN_SPECIAL_COLOUR;
+        } else {
+            return PACMAN_COLOUR;
+        }
+    }
+
+    /**
+     * Returns the starting angle of the mouth arc of the pacman
+     * depending on its direction.
+     * If the hunter's direction is RIGHT, return 30.
+     * If the hunter's direction if UP, return 120.
+     * If the hunter's direction is LEFT, return 210.
+     * If the hunter's direction is DOWN, return 300.
+     * @return the angle based on the direction of the game's hunter.
+     */
+    public int getPacmanMouthAngle() {
+        if (frame != null) {
+            return mouthAngle(frame.getHunterDirection());
+        }
+        return mouthAngle(model.getHunter().getDirection());
+    }
+
+    /*
+     * Returns the starting angle of the mouth arc of a pacman facing in
+     * the given direction, see getPacmanMouthAngle.
+     */
+    static int mouthAngle(Direction direction) {
+        if (direction == Direction.RIGHT) {
+            return 30;
+        }
+        else if (direction == Direction.UP) {
+            return 120;
+        }
+        else if (direction == Direction.LEFT) {
+            return 210;
+        }
+        else if (direction == Direction.DOWN) {
+            return 300;
+        }
+        return 0;
+    }
+
+    /**
+     * Returns the current position of the game's hunter.
+     * @return the position of the hunter.
+     */
+    public Position getPacmanPosition() {
+        if (frame != null) {
+            return frame.getHunterPosition();
+        }
+        return model.getHunter().getPosition();
+    }
+
+    /**
+     * Returns the board associated with the game.
+     * @return the game board
+     */
+    public PacmanBoard getBoard() {
+        if (frame != null) {
+            return frame.getBoard();
+        }
+        return model.getBoard();
+    }
+
+    /**
+     * Returns the cells of the board that have changed since the view
+     * last cleared them. Every cell is dirty until the first redraw and
+     * after the board is reset.
+     * @return the dirty cells of the game board.
+     */
+    public DirtyCells getDirtyCells() {
+        return dirtyCells;
+    }
+
+    /**
+     * Returns the positions and colours of the ghosts in the game.
+     * Each ghost should be represented as a Pair(position, colour),
+     * where position is their current position on the board,
+     * and colour is their colour.
+     * The ghost's colour should be given be by Ghost.getColour().
+     * However, if the ghost's phase is FRIGHTENED,
+     * this colour should instead be "#0000FF".
+     * @return a list of Pair<position,colour>
+     *     representing the ghosts in the game,
+     *     in no particular order
+     */
+    public List<Pair<Position,String>> getGhosts() {
+        List<Pair<Position, String>> ghostPairList = new ArrayList<>();
+        for (int i = 0; i < getGhostCount(); i++) {
+            ghostPairList.add(
+                    new Pair<>(getGhostPosition(i), getGhostColour(i)));
+        }
+        return ghostPairList;
+    }
+
+    /**
+     * Returns the number of ghosts in the game.
+     * @return the number of ghosts.
+     */
+    public int getGhostCount() {
+        return ghosts.size();
+    }
+
+    /**
+     * Returns the current position of the i-th ghost in the game.
+     * @param i index of the ghost, 0 &lt;= i &lt; getGhostCount().
+     * @return the position of the ghost.
+     */
+    public Position getGhostPosition(int i) {
+        if (frame != null) {
+            return frame.getGhostPosition(i);
+        }
+        return ghosts.get(i).getPosition();
+    }
+
+    /**
+     * Returns the colour of the i-th ghost in the game. This is the
+     * ghost's colour given by Ghost.getColour(), unless its phase is
+     * FRIGHTENED in which case it is "#0000FF".
+     * @param i index of the ghost, 0 &lt;= i &lt; getGhostCount().
+     * @return the colour of the ghost.
+     */
+    public String getGhostColour(int i) {
+        var ghost = ghosts.get(i);
+        var phase = frame != null ? frame.getGhostPhase(i) : ghost.getPhase();
+        if (phase == Phase.FRIGHTENED) {
+            return FRIGHTENED_COLOUR;
+        }
+        return ghost.getColour();
+    }
+
+    /**
+     * Returns every colour a ghost in the game can be drawn in.
+     * @return each ghost's own colour followed by the frightened colour.
+     */
+    public List<String> getGhostColours() {
+        List<String> colours = new ArrayList<>();
+        for (var ghost : ghosts) {
+            colours.add(ghost.getColour());
+        }
+        colours.add(FRIGHTENED_COLOUR);
+        return colours;
+    }
+}
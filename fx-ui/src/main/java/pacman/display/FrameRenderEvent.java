@@ -0,0 +1,41 @@
+package pacman.display;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A flight recorder event spanning one {@link BoardView#redraw()}, so slow
+ * frames can be lined up with ticks and GC pauses in a recording.
+ */
+@Name("pacman.FrameRender")
+@Label("Frame Render")
+@Category({"Pacman", "Display"})
+@Description("The board view was redrawn")
+@StackTrace(false)
+class FrameRenderEvent extends jdk.jfr.Event {
+
+    @Label("Full Repaint")
+    @Description("Whether every cell of the board was repainted")
+    boolean fullRepaint;
+
+    @Label("Draw Calls")
+    int drawCalls;
+
+    /**
+     * Ends the event and records it if enabled.
+     *
+     * @param fullRepaint whether every cell was repainted.
+     * @param drawCalls made during the redraw.
+     */
+    void finish(boolean fullRepaint, int drawCalls) {
+        end();
+        if (shouldCommit()) {
+            this.fullRepaint = fullRepaint;
+            this.drawCalls = drawCalls;
+            commit();
+        }
+    }
+}
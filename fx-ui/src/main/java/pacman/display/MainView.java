@@ -1,6 +1,5 @@
 package pacman.display;
 
-import java.util.LinkedList;
 import javafx.animation.AnimationTimer;
 import javafx.geometry.Pos;
 import javafx.scene.Group;
@@ -33,8 +32,6 @@ public class MainView {
     // jfx stages
     private Stage root;
     private Group rootGroup;
-    // button press action queue
-    private LinkedList<String> input;
 
     /**
      * MainView of the Pacman Game made for CSSE2002 at UQ.
@@ -58,13 +55,11 @@ public class MainView {
         Scene rootScene = new Scene(rootGroup);
         rootScene.getStylesheets().add("style.css");
         root.setScene(rootScene);
-        // enable the event handlers
-        input = new LinkedList<>();
-
-        // This grabs key presses and adds it to the queue
+        // This grabs key presses and hands them to the game, which queues
+        // them until its next tick
         rootScene.setOnKeyPressed(event -> {
             String code = event.getCode().toString();
-            input.push(code);
+            viewModel.accept(code);
         });
 
         boardView = new BoardView(viewModel.getBoardVM());
@@ -92,23 +87,23 @@ public class MainView {
     }
 
     /**
-     * Ticks and updates the game though the ViewModel. Also
-     * applies queued user input.
+     * Starts the game ticking on its own thread and draws the frames it
+     * publishes. The view is only updated and redrawn when a new frame is
+     * available.
      * @given
      */
     public void run() {
+        viewModel.update();
+        boardView.redraw();
+        viewModel.startSimulation();
+
         new AnimationTimer() {
 
             public void handle(long currentNanoTime) {
-                while (!input.isEmpty()) {
-                    var key = input.pop();
-                    viewModel.accept(key);
+                if (viewModel.present()) {
+                    viewModel.update();
                     boardView.redraw();
                 }
-                viewModel.tick();
-                viewModel.update();
-                boardView.redraw();
-
             }
         }.start();
 
@@ -4,20 +4,23 @@ import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.SimpleBooleanProperty;
 import javafx.beans.property.SimpleStringProperty;
 import javafx.beans.property.StringProperty;
+import pacman.game.Command;
+import pacman.game.GameLoop;
 import pacman.game.GameWriter;
 import pacman.game.PacmanGame;
 import java.io.BufferedWriter;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.io.Writer;
-
-import static pacman.hunter.Hunter.SPECIAL_DURATION;
-import static pacman.util.Direction.*;
+import java.util.function.Consumer;
 
 /**
  * Used as an intermediary between the game and the MainView.
  */
 public class MainViewModel {
+    // most model ticks made at once by the loop when catching up
+    private static final int MAX_TICKS_PER_FRAME = 5;
+
     private PacmanGame model;
     private ScoreViewModel scoreViewModel;
     private BoardViewModel boardViewModel;
@@ -25,7 +28,8 @@ public class MainViewModel {
     private final BooleanProperty isGameOver = new SimpleBooleanProperty();
     private final BooleanProperty isPaused = new SimpleBooleanProperty();
     private String saveFilename;
-    private int tick;
+    // ticks the model on its own thread once the simulation is started
+    private GameLoop loop;
 
     /**
      * Creates a MainViewModel and updates the properties
@@ -43,7 +47,6 @@ public class MainViewModel {
         this.isPaused.set(true);
         this.isGameOver.set(false);
         this.saveFilename = saveFilename;
-        tick = 0;
     }
 
     /**
@@ -81,71 +84,60 @@ public class MainViewModel {
      * and should be ignored.
      */
     public void save() {
-        try {
-            Writer writer = new BufferedWriter(
-                    new FileWriter(saveFilename));
-            GameWriter.write(writer, model);
-            writer.close();
-        } catch (IOException e) { //ignored
+        apply(game -> {
+            try {
+                Writer writer = new BufferedWriter(
+                        new FileWriter(saveFilename));
+                GameWriter.write(writer, game);
+                writer.close();
+            } catch (IOException e) { //ignored
+            }
+        });
+    }
+
+    /**
+     * Moves ticking the model to its own thread so that slow ticks do not
+     * drop frames. From then on the model is only changed on that thread:
+     * input and saving are handed to it, and the view shows the snapshots
+     * it publishes, see {@link #present()}. This is the only way the
+     * model is ticked: the loop's {@link pacman.game.GameClock} decides
+     * when, by the time elapsed and the level of the game.
+     */
+    public void startSimulation() {
+        if (loop != null) {
+            return;
         }
+
+        // the game is now changed on the loop thread, so the board view
+        // model learns of changes from each frame instead
+        boardViewModel.follow();
+
+        loop = new GameLoop(model, MAX_TICKS_PER_FRAME);
+        loop.setPaused(isPaused.get());
+        isPaused.addListener((observable, was, paused) ->
+                loop.setPaused(paused));
+        scoreViewModel.follow(loop);
+        loop.start();
     }
 
     /**
-     * Tick is to be called by the view at around 60 times a second.
-     * This method will pass these ticks down to the model at a reduced rate
-     * depending on the level of the game. The game starts with zero ticks.
-     * If the game is not paused:
-     *
-     * · Check if the current tick count is integer-divisible by
-     *   the delay specified for the current level.
-     *   If it is integer-divisible:
-     *      · Tick the model. See PacmanGame.tick()
-     * · Increment the tick count by 1.
-     * Finally, update the "game over" property to be true
-     * if the player currently has 0 lives left, and false otherwise.
-     * This should be done regardless of whether or not the game is paused.
+     * Hands the latest frame published by the simulation to the score
+     * and board view models, and updates the "game over" property from
+     * it. Called by the view once per frame after the simulation has
+     * been started.
      *
-     *    Delays
-     * levels	delay
-     * 0,1	    50
-     * 2,3	    40
-     * 4,5	    30
-     * 6,7,8	20
-     * other	10
+     * @return true if there was a new frame to show, false otherwise.
      */
-    public void tick() {
-        if (!this.isPaused.get()) {
-            if (model.getLevel() == 0 || model.getLevel() == 1) {
-                if (tick % 50 == 0) { //check is integer-divisible
-                    model.tick();
-                }
-            }
-            else if (model.getLevel() == 2 || model.getLevel() == 3) {
-                if (tick % 40 == 0) {//check is integer-divisible
-                    model.tick();
-                }
-            }
-            else if (model.getLevel() == 4 || model.getLevel() == 5) {
-                if (tick % 30 == 0) {//check is integer-divisible
-                    model.tick();
-                }
-            }
-            else if (model.getLevel() == 6 || model.getLevel() == 7
-                    || model.getLevel() == 8) {
-                if (tick % 20 == 0) {//check is integer-divisible
-                    model.tick();
-                }
-            }
-            else if (model.getLevel() > 8 ) {//check other level cases
-                if (tick % 10 == 0) {//check is integer-divisible
-                    model.tick();
-                }
-            }
-            tick ++;
+    public boolean present() {
+        var frame = loop.poll();
+        if (frame == null) {
+            return false;
         }
-        if (model.getLives() == 0) {
-            this.isGameOver.set(true);
-        } else {this.isGameOver.set(false);}
+
+        boardViewModel.present(frame);
+        scoreViewModel.present(frame);
+        this.isGameOver.set(frame.getLives() == 0);
+        return true;
     }
 
     /**
@@ -164,49 +156,61 @@ public class MainViewModel {
      * @param input - incoming input from the view.
      */
     public void accept(String input) {
-        switch (input.toLowerCase()) {//set all input to lower case
-            case "p" :
-                if (this.isPaused.get()) {//check is Available
-                    this.isPaused.set(false);
-                } else {
-                    this.isPaused.set(true);
-                }
+        var command = Command.fromKey(input);
+        if (command != null) {
+            accept(command);
+        }
+    }
+
+    /**
+     * Accepts a command from the view, see {@link #accept(String)}.
+     *
+     * Once the simulation has started, hunter commands are queued and
+     * applied just before the next tick, with only the last direction
+     * given before a tick taking effect. If too many are waiting the
+     * command is dropped, see {@link #getDroppedInputs()}.
+     *
+     * @param command - the command given by the player.
+     */
+    public void accept(Command command) {
+        switch (command) {
+            case PAUSE:
+                this.isPaused.set(!this.isPaused.get());
                 break;
-            case "r" :
+            case RESET:
                 if (this.isPaused.get()) {//check is Available
-                    model.reset();
-                }
-                break;
-            case "a" :
-                if (!this.isPaused.get()) {//check is Available
-                    model.getHunter().setDirection(LEFT);
-                }
-                break;
-            case "d" :
-                if (!this.isPaused.get()) {//check is Available
-                    model.getHunter().setDirection(RIGHT);
-                }
-                break;
-            case "w" :
-                if (!this.isPaused.get()) {//check is Available
-                    model.getHunter().setDirection(UP);
+                    apply(command::apply);
                 }
                 break;
-            case "s" :
+            default:
                 if (!this.isPaused.get()) {//check is Available
-                    model.getHunter().setDirection(DOWN);
-                }
-                break;
-            case "o" :
-                if (!this.isPaused.get()) {//check is Available
-                    if (model.getHunter().getSpecialDurationRemaining() > 0) {
-                        model.getHunter().activateSpecial(
-                            model.getHunter().getSpecialDurationRemaining());
+                    if (loop != null) {
+                        loop.offer(command);
                     } else {
-                        model.getHunter().activateSpecial(SPECIAL_DURATION);
-                    }//check is available to active special when <= 0
+                        command.apply(model);
+                    }
                 }
-                break;
+        }
+    }
+
+    /**
+     * Gets the number of player commands dropped because too many were
+     * waiting for the next tick.
+     * @return the number of dropped commands.
+     */
+    public long getDroppedInputs() {
+        return loop == null ? 0 : loop.getDroppedInputs();
+    }
+
+    /*
+     * Makes a change to the model, on the simulation thread if it has
+     * been started or straight away otherwise.
+     */
+    private void apply(Consumer<PacmanGame> change) {
+        if (loop != null) {
+            loop.submit(change);
+        } else {
+            change.accept(model);
         }
     }
 
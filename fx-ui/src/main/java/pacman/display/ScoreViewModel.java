@@ -0,0 +1,265 @@
+package pacman.display;
+
+import javafx.beans.property.SimpleStringProperty;
+import javafx.beans.property.StringProperty;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import pacman.game.GameListener;
+import pacman.game.GameLoop;
+import pacman.game.GameSnapshot;
+import pacman.game.PacmanGame;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * ScoreViewModel is an intermediary between ScoreView and the PacmanGame.
+ * Used for displaying the player's score in the GUI.
+ *
+ * While it reads the game directly it listens to the game's events, so an
+ * update only reads the score board after the score or its entries have
+ * changed. Once it follows a {@link GameLoop} it reads the frames the loop
+ * publishes instead.
+ */
+public class ScoreViewModel {
+    // most entries moved, added or removed one at a time by an update
+    private static final int MAX_EDITS = 8;
+
+    private PacmanGame model;
+    private final StringProperty currentScoreProperty =
+            new SimpleStringProperty();
+    private final StringProperty sortedBy =
+            new SimpleStringProperty();
+    private ObservableList<String> getScores =
+            FXCollections.observableArrayList();
+    // loop ticking the game on another thread, or null
+    private GameLoop loop;
+    // latest frame from the loop, or null to read the game directly
+    private GameSnapshot frame;
+    // score shown by currentScoreProperty, or MIN_VALUE before the first
+    private long shownScore = Long.MIN_VALUE;
+    // modification count and order of the shown entries
+    private long shownVersion = -1;
+    private String shownOrder;
+    // whether the game's score or entries changed since the last update,
+    // only used while reading the game directly
+    private boolean scoreChanged = true;
+    private boolean entriesChanged = true;
+    // marks what changed, registered with the game until it is followed
+    private final GameListener listener = new GameListener() {
+        @Override
+        public void scoreChanged(int score) {
+            scoreChanged = true;
+        }
+
+        @Override
+        public void entriesChanged() {
+            entriesChanged = true;
+        }
+    };
+
+    /**
+     * Creates a new ScoreViewModel and updates its properties.
+     * The default ordering of the scores should be by name.
+     * @param model - the PacmanGame to link to the view.
+     */
+    public ScoreViewModel(PacmanGame model) {
+        this.model = model;
+        sortedBy.set("Sorted by Name");
+        model.addListener(listener);
+    }
+
+    /**
+     * Hands changes to the game's scores to the given loop instead of
+     * making them directly, as the loop's thread owns the game.
+     * @param loop - the loop ticking the game.
+     */
+    void follow(GameLoop loop) {
+        this.loop = loop;
+        // the loop's thread sends the events from now on
+        model.removeListener(listener);
+    }
+
+    /**
+     * Reads scores from the given frame instead of the live game on the
+     * next update.
+     * @param frame - the latest snapshot of the game.
+     */
+    void present(GameSnapshot frame) {
+        this.frame = frame;
+    }
+
+    /**
+     * Updates the properties containing the current score,
+     * the sort order of the scoreboard and the list of sorted scores.
+     *
+     * The format for the current score property should be
+     * "Score: [currentScore]" without quotes or brackets,
+     * where currentScore is the value returned by ScoreBoard.getScore().
+     *
+     * The sort order property should be set to either
+     * "Sorted by Name" or "Sorted by Score",
+     * depending on the current score sort order.
+     *
+     * Finally, the property representing the list of scores should be
+     * updated to contain a list of scores sorted
+     * according to the current score sort order,
+     * as returned by ScoreBoard.getEntriesByName()
+     * and ScoreBoard.getEntriesByScore().
+     *
+     * Properties are only set when their value changes, and the list of
+     * scores is only updated when the score board's entries or the sort
+     * order have changed since the last update. The list is then changed
+     * in place by removing, moving and adding entries so that listeners
+     * see only what differs.
+     */
+    public void update() {
+        if (frame != null || scoreChanged) {
+            int score = getCurrentScore();
+            if (score != shownScore) {
+                currentScoreProperty.set("Score: " + score);
+                shownScore = score;
+            }
+            scoreChanged = false;
+        }
+
+        String order = sortedBy.get();
+        if (frame != null) {
+            long version = frame.getEntriesVersion();
+            if (version == shownVersion && order.equals(shownOrder)) {
+                return;
+            }
+            shownVersion = version;
+        } else if (!entriesChanged && order.equals(shownOrder)) {
+            return;
+        }
+        entriesChanged = false;
+
+        if (order.equals("Sorted by Name")) {
+            applyEntries(frame != null ? frame.getEntriesByName()
+                    : model.getScores().getEntriesByName());
+        }//check to contain the sort order property set to "Sorted by Name"
+        else if (order.equals("Sorted by Score")) {
+            applyEntries(frame != null ? frame.getEntriesByScore()
+                    : model.getScores().getEntriesByScore());
+        }//check to contain the sort order property set to "Sorted by Score"
+        shownOrder = order;
+    }
+
+    /*
+     * Changes the scores list to equal entries, removing entries that are
+     * gone, then moving or adding entries into place. Entries are unique
+     * as each name has one score. When more than MAX_EDITS entries would
+     * change the whole list is replaced at once instead, so an update
+     * stays linear in the number of entries.
+     */
+    private void applyEntries(List<String> entries) {
+        Set<String> wanted = new HashSet<>(entries);
+        List<String> kept = new ArrayList<>(getScores.size());
+        for (var entry : getScores) {
+            if (wanted.contains(entry)) {
+                kept.add(entry);
+            }
+        }
+
+        int edits = getScores.size() - kept.size();
+        for (int i = 0; i < entries.size() && edits <= MAX_EDITS; i++) {
+            if (i >= kept.size() || !kept.get(i).equals(entries.get(i))) {
+                edits++;
+            }
+        }
+        if (edits > MAX_EDITS) {
+            getScores.setAll(entries);
+            return;
+        }
+
+        for (int i = getScores.size() - 1; i >= 0; i--) {
+            if (!wanted.contains(getScores.get(i))) {
+                getScores.remove(i);
+            }
+        }
+
+        Set<String> present = new HashSet<>(kept);
+        for (int i = 0; i < entries.size(); i++) {
+            var entry = entries.get(i);
+            if (i < getScores.size() && getScores.get(i).equals(entry)) {
+                continue;
+            }
+
+            if (present.contains(entry)) {
+                getScores.remove(getScores.indexOf(entry));
+            }
+            getScores.add(i, entry);
+        }
+    }
+
+    /**
+     * Changes the order in which player's scores are displayed.
+     * The possible orderings are by name or by score.
+     * Calling this method once should switch between these two orderings.
+     */
+    public void switchScoreOrder() {
+        if (sortedBy.get().equals("Sorted by Name")) {
+            sortedBy.set("Sorted by Score");
+        } else {
+            sortedBy.set("Sorted by Name");
+        }//check order and change the order if different
+    }
+
+    /**
+     * Returns the StringProperty containing the current score
+     * for the player.
+     * @return the property representing the current score.
+     */
+    public StringProperty getCurrentScoreProperty() {
+        return this.currentScoreProperty;
+    }
+
+    /**
+     * Returns the StringProperty of how
+     * the player's scores are displayed.
+     * @return StringProperty representing how
+     * the player's scores are displayed.
+     */
+    public StringProperty getSortedBy() {
+        return this.sortedBy;
+    }
+
+    /**
+     * Returns a list containing all "Name : Value" score entries
+     * in the game's ScoreBoard, sorted by the current sort order.
+     * @return the list of sorted scores.
+     */
+    public ObservableList<String> getScores() {
+        return getScores;
+    }
+
+    /**
+     * Returns the overall current score for the game.
+     * @return current score.
+     */
+    public int getCurrentScore() {
+        if (frame != null) {
+            return frame.getScore();
+        }
+        return model.getScores().getScore();
+    }
+
+    /**
+     * Sets the given player's score to score.
+     * This should override the score if it was previously set
+     * (even if new score is lower).
+     * Invalid player names should be ignored.
+     * @param player - the player
+     * @param score - the new score
+     */
+    public void setPlayerScore(String player, int score) {
+        if (loop != null) {
+            loop.submit(game -> game.getScores().setScore(player, score));
+        } else {
+            model.getScores().setScore(player,score);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,127 @@
+package pacman.display;
+
+import javafx.scene.SnapshotParameters;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.ArcType;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Pre-rendered images of the ghosts and pacman so that each entity can
+ * be drawn with a single drawImage call.
+ *
+ * Sprites are rendered the first time a colour (and mouth angle for
+ * pacman) is requested and reused afterwards. As rendering takes a
+ * snapshot of a canvas, sprites must be requested on the JavaFX
+ * application thread.
+ */
+public class SpriteAtlas {
+
+    // size of a sprite in pixels
+    private final int size;
+    // degrees of pacman's open mouth on either side of the mouth angle
+    private final int mouthAngle;
+    // ghost sprites by colour
+    private Map<String, Image> ghosts = new HashMap<>();
+    // pacman sprites by colour then mouth angle
+    private Map<String, Map<Integer, Image>> pacmen = new HashMap<>();
+    // renders sprites before they are snapshot into images
+    private Canvas canvas;
+    private SnapshotParameters parameters;
+
+    /**
+     * Creates an empty atlas of sprites of the given size.
+     *
+     * @param size width and height of each sprite in pixels.
+     * @param mouthAngle degrees pacman's mouth is open either side of its
+     *                   facing direction.
+     */
+    public SpriteAtlas(int size, int mouthAngle) {
+        this.size = size;
+        this.mouthAngle = mouthAngle;
+        this.canvas = new Canvas(size, size);
+        this.parameters = new SnapshotParameters();
+        this.parameters.setFill(Color.TRANSPARENT);
+    }
+
+    /**
+     * Gets the ghost sprite of the given colour.
+     *
+     * @param colour hex colour of the ghost body, e.g. "#d54e53".
+     * @return the ghost image.
+     */
+    public Image getGhost(String colour) {
+        var sprite = ghosts.get(colour);
+        if (sprite == null) {
+            sprite = renderGhost(Color.web(colour));
+            ghosts.put(colour, sprite);
+        }
+
+        return sprite;
+    }
+
+    /**
+     * Gets the pacman sprite of the given colour facing the given mouth
+     * angle.
+     *
+     * See {@link BoardViewModel#getPacmanMouthAngle()}
+     *
+     * @param colour hex colour of pacman, e.g. "#FFE709".
+     * @param arcStart start angle of pacman's body arc in degrees.
+     * @return the pacman image.
+     */
+    public Image getPacman(String colour, int arcStart) {
+        var byAngle = pacmen.computeIfAbsent(colour, key -> new HashMap<>());
+        var sprite = byAngle.get(arcStart);
+        if (sprite == null) {
+            sprite = renderPacman(Color.web(colour), arcStart);
+            byAngle.put(arcStart, sprite);
+        }
+
+        return sprite;
+    }
+
+    /*
+     * Renders a ghost body of the given colour.
+     */
+    private Image renderGhost(Color colour) {
+        var gc = clear();
+        gc.setFill(colour);
+        gc.fillOval(0, 0, size, size);
+        gc.fillRect(0, size / 2, size, size / 2);
+        gc.setFill(Color.WHITE);
+        gc.fillOval(4, size / 2, 6, 6);
+        gc.fillOval(size - 4 - 6, size / 2, 6, 6);
+        gc.setFill(Color.BLACK);
+        gc.fillOval(6, size / 2 + 3, 2, 2);
+        gc.fillOval(size - 6 - 2, size / 2 + 3, 2, 2);
+
+        return canvas.snapshot(parameters, null);
+    }
+
+    /*
+     * Renders pacman of the given colour with its body arc starting at
+     * the given angle.
+     */
+    private Image renderPacman(Color colour, int arcStart) {
+        var gc = clear();
+        gc.setFill(colour);
+        gc.fillArc(0, 0, size, size, arcStart, 360 - 2 * mouthAngle,
+                ArcType.ROUND);
+
+        return canvas.snapshot(parameters, null);
+    }
+
+    /*
+     * Clears the render canvas returning its context.
+     */
+    private GraphicsContext clear() {
+        var gc = canvas.getGraphicsContext2D();
+        gc.clearRect(0, 0, size, size);
+        return gc;
+    }
+}
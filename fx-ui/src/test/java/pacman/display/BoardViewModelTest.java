@@ -128,4 +128,32 @@ public class BoardViewModelTest {
         assertEquals("#0000FF", bVModel.getGhosts().get(2).getValue());
         assertEquals("#0000FF", bVModel.getGhosts().get(3).getValue());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void changesAreMarkedFromEvents() {
+        assertTrue(bVModel.takeEntitiesChanged());
+        assertFalse(bVModel.takeEntitiesChanged());
+
+        model.setLevel(2);
+        assertTrue(bVModel.takeEntitiesChanged());
+        assertFalse(bVModel.takeEntitiesChanged());
+
+        model.setGhostsFrightened();
+        assertTrue(bVModel.takeEntitiesChanged());
+
+        model.getHunter().setDirection(Direction.DOWN);
+        assertTrue(bVModel.takeEntitiesChanged());
+        assertFalse(bVModel.takeEntitiesChanged());
+
+        bVModel.getDirtyCells().clear();
+        model.getBoard().setEntry(new Position(3, 3), BoardItem.DOT);
+        assertFalse(bVModel.getDirtyCells().isClean());
+
+        bVModel.follow();
+        bVModel.getDirtyCells().clear();
+        model.setLevel(3);
+        model.getBoard().setEntry(new Position(3, 4), BoardItem.DOT);
+        assertFalse(bVModel.takeEntitiesChanged());
+        assertTrue(bVModel.getDirtyCells().isClean());
+    }
+}
@@ -1,11 +1,16 @@
 package pacman.display;
 
+import javafx.collections.ListChangeListener;
 import org.junit.Before;
 import org.junit.Test;
 import pacman.board.PacmanBoard;
 import pacman.game.PacmanGame;
 import pacman.hunter.Hungry;
 import pacman.hunter.Hunter;
+
+import java.util.ArrayList;
+import java.util.List;
+
 import static org.junit.Assert.*;
 
 public class ScoreViewModelTest {
@@ -117,4 +122,67 @@ public class ScoreViewModelTest {
         model.getScores().setScore(null, 111);
         assertEquals(0, sVModel.getScores().size());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void updateOnlyWhenChanged() {
+        model.getScores().setScore("bob", 5);
+        model.getScores().setScore("carol", 30);
+        sVModel.update();
+
+        List<String> changes = new ArrayList<>();
+        sVModel.getScores().addListener(
+                (ListChangeListener<String>) change -> {
+                    while (change.next()) {
+                        changes.add(change.getAddedSubList()
+                                + "-" + change.getRemoved());
+                    }
+                });
+        sVModel.getCurrentScoreProperty().addListener(
+                (observable, was, now) -> changes.add(now));
+
+        sVModel.update();
+        assertEquals(List.of(), changes);
+
+        model.getScores().setScore("alice", 10);
+        model.getScores().increaseScore(10);
+        sVModel.update();
+        assertEquals(List.of("Score: 10", "[alice : 10]-[]"), changes);
+
+        changes.clear();
+        sVModel.switchScoreOrder();
+        sVModel.update();
+        assertEquals(model.getScores().getEntriesByScore(),
+                sVModel.getScores());
+
+        changes.clear();
+        model.getScores().setScore("bob", 50);
+        sVModel.update();
+        assertEquals(List.of("[]-[bob : 5]", "[bob : 50]-[]"), changes);
+        assertEquals(model.getScores().getEntriesByScore(),
+                sVModel.getScores());
+    }
+
+    @Test
+    public void reorderReplacesTheList() {
+        for (int i = 0; i < 20; i++) {
+            model.getScores().setScore("p" + (char) ('a' + i), 100 - i * 3);
+        }
+        model.getScores().setScore("pz", 1000);
+        sVModel.update();
+
+        List<String> changes = new ArrayList<>();
+        sVModel.getScores().addListener(
+                (ListChangeListener<String>) change -> {
+                    while (change.next()) {
+                        changes.add(change.getAddedSize()
+                                + "-" + change.getRemovedSize());
+                    }
+                });
+
+        sVModel.switchScoreOrder();
+        sVModel.update();
+        assertEquals(List.of("21-21"), changes);
+        assertEquals(model.getScores().getEntriesByScore(),
+                sVModel.getScores());
+    }
+}
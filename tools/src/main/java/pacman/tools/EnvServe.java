@@ -0,0 +1,61 @@
+package pacman.tools;
+
+import pacman.env.EnvServer;
+import pacman.env.VectorEnv;
+import pacman.game.GameReader;
+import pacman.game.PacmanGame;
+import pacman.util.UnpackableException;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Serves copies of a map as a {@link VectorEnv} on a loopback port, for
+ * training agents in another process. See {@link EnvServer} for the
+ * protocol.
+ *
+ * Arguments: [MAP FILENAME] [ENVS] [PORT] [MAX STEPS]
+ */
+public class EnvServe {
+
+    // most steps in one request when not given
+    private static final int DEFAULT_MAX_STEPS = 64;
+
+    /**
+     * Loads the map once per environment and serves them until killed.
+     * @param args from the command line.
+     * @throws IOException when unable to read the map or bind the port.
+     * @throws UnpackableException when the map is invalid.
+     * @throws InterruptedException if interrupted while serving.
+     */
+    public static void main(String... args) throws IOException,
+            UnpackableException, InterruptedException {
+        if (args.length < 3 || args.length > 4) {
+            System.out.println(
+                    "Usage: [MAP FILENAME] [ENVS] [PORT] [MAX STEPS]");
+            System.exit(1);
+        }
+        var map = Files.readString(Paths.get(args[0]));
+        int envs = Integer.parseInt(args[1]);
+        int port = Integer.parseInt(args[2]);
+        int maxSteps = args.length > 3 ? Integer.parseInt(args[3])
+                : DEFAULT_MAX_STEPS;
+
+        List<PacmanGame> games = new ArrayList<>();
+        for (int i = 0; i < envs; i++) {
+            games.add(GameReader.read(new StringReader(map)));
+        }
+
+        var server = new EnvServer(new VectorEnv(games), maxSteps);
+        var address = server.start(new InetSocketAddress(
+                InetAddress.getLoopbackAddress(), port));
+        System.out.println("serving " + envs + " envs on " + address);
+        Thread.currentThread().join();
+    }
+}
@@ -0,0 +1,118 @@
+package pacman.tools;
+
+import pacman.game.GameReader;
+import pacman.hunter.Autopilot;
+import pacman.hunter.MonteCarloPilot;
+import pacman.metrics.PhaseMetrics;
+import pacman.metrics.TickPhase;
+import pacman.util.UnpackableException;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Runs a game without a display, ticking it as fast as possible, and
+ * prints the state of the game when done. Useful for checking a map
+ * loads and plays, and for timing the simulation on a server. Dots the
+ * hunter cannot reach are walled in and the map's analysis is printed,
+ * see {@link GameReader#read(Path, boolean)}.
+ *
+ * With --metrics the time spent in each phase of a tick is also printed,
+ * which slows the run down slightly. With --autopilot the hunter is
+ * steered to the nearest dot each tick by an {@link Autopilot} instead of
+ * running in a straight line. With --mcts it is steered by a
+ * {@link MonteCarloPilot} using every core, and the rollouts made per
+ * second per core are printed.
+ *
+ * Arguments: [MAP FILENAME] [TICKS] [--metrics] [--autopilot | --mcts]
+ */
+public class HeadlessRun {
+
+    // ticks made when none are given
+    private static final int DEFAULT_TICKS = 10_000;
+    // rollouts per decision and random ticks per rollout with --mcts
+    private static final int MCTS_ROLLOUTS = 2_000;
+    private static final int MCTS_DEPTH = 20;
+
+    /**
+     * Loads the map, ticks it and prints the outcome.
+     * @param args from the command line.
+     * @throws IOException when unable to read the map.
+     * @throws UnpackableException when the map is invalid.
+     */
+    public static void main(String... args) throws IOException,
+            UnpackableException {
+        if (args.length < 1 || args.length > 4) {
+            System.out.println(
+                    "Usage: [MAP FILENAME] [TICKS] [--metrics] "
+                    + "[--autopilot | --mcts]");
+            System.exit(1);
+        }
+        int ticks = args.length > 1 ? Integer.parseInt(args[1])
+                : DEFAULT_TICKS;
+        List<String> options = Arrays.asList(args)
+                .subList(Math.min(2, args.length), args.length);
+        boolean withMetrics = options.contains("--metrics");
+        boolean withAutopilot = options.contains("--autopilot");
+        boolean withMcts = options.contains("--mcts");
+
+        var map = Path.of(args[0]);
+        var game = GameReader.read(map, true);
+        var metrics = new PhaseMetrics();
+        if (withMetrics) {
+            game.setMetrics(metrics);
+        }
+
+        var autopilot = withAutopilot ? new Autopilot(game) : null;
+        var mcts = withMcts ? new MonteCarloPilot(MCTS_ROLLOUTS, MCTS_DEPTH,
+                Runtime.getRuntime().availableProcessors(), 0) : null;
+
+        long start = System.nanoTime();
+        for (int i = 0; i < ticks; i++) {
+            if (autopilot != null) {
+                autopilot.steer();
+            } else if (mcts != null) {
+                mcts.steer(game);
+            }
+            game.tick();
+        }
+        long elapsed = System.nanoTime() - start;
+
+        System.out.println(game.getTitle() + " by " + game.getAuthor());
+        System.out.println("map: "
+                + GameReader.analyse(map, game.getBoard()));
+        System.out.printf("ticks: %d in %.1f ms (%.0f ticks/s)%n", ticks,
+                elapsed / 1e6, ticks / (elapsed / 1e9));
+        System.out.println("level: " + game.getLevel());
+        System.out.println("lives: " + game.getLives());
+        System.out.println("score: " + game.getScores().getScore());
+        if (autopilot != null) {
+            System.out.println("searches: " + autopilot.getSearches());
+        }
+        if (mcts != null) {
+            System.out.printf("rollouts: %d (%.0f/s per core)%n",
+                    mcts.getRollouts(), mcts.getRolloutsPerSecondPerThread());
+            mcts.close();
+        }
+
+        if (withMetrics) {
+            printMetrics(metrics);
+        }
+    }
+
+    /*
+     * Prints the count, mean and 99th percentile of each tick phase.
+     */
+    private static void printMetrics(PhaseMetrics metrics) {
+        System.out.printf("%-12s %10s %10s %10s%n", "phase", "count",
+                "mean ns", "p99 ns");
+        for (var phase : TickPhase.values()) {
+            long count = metrics.getCount(phase);
+            System.out.printf("%-12s %10d %10d %10d%n", phase, count,
+                    count == 0 ? 0 : metrics.getTotalNanos(phase) / count,
+                    metrics.getHistogram(phase).getPercentile(0.99));
+        }
+    }
+}
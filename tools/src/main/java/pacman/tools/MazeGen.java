@@ -0,0 +1,54 @@
+package pacman.tools;
+
+import pacman.board.MazeGenerator;
+
+import java.io.BufferedWriter;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+
+/**
+ * Writes a maze made by a {@link MazeGenerator} as a map, e.g. to make
+ * boards thousands of cells wide for benchmarks. The same arguments
+ * always write the same map.
+ *
+ * Arguments: [WIDTH] [HEIGHT] [SEED] [OUTPUT FILENAME]
+ * The map is written to standard output when no file is given.
+ */
+public class MazeGen {
+
+    // seed when none is given
+    private static final long DEFAULT_SEED = 0;
+    // characters buffered before writing
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    /**
+     * Writes the maze.
+     * @param args from the command line.
+     * @throws IOException when unable to write the map.
+     */
+    public static void main(String... args) throws IOException {
+        if (args.length < 2 || args.length > 4) {
+            System.out.println("Usage: [WIDTH] [HEIGHT] [SEED] "
+                    + "[OUTPUT FILENAME]");
+            System.exit(1);
+        }
+        int width = Integer.parseInt(args[0]);
+        int height = Integer.parseInt(args[1]);
+        long seed = args.length > 2 ? Long.parseLong(args[2])
+                : DEFAULT_SEED;
+        var maze = new MazeGenerator(width, height, seed);
+
+        long start = System.nanoTime();
+        try (Writer writer = new BufferedWriter(args.length > 3
+                ? new FileWriter(args[3])
+                : new OutputStreamWriter(System.out), BUFFER_SIZE)) {
+            maze.write(writer);
+        }
+        if (args.length > 3) {
+            System.out.printf("wrote %dx%d maze to %s in %.1f s%n", width,
+                    height, args[3], (System.nanoTime() - start) / 1e9);
+        }
+    }
+}
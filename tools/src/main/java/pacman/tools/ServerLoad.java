@@ -0,0 +1,180 @@
+package pacman.tools;
+
+import pacman.game.Command;
+import pacman.game.GameReader;
+import pacman.net.DeltaDecoder;
+import pacman.net.GameServer;
+import pacman.util.UnpackableException;
+
+import java.io.BufferedReader;
+import java.io.FileReader;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hosts a map on a {@link GameServer} and connects many simulated clients
+ * to it over loopback, then prints how long frames took to reach the
+ * clients after each tick and how much was sent.
+ *
+ * Every client decodes every frame it is sent with a {@link DeltaDecoder}
+ * and now and then sends the server a random direction. The clients run
+ * on one thread with non-blocking channels, in the same process as the
+ * server, so on a machine with few cores they slow the server down.
+ *
+ * Arguments: [MAP FILENAME] [CLIENTS] [SECONDS] [TICKS PER SECOND]
+ */
+public class ServerLoad {
+
+    // defaults when not given
+    private static final int DEFAULT_CLIENTS = 10_000;
+    private static final int DEFAULT_SECONDS = 10;
+    private static final int DEFAULT_TICK_RATE = 20;
+    // ticks between keyframes sent to every client
+    private static final int KEYFRAME_INTERVAL = 100;
+    // chance of a client sending a direction after each frame
+    private static final double COMMAND_CHANCE = 0.05;
+
+    /**
+     * Runs the server and clients and prints the results.
+     * @param args from the command line.
+     * @throws IOException when unable to read the map or connect.
+     * @throws UnpackableException when the map is invalid.
+     */
+    public static void main(String... args) throws IOException,
+            UnpackableException {
+        if (args.length < 1 || args.length > 4) {
+            System.out.println("Usage: [MAP FILENAME] [CLIENTS] [SECONDS] "
+                    + "[TICKS PER SECOND]");
+            System.exit(1);
+        }
+        int count = args.length > 1 ? Integer.parseInt(args[1])
+                : DEFAULT_CLIENTS;
+        int seconds = args.length > 2 ? Integer.parseInt(args[2])
+                : DEFAULT_SECONDS;
+        int tickRate = args.length > 3 ? Integer.parseInt(args[3])
+                : DEFAULT_TICK_RATE;
+
+        var game = GameReader.read(
+                new BufferedReader(new FileReader(args[0])));
+        try (var server = new GameServer(game, tickRate, KEYFRAME_INTERVAL);
+                var selector = Selector.open()) {
+            var address = server.start(new InetSocketAddress(
+                    InetAddress.getLoopbackAddress(), 0));
+
+            long start = System.nanoTime();
+            var clients = connect(selector, address, count);
+            System.out.printf("connected %d clients in %.1f s%n",
+                    clients.length,
+                    (System.nanoTime() - start) / 1e9);
+
+            long ticksBefore = server.getTicks();
+            long end = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+            var random = new SplittableRandom(0);
+            long frames = 0;
+            while (System.nanoTime() - end < 0) {
+                selector.select(100);
+                for (var key : selector.selectedKeys()) {
+                    frames += ((SimulatedClient) key.attachment())
+                            .receive(random);
+                }
+                selector.selectedKeys().clear();
+            }
+
+            long ticks = server.getTicks() - ticksBefore;
+            var latencies = server.getLatencies();
+            System.out.printf("ticks: %d (%.1f/s)%n", ticks,
+                    ticks / (double) seconds);
+            System.out.printf("clients: %d, frames decoded: %d%n",
+                    server.getClientCount(), frames);
+            System.out.printf("frames sent: %d, skipped: %d, "
+                    + "mean bytes: %.1f%n", server.getFramesSent(),
+                    server.getFramesSkipped(), server.getBytesSent()
+                    / (double) Math.max(1, server.getFramesSent()));
+            System.out.printf("tick to wire: p50 <= %.2f ms, "
+                    + "p99 <= %.2f ms, p99.9 <= %.2f ms%n",
+                    latencies.getPercentile(0.5) / 1e6,
+                    latencies.getPercentile(0.99) / 1e6,
+                    latencies.getPercentile(0.999) / 1e6);
+        }
+    }
+
+    /*
+     * Connects the given number of clients.
+     */
+    private static SimulatedClient[] connect(Selector selector,
+            InetSocketAddress address, int count) throws IOException {
+        var clients = new SimulatedClient[count];
+        for (int i = 0; i < count; i++) {
+            var channel = SocketChannel.open(address);
+            channel.configureBlocking(false);
+            clients[i] = new SimulatedClient(channel);
+            channel.register(selector, SelectionKey.OP_READ, clients[i]);
+        }
+        return clients;
+    }
+
+    /*
+     * A client that decodes every frame and sometimes sends a direction.
+     */
+    private static final class SimulatedClient {
+        private final SocketChannel channel;
+        private final DeltaDecoder decoder = new DeltaDecoder();
+        // bytes received and not yet decoded
+        private ByteBuffer buffer = ByteBuffer.allocate(1024);
+        // whether the hello has been read
+        private boolean greeted;
+
+        private SimulatedClient(SocketChannel channel) {
+            this.channel = channel;
+        }
+
+        /*
+         * Reads what the server sent, decoding every whole frame. Returns
+         * the number of frames decoded.
+         */
+        private int receive(SplittableRandom random) throws IOException {
+            if (channel.read(buffer) < 0) {
+                channel.close();
+                return 0;
+            }
+            buffer.flip();
+            int frames = 0;
+            if (!greeted && buffer.remaining() >= 3 * Integer.BYTES) {
+                if (buffer.getInt() != GameServer.MAGIC) {
+                    throw new IOException("not a game server");
+                }
+                buffer.position(buffer.position() + 2 * Integer.BYTES);
+                greeted = true;
+            }
+            while (greeted && buffer.remaining() >= Integer.BYTES) {
+                int length = buffer.getInt(buffer.position());
+                if (buffer.remaining() < Integer.BYTES + length) {
+                    break;
+                }
+                var frame = buffer.duplicate().position(
+                        buffer.position() + Integer.BYTES);
+                decoder.apply(frame.limit(frame.position() + length));
+                buffer.position(frame.limit());
+                frames++;
+
+                if (random.nextDouble() < COMMAND_CHANCE) {
+                    channel.write(ByteBuffer.wrap(new byte[] {(byte)
+                            random.nextInt(Command.SPECIAL.ordinal())}));
+                }
+            }
+            buffer.compact();
+            if (!buffer.hasRemaining()) {
+                buffer = ByteBuffer.allocate(2 * buffer.capacity())
+                        .put(buffer.flip());
+            }
+            return frames;
+        }
+    }
+}